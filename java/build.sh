@@ -69,6 +69,14 @@ if [ -f "jre/db2/jcc-12.1.3.0.jar" ]; then
         -Dversion=local -Dpackaging=jar -q
 fi
 
+# SQLite JDBC
+if [ -f "jre/sqlite/sqlite-jdbc-3.6.20.jar" ]; then
+    echo "Installing SQLite JDBC driver..."
+    mvn install:install-file -Dfile=jre/sqlite/sqlite-jdbc-3.6.20.jar \
+        -DgroupId=org.xerial -DartifactId=sqlite-jdbc \
+        -Dversion=local -Dpackaging=jar -q
+fi
+
 echo ""
 echo "Local JDBC drivers installed successfully!"
 echo ""
@@ -0,0 +1,30 @@
+package com.loadtest;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 어댑터 공용 헬퍼 - 트랜잭션마다 호출되는 랜덤 데이터 생성과 랜덤 키 생성
+ *
+ * 워커와 같이 어댑터 하나(Random 하나)를 전체 스레드가 공유한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AdapterHelperBenchmark {
+    private final NullAdapter adapter = new NullAdapter();
+
+    @Benchmark
+    public String generateRandomData() {
+        return adapter.generateRandomData(500);
+    }
+
+    @Benchmark
+    public long getRandomId() {
+        return adapter.getRandomId(1_000_000);
+    }
+}
@@ -0,0 +1,43 @@
+package com.loadtest;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하네스 벤치마크 실행기 - 스레드 수별로 전체 벤치마크를 실행하고 결과를 JSON 하나로 기록
+ *
+ * 사용법: java -jar target/benchmarks.jar [결과파일] [스레드수,...] [벤치마크 정규식]
+ * 기본값: jmh-result.json, 1,8,64,256, 모든 벤치마크
+ * JMH 기본 CLI가 필요하면: java -cp target/benchmarks.jar org.openjdk.jmh.Main -h
+ */
+public class HarnessBenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String resultFile = args.length > 0 ? args[0] : "jmh-result.json";
+        String threadSpec = args.length > 1 ? args[1] : "1,8,64,256";
+        String include = args.length > 2 ? args[2] : "com\\.loadtest\\..*Benchmark";
+
+        List<RunResult> results = new ArrayList<>();
+        for (String token : threadSpec.split(",")) {
+            int threads = Integer.parseInt(token.trim());
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .jvmArgsAppend("-Dlogback.configurationFile=logback-jmh.xml")
+                    .build();
+            results.addAll(new Runner(options).run());
+        }
+
+        // 스레드 수는 결과 항목별 "threads" 필드로 구분
+        ResultFormatFactory.getInstance(ResultFormatType.JSON, resultFile).writeOut(results);
+        System.out.println("Results written to " + resultFile);
+    }
+}
@@ -0,0 +1,82 @@
+package com.loadtest;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PerformanceCounter 핫패스 - 모든 워커가 트랜잭션마다 호출하는 기록 경로와 모니터가 주기마다 호출하는 조회 경로
+ *
+ * 카운터 하나를 전체 스레드가 공유하므로 (-t 1/8/64/256) 스레드 수에 따른 경합 비용이 그대로 드러난다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PerformanceCounterBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Recording {
+        PerformanceCounter counter;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            counter = new PerformanceCounter();
+        }
+    }
+
+    /**
+     * 레이턴시 버퍼가 가득 찬 카운터 (조회 비용은 버퍼 크기에 비례)
+     */
+    @State(Scope.Benchmark)
+    public static class Filled {
+        PerformanceCounter counter;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            counter = new PerformanceCounter();
+            for (int i = 0; i < 10_000; i++) {
+                counter.recordTransaction(1.0 + (i % 100) / 10.0);
+            }
+        }
+    }
+
+    /**
+     * 최근 1초 트랜잭션 윈도우 크기별 카운터 (측정 구간이 1초 미만이어야 윈도우가 유지됨)
+     */
+    @State(Scope.Benchmark)
+    public static class Window {
+        @Param({"100", "1000", "10000"})
+        int recentTransactions;
+
+        PerformanceCounter counter;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            counter = new PerformanceCounter();
+            for (int i = 0; i < recentTransactions; i++) {
+                counter.recordTransaction(1.0);
+            }
+        }
+    }
+
+    @Benchmark
+    public void recordTransaction(Recording state) {
+        state.counter.recordTransaction(0.5 + ThreadLocalRandom.current().nextDouble(10.0));
+    }
+
+    @Benchmark
+    public Map<String, Double> getLatencyStats(Filled state) {
+        return state.counter.getLatencyStats();
+    }
+
+    @Benchmark
+    @Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+    public double getSubSecondTps(Window state) {
+        return state.counter.getSubSecondTps();
+    }
+}
@@ -0,0 +1,28 @@
+package com.loadtest;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimiter.acquire 오버헤드 - 목표 TPS를 충분히 크게 잡아 대기 없이 락 + 토큰 리필 비용만 측정
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+    private RateLimiter limiter;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        limiter = new RateLimiter(1_000_000_000);
+    }
+
+    @Benchmark
+    public boolean acquire() {
+        return limiter.acquire(500);
+    }
+}
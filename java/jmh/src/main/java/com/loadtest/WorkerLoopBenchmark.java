@@ -0,0 +1,72 @@
+package com.loadtest;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 워커 루프 전체 (커넥션 검증 → 구문 → 커밋 → 카운터 기록) - null 어댑터 + HikariCP 기준
+ *
+ * 호출 1회가 워커 1개를 SLICE_MS 동안 실행하며, 처리한 트랜잭션 수를 보조 카운터 transactions로 보고한다
+ * (결과의 transactions 지표가 하네스 처리량 상한, 단위 ops/s).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkerLoopBenchmark {
+    private static final long SLICE_MS = 100;
+
+    @State(Scope.Benchmark)
+    public static class Harness {
+        @Param({"full", "mixed"})
+        String mode;
+
+        NullAdapter adapter;
+        PerformanceCounter perfCounter;
+        ReconnectCoordinator reconnectCoordinator;
+        final AtomicBoolean shutdownRequested = new AtomicBoolean(false);
+        final AtomicInteger workerIds = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            DatabaseConfig config = DatabaseConfig.builder()
+                    .dbType("null")
+                    .minPoolSize(1)
+                    .maxPoolSize(512)
+                    .build();
+            adapter = new NullAdapter();
+            adapter.createConnectionPool(config);
+            perfCounter = new PerformanceCounter();
+            reconnectCoordinator = new ReconnectCoordinator(perfCounter, 512, 5, 100, 5000);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            adapter.closePool();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Transactions {
+        public long transactions;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            transactions = 0;
+        }
+    }
+
+    @Benchmark
+    public void workerSlice(Harness harness, Transactions counter) {
+        LoadTestWorker worker = new LoadTestWorker(harness.workerIds.incrementAndGet(), harness.adapter,
+                Instant.now().plusMillis(SLICE_MS), WorkMode.fromString(harness.mode), NullAdapter.INITIAL_ROWS, 1,
+                null, harness.perfCounter, harness.reconnectCoordinator, harness.shutdownRequested);
+        counter.transactions += worker.call();
+    }
+}
@@ -1,29 +1,144 @@
 package com.loadtest;
 
 import com.zaxxer.hikari.HikariConfig;
-import com.zaxxer.hikari.HikariDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * 데이터베이스 어댑터 추상 클래스 - HikariCP 기반
+ * 데이터베이스 어댑터 추상 클래스 - 커넥션 풀은 ConnectionPool SPI (기본 HikariCP)
  */
 public abstract class AbstractDatabaseAdapter implements DatabaseAdapter {
     protected final Logger logger = LoggerFactory.getLogger(getClass());
-    protected HikariDataSource dataSource;
+    protected ConnectionPool pool;
+    protected EndpointManager endpointManager;  // 다중 엔드포인트 모드에서만 사용
+    protected EndpointManager readManager;      // 읽기/쓰기 분리 모드에서만 사용
     protected final Random random = new Random();
+    protected String commitProfile = DatabaseConfig.DEFAULT_COMMIT_PROFILE;
+    protected Map<String, String> driverProperties = new LinkedHashMap<>();
+    private HikariConfig physicalConfig;            // 물리 접속용 설정 (primary 또는 첫 번째 엔드포인트)
+    private volatile ConnectionPool physicalConnector;
+    private final Set<Connection> leased = ConcurrentHashMap.newKeySet();  // 대여 중 커넥션 (강제 종료 대상)
+    private final AtomicLong evictionEpoch = new AtomicLong();
 
     @Override
     public void createConnectionPool(DatabaseConfig config) {
+        String profile = config.getCommitProfile();
+        if (!getCommitProfiles().contains(profile)) {
+            throw new IllegalArgumentException("Unsupported commit profile for " + config.getDbType()
+                    + ": " + profile + " (supported: " + String.join(", ", getCommitProfiles()) + ")");
+        }
+        this.commitProfile = profile;
+        if (!DatabaseConfig.DEFAULT_COMMIT_PROFILE.equals(profile)) {
+            logger.info("Commit profile: {} ({})", profile, describeCommitProfile(profile));
+        }
+
+        this.driverProperties = resolveDriverProperties(config.getDriverProfile());
+        logger.info("Driver profile: {} ({} properties)", config.getDriverProfile(), driverProperties.size());
+        driverProperties.forEach((key, value) -> logger.info("  - {}={}", key, value));
+
+        if (config.isReadSplit()) {
+            createReadPools(config);
+        }
+        if (config.isMultiEndpoint()) {
+            createEndpointPools(config);
+            return;
+        }
+
         String jdbcUrl = buildJdbcUrl(config);
+        HikariConfig hikariConfig = buildHikariConfig(config, jdbcUrl,
+                "HikariPool-" + config.getDbType().toUpperCase());
+
+        logger.info("Initializing {} connection pool", config.getPoolType().getValue());
+        logger.info("  - JDBC URL: {}", jdbcUrl);
+        logPoolSettings(config);
+
+        this.pool = ConnectionPool.create(config.getPoolType(), hikariConfig);
+        this.physicalConfig = hikariConfig;
+
+        logger.info("Connection pool initialized successfully");
+    }
+
+    /**
+     * 엔드포인트별 커넥션 풀 생성 (다중 노드 모드)
+     */
+    private void createEndpointPools(DatabaseConfig config) {
+        logger.info("Initializing {} connection pools for {} endpoints (strategy: {})",
+                config.getPoolType().getValue(), config.getEndpoints().size(), config.getEndpointStrategy().getValue());
+        logPoolSettings(config);
 
+        List<EndpointPool> pools = new ArrayList<>();
+        for (Endpoint endpoint : config.getEndpoints()) {
+            DatabaseConfig nodeConfig = config.forEndpoint(endpoint);
+            String jdbcUrl = buildJdbcUrl(nodeConfig);
+            HikariConfig hikariConfig = buildHikariConfig(nodeConfig, jdbcUrl,
+                    "HikariPool-" + config.getDbType().toUpperCase() + "-" + endpoint.getName());
+            // 기동 시점에 내려가 있는 standby 노드도 풀 생성 허용
+            hikariConfig.setInitializationFailTimeout(-1);
+
+            logger.info("  - Endpoint {}: {}", endpoint.getName(), jdbcUrl);
+            if (physicalConfig == null) {
+                physicalConfig = hikariConfig;
+            }
+            pools.add(new EndpointPool(endpoint, jdbcUrl,
+                    ConnectionPool.create(config.getPoolType(), hikariConfig)));
+        }
+
+        this.endpointManager = new EndpointManager("primary", pools, config.getEndpointStrategy());
+        logger.info("Endpoint pools initialized successfully");
+    }
+
+    /**
+     * 읽기 전용 standby 풀 생성 (읽기/쓰기 분리 모드)
+     */
+    private void createReadPools(DatabaseConfig config) {
+        logger.info("Initializing {} read pools for {} standby endpoints (strategy: {})",
+                config.getPoolType().getValue(), config.getReadEndpoints().size(), config.getReadEndpointStrategy().getValue());
+
+        List<EndpointPool> pools = new ArrayList<>();
+        for (Endpoint endpoint : config.getReadEndpoints()) {
+            DatabaseConfig nodeConfig = config.forEndpoint(endpoint);
+            String jdbcUrl = buildJdbcUrl(nodeConfig);
+            HikariConfig hikariConfig = buildHikariConfig(nodeConfig, jdbcUrl,
+                    "HikariPool-" + config.getDbType().toUpperCase() + "-READ-" + endpoint.getName());
+            hikariConfig.setInitializationFailTimeout(-1);
+            // standby에서 긴 트랜잭션(스냅샷 유지)을 만들지 않도록 autoCommit + readOnly
+            hikariConfig.setAutoCommit(true);
+            hikariConfig.setReadOnly(true);
+
+            logger.info("  - Read endpoint {}: {}", endpoint.getName(), jdbcUrl);
+            pools.add(new EndpointPool(endpoint, jdbcUrl,
+                    ConnectionPool.create(config.getPoolType(), hikariConfig)));
+        }
+
+        this.readManager = new EndpointManager("read", pools, config.getReadEndpointStrategy());
+    }
+
+    /**
+     * 공통 HikariCP 설정 생성
+     */
+    protected HikariConfig buildHikariConfig(DatabaseConfig config, String jdbcUrl, String poolName) {
         HikariConfig hikariConfig = new HikariConfig();
         hikariConfig.setJdbcUrl(jdbcUrl);
         hikariConfig.setUsername(config.getUser());
@@ -50,26 +165,91 @@ public abstract class AbstractDatabaseAdapter implements DatabaseAdapter {
         hikariConfig.setConnectionTestQuery(getValidationQuery());
 
         // 풀 이름 설정
-        hikariConfig.setPoolName("HikariPool-" + config.getDbType().toUpperCase());
+        hikariConfig.setPoolName(poolName);
 
         // AutoCommit 비활성화 (수동 트랜잭션 관리)
         hikariConfig.setAutoCommit(false);
 
-        // 추가 데이터베이스별 설정
+        // 커밋 프로필 세션 설정 (풀 커넥션 생성 시 1회 실행)
+        String profileSql = getCommitProfileSql().get(config.getCommitProfile());
+        if (profileSql != null && !profileSql.isEmpty()) {
+            hikariConfig.setConnectionInitSql(profileSql);
+        }
+
+        // 드라이버 속성 프로필 + 추가 데이터베이스별 설정
+        driverProperties.forEach(hikariConfig::addDataSourceProperty);
         configureDataSourceProperties(hikariConfig, config);
+        return hikariConfig;
+    }
 
-        logger.info("Initializing HikariCP connection pool");
-        logger.info("  - JDBC URL: {}", jdbcUrl);
+    /**
+     * 드라이버 속성 프로필 해석
+     * default = 드라이버 기본값 (추가 속성 없음), tuned = 어댑터별 튜닝 속성, 그 외 = .properties 파일 경로
+     */
+    private Map<String, String> resolveDriverProperties(String profile) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        if (profile == null || DatabaseConfig.DEFAULT_DRIVER_PROFILE.equals(profile)) {
+            return properties;
+        }
+        if (DatabaseConfig.TUNED_DRIVER_PROFILE.equals(profile)) {
+            properties.putAll(getTunedDriverProperties());
+            return properties;
+        }
+
+        Properties file = new Properties();
+        try (Reader reader = Files.newBufferedReader(Path.of(profile))) {
+            file.load(reader);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read driver profile file: " + profile, e);
+        }
+        // 파일 내 순서는 보존되지 않으므로 키 순으로 정렬하여 기록
+        new TreeMap<>(file).forEach((key, value) -> properties.put(key.toString(), value.toString().trim()));
+        return properties;
+    }
+
+    /**
+     * tuned 프로필 드라이버 속성 (서브클래스에서 정의)
+     */
+    protected Map<String, String> getTunedDriverProperties() {
+        return Map.of();
+    }
+
+    @Override
+    public Map<String, String> getDriverProperties() {
+        return driverProperties;
+    }
+
+    /**
+     * 커밋 프로필별 세션 초기화 SQL (서브클래스에서 정의, 빈 문자열 = 세션 설정 없이 commit()에서 처리)
+     * 반환 Map의 순서가 도움말/에러 메시지의 표시 순서
+     */
+    protected Map<String, String> getCommitProfileSql() {
+        return Map.of();
+    }
+
+    @Override
+    public List<String> getCommitProfiles() {
+        List<String> profiles = new ArrayList<>();
+        profiles.add(DatabaseConfig.DEFAULT_COMMIT_PROFILE);
+        profiles.addAll(getCommitProfileSql().keySet());
+        return profiles;
+    }
+
+    /**
+     * 로그/결과 기록용 프로필 설명
+     */
+    protected String describeCommitProfile(String profile) {
+        String sql = getCommitProfileSql().get(profile);
+        return sql == null || sql.isEmpty() ? "applied at commit" : sql;
+    }
+
+    private void logPoolSettings(DatabaseConfig config) {
         logger.info("  - Min Pool Size: {}", config.getMinPoolSize());
         logger.info("  - Max Pool Size: {}", config.getMaxPoolSize());
         logger.info("  - Max Lifetime: {}s", config.getMaxLifetimeSeconds());
         logger.info("  - Idle Timeout: {}s", config.getIdleTimeoutSeconds());
         logger.info("  - Keepalive Time: {}s", config.getKeepaliveTimeSeconds());
         logger.info("  - Leak Detection Threshold: {}s", config.getLeakDetectionThresholdSeconds());
-
-        this.dataSource = new HikariDataSource(hikariConfig);
-
-        logger.info("HikariCP connection pool initialized successfully");
     }
 
     /**
@@ -88,12 +268,67 @@ public abstract class AbstractDatabaseAdapter implements DatabaseAdapter {
 
     @Override
     public Connection getConnection() throws SQLException {
-        return dataSource.getConnection();
+        Connection conn = endpointManager != null ? endpointManager.getConnection() : pool.getConnection();
+        leased.add(conn);
+        return conn;
+    }
+
+    /**
+     * 풀을 거치지 않는 물리 커넥션 - 풀과 같은 URL/드라이버 속성/세션 초기화 SQL 사용
+     */
+    @Override
+    public Connection openPhysicalConnection() throws SQLException {
+        ConnectionPool connector = physicalConnector;
+        if (connector == null) {
+            synchronized (this) {
+                if (physicalConnector == null) {
+                    if (physicalConfig == null) {
+                        throw new SQLException("Connection pool is not initialized");
+                    }
+                    physicalConnector = new DirectConnectionPool(physicalConfig);
+                }
+                connector = physicalConnector;
+            }
+        }
+        return connector.getConnection();
+    }
+
+    @Override
+    public void executePing(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(getValidationQuery())) {
+            PhaseTimer.markFetchStart();
+            while (rs.next()) {
+                // 결과 소비
+            }
+        }
+    }
+
+    @Override
+    public Connection getReadConnection() throws SQLException {
+        if (readManager != null) {
+            Connection conn = readManager.getConnection();
+            leased.add(conn);
+            return conn;
+        }
+        return getConnection();
+    }
+
+    @Override
+    public boolean hasReadPool() {
+        return readManager != null;
     }
 
     @Override
     public void releaseConnection(Connection connection, boolean isError) {
         if (connection == null) return;
+        leased.remove(connection);
+        if (endpointManager != null) {
+            endpointManager.release(connection);
+        }
+        if (readManager != null) {
+            readManager.release(connection);
+        }
         try {
             if (isError) {
                 try {
@@ -109,27 +344,116 @@ public abstract class AbstractDatabaseAdapter implements DatabaseAdapter {
         }
     }
 
+    @Override
+    public void softEvictConnections() {
+        evictionEpoch.incrementAndGet();
+        if (pool != null) {
+            pool.softEvictConnections();
+        }
+        if (endpointManager != null) {
+            endpointManager.getPools().forEach(endpointPool -> endpointPool.getPool().softEvictConnections());
+        }
+        if (readManager != null) {
+            readManager.getPools().forEach(endpointPool -> endpointPool.getPool().softEvictConnections());
+        }
+    }
+
+    @Override
+    public long getEvictionEpoch() {
+        return evictionEpoch.get();
+    }
+
+    /**
+     * 대여 중 커넥션의 물리 연결을 abort - 워커는 다음 구문에서 단절 에러를 받고 풀은 해당 커넥션을 폐기한다
+     * (DBA의 세션 kill, 방화벽 idle 끊김과 유사)
+     */
+    @Override
+    public int forceCloseConnections(int count) {
+        List<Connection> candidates = new ArrayList<>(leased);
+        Collections.shuffle(candidates, random);
+        int closed = 0;
+        for (Connection conn : candidates) {
+            if (closed >= count) break;
+            try {
+                if (conn.isClosed()) {
+                    leased.remove(conn);  // releaseConnection 없이 닫힌 커넥션 (try-with-resources)
+                    continue;
+                }
+                Connection physical = conn.unwrap(Connection.class);
+                try {
+                    physical.abort(Runnable::run);
+                } catch (SQLException | RuntimeException | AbstractMethodError e) {
+                    physical.close();  // abort 미지원 드라이버
+                }
+                closed++;
+            } catch (SQLException e) {
+                logger.debug("Force close failed: {}", e.getMessage());
+            }
+        }
+        return closed;
+    }
+
     @Override
     public void closePool() {
-        if (dataSource != null && !dataSource.isClosed()) {
-            logger.info("Closing HikariCP connection pool...");
-            dataSource.close();
+        if (readManager != null) {
+            logger.info("Closing read pools...");
+            readManager.close();
+            readManager = null;
+        }
+        if (endpointManager != null) {
+            logger.info("Closing endpoint pools...");
+            endpointManager.close();
+            endpointManager = null;
+            logger.info("Endpoint pools closed");
+        }
+        if (physicalConnector != null) {
+            physicalConnector.close();
+            physicalConnector = null;
+        }
+        if (pool != null && !pool.isClosed()) {
+            logger.info("Closing {} connection pool...", pool.getType().getValue());
+            pool.close();
             logger.info("Connection pool closed");
         }
     }
 
     @Override
     public Map<String, Object> getPoolStats() {
-        Map<String, Object> stats = new HashMap<>();
-        if (dataSource != null) {
-            stats.put("poolTotal", dataSource.getHikariPoolMXBean().getTotalConnections());
-            stats.put("poolActive", dataSource.getHikariPoolMXBean().getActiveConnections());
-            stats.put("poolIdle", dataSource.getHikariPoolMXBean().getIdleConnections());
-            stats.put("poolPending", dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection());
+        if (endpointManager != null) {
+            return endpointManager.getPoolStats();
+        }
+        if (pool != null) {
+            return pool.getPoolStats();
+        }
+        return new HashMap<>();
+    }
+
+    @Override
+    public void recordTransactionResult(Connection conn, double latencyMs, boolean success) {
+        if (endpointManager != null) {
+            endpointManager.recordResult(conn, latencyMs, success);
         }
+        if (readManager != null) {
+            readManager.recordResult(conn, latencyMs, success);
+        }
+    }
+
+    @Override
+    public List<Map<String, Object>> snapshotEndpointStats() {
+        List<Map<String, Object>> stats = new ArrayList<>();
+        if (endpointManager != null) stats.addAll(endpointManager.snapshotEndpointStats());
+        if (readManager != null) stats.addAll(readManager.snapshotEndpointStats());
         return stats;
     }
 
+    @Override
+    public List<Map<String, Object>> getEndpointSummaries() {
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        if (endpointManager != null) summaries.addAll(endpointManager.getEndpointSummaries());
+        if (readManager != null) summaries.addAll(readManager.getEndpointSummaries());
+        return summaries;
+    }
+
     @Override
     public void commit(Connection conn) throws SQLException {
         conn.commit();
@@ -0,0 +1,28 @@
+package com.loadtest;
+
+/**
+ * 풀 장애 주입 동작
+ */
+public enum ChaosAction {
+    EVICT("evict"),   // softEvictConnections - 유휴 즉시, 워커가 보유한 커넥션은 다음 트랜잭션 전에 반환/교체 (maxLifetime 만료/풀 리셋 재현)
+    KILL("kill");     // 사용 중 커넥션 N개의 물리 연결 강제 종료 (세션 kill 재현)
+
+    private final String value;
+
+    ChaosAction(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static ChaosAction fromString(String text) {
+        for (ChaosAction action : ChaosAction.values()) {
+            if (action.value.equalsIgnoreCase(text)) {
+                return action;
+            }
+        }
+        throw new IllegalArgumentException("Unknown pool chaos action: " + text);
+    }
+}
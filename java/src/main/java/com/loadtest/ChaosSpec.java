@@ -0,0 +1,96 @@
+package com.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 풀 장애 주입 일정 항목 1건
+ */
+public class ChaosSpec {
+    private final double startSeconds;     // 워커 시작 기준 첫 실행 시점
+    private final ChaosAction action;
+    private final int count;               // kill: 종료할 커넥션 수, evict: 미사용
+    private final double intervalSeconds;  // 반복 주기 (0 = 1회)
+
+    public ChaosSpec(double startSeconds, ChaosAction action, int count, double intervalSeconds) {
+        this.startSeconds = startSeconds;
+        this.action = action;
+        this.count = count;
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    /**
+     * 풀 장애 일정 파싱
+     * 형식: start:action[=count][:interval],... 예) 30:evict:60,45:kill=5,90:kill=2:10
+     */
+    public static List<ChaosSpec> parseSchedule(String spec) {
+        List<ChaosSpec> specs = new ArrayList<>();
+        if (spec == null || spec.isBlank()) {
+            return specs;
+        }
+        for (String token : spec.split(",")) {
+            String item = token.trim();
+            if (item.isEmpty()) continue;
+
+            String[] parts = item.split(":");
+            if (parts.length < 2 || parts.length > 3) {
+                throw new IllegalArgumentException("Invalid pool chaos spec (start:action[=count][:interval]): " + token);
+            }
+            try {
+                double start = Double.parseDouble(parts[0]);
+                String actionPart = parts[1];
+                int count = 1;
+                int eq = actionPart.indexOf('=');
+                if (eq > 0) {
+                    count = Integer.parseInt(actionPart.substring(eq + 1));
+                    actionPart = actionPart.substring(0, eq);
+                }
+                ChaosAction action = ChaosAction.fromString(actionPart);
+                if (count <= 0) {
+                    throw new IllegalArgumentException("Pool chaos count must be positive: " + token);
+                }
+                double interval = parts.length == 3 ? Double.parseDouble(parts[2]) : 0;
+                specs.add(new ChaosSpec(start, action, action == ChaosAction.KILL ? count : 0, interval));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number in pool chaos spec: " + token);
+            }
+        }
+        return specs;
+    }
+
+    public double getStartSeconds() {
+        return startSeconds;
+    }
+
+    public ChaosAction getAction() {
+        return action;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getIntervalSeconds() {
+        return intervalSeconds;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("action", action.getValue());
+        if (count > 0) {
+            map.put("count", count);
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(startSeconds).append(':').append(action.getValue());
+        if (count > 0) sb.append('=').append(count);
+        if (intervalSeconds > 0) sb.append(':').append(intervalSeconds);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.loadtest;
+
+import com.zaxxer.hikari.HikariConfig;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 커넥션 풀 SPI - 어댑터와 엔드포인트 풀은 이 인터페이스로만 커넥션을 얻는다
+ *
+ * 풀 설정은 구현과 무관하게 HikariConfig(JDBC URL, 계정, 드라이버 속성, 크기, 타임아웃, 초기화 SQL)로 전달되며,
+ * 모든 구현이 같은 지표(total/active/idle/pending)를 제공하므로 모니터와 결과 출력은 풀 종류와 무관하다.
+ */
+public interface ConnectionPool extends AutoCloseable {
+
+    /**
+     * 설정에 맞는 풀 구현 생성
+     */
+    static ConnectionPool create(PoolType type, HikariConfig config) {
+        return switch (type) {
+            case HIKARI -> new HikariConnectionPool(config);
+            case DIRECT -> new DirectConnectionPool(config);
+            case SIMPLE -> new SimpleConnectionPool(config);
+        };
+    }
+
+    /**
+     * 커넥션 획득 (반환은 Connection.close())
+     */
+    Connection getConnection() throws SQLException;
+
+    PoolType getType();
+
+    int getTotalConnections();
+
+    int getActiveConnections();
+
+    int getIdleConnections();
+
+    int getThreadsAwaitingConnection();
+
+    boolean isClosed();
+
+    /**
+     * 커넥션 일괄 교체 - 유휴 커넥션은 즉시, 사용 중 커넥션은 반환 시 종료
+     * (HikariPoolMXBean.softEvictConnections와 같은 의미, maxLifetime 만료/장애 후 풀 리셋 재현용)
+     */
+    void softEvictConnections();
+
+    @Override
+    void close();
+
+    default Map<String, Object> getPoolStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("poolTotal", getTotalConnections());
+        stats.put("poolActive", getActiveConnections());
+        stats.put("poolIdle", getIdleConnections());
+        stats.put("poolPending", getThreadsAwaitingConnection());
+        return stats;
+    }
+}
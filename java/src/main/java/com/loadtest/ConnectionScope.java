@@ -0,0 +1,28 @@
+package com.loadtest;
+
+/**
+ * 워커의 커넥션 보유 범위
+ */
+public enum ConnectionScope {
+    WORKER("worker"),            // 워커가 커넥션을 계속 보유 (에러 시에만 교체, 기본)
+    TRANSACTION("transaction");  // 트랜잭션마다 풀에서 빌리고 반환 (풀 대여/반환 경로 측정용)
+
+    private final String value;
+
+    ConnectionScope(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static ConnectionScope fromString(String text) {
+        for (ConnectionScope scope : ConnectionScope.values()) {
+            if (scope.value.equalsIgnoreCase(text)) {
+                return scope;
+            }
+        }
+        throw new IllegalArgumentException("Unknown connection scope: " + text);
+    }
+}
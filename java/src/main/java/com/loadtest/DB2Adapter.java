@@ -1,6 +1,8 @@
 package com.loadtest;
 
 import java.sql.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * IBM DB2 JDBC 어댑터 (HikariCP 기반)
@@ -9,10 +11,20 @@ public class DB2Adapter extends AbstractDatabaseAdapter {
 
     @Override
     public String buildJdbcUrl(DatabaseConfig config) {
-        return String.format("jdbc:db2://%s:%d/%s",
+        String url = String.format("jdbc:db2://%s:%d/%s",
                 config.getHost(),
                 config.getDefaultPort(),
                 config.getDatabase());
+        if (config.getSsl() != null) {
+            // SSL 포트는 보통 별도 (SSL_SVCENAME) - --port로 지정
+            url += ":sslConnection=" + config.getSsl() + ";";
+        }
+        return url;
+    }
+
+    @Override
+    public boolean supportsSsl() {
+        return true;
     }
 
     @Override
@@ -20,6 +32,18 @@ public class DB2Adapter extends AbstractDatabaseAdapter {
         return "com.ibm.db2.jcc.DB2Driver";
     }
 
+    @Override
+    protected Map<String, String> getTunedDriverProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        // 왕복당 결과 데이터 블록 크기 (기본 32KB)
+        properties.put("queryDataSize", "65535");
+        // prepare를 첫 실행까지 지연하여 왕복 1회 절약
+        properties.put("deferPrepares", "true");
+        // LOB 외 결과 행을 블록 단위로 미리 수신
+        properties.put("progressiveStreaming", "1");
+        return properties;
+    }
+
     @Override
     protected String getValidationQuery() {
         return "SELECT 1 FROM SYSIBM.SYSDUMMY1";
@@ -75,6 +99,7 @@ public class DB2Adapter extends AbstractDatabaseAdapter {
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setLong(1, recordId);
             try (ResultSet rs = ps.executeQuery()) {
+                PhaseTimer.markFetchStart();
                 if (rs.next()) {
                     return new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3)};
                 }
@@ -90,10 +115,10 @@ public class DB2Adapter extends AbstractDatabaseAdapter {
     }
 
     @Override
-    public boolean executeUpdate(Connection conn, long recordId) throws SQLException {
+    public boolean executeUpdate(Connection conn, long recordId, String value) throws SQLException {
         String sql = "UPDATE LOAD_TEST SET VALUE_COL = ?, UPDATED_AT = CURRENT TIMESTAMP WHERE ID = ?";
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, "UPDATED_" + recordId);
+            ps.setString(1, value);
             ps.setLong(2, recordId);
             return ps.executeUpdate() > 0;
         }
@@ -2,6 +2,7 @@ package com.loadtest;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -19,6 +20,20 @@ public interface DatabaseAdapter {
      */
     Connection getConnection() throws SQLException;
 
+    /**
+     * 읽기 전용 커넥션 획득 (읽기/쓰기 분리 모드에서는 standby 풀, 아니면 primary 풀)
+     */
+    default Connection getReadConnection() throws SQLException {
+        return getConnection();
+    }
+
+    /**
+     * 별도 읽기 풀 사용 여부
+     */
+    default boolean hasReadPool() {
+        return false;
+    }
+
     /**
      * 커넥션 반환 (close)
      */
@@ -34,6 +49,26 @@ public interface DatabaseAdapter {
      */
     Map<String, Object> getPoolStats();
 
+    /**
+     * 트랜잭션 결과를 커넥션이 속한 엔드포인트에 귀속 (다중 엔드포인트 모드)
+     */
+    default void recordTransactionResult(Connection conn, double latencyMs, boolean success) {
+    }
+
+    /**
+     * 엔드포인트별 구간 통계 (모니터 주기마다 1회 호출, 단일 노드면 빈 목록)
+     */
+    default List<Map<String, Object>> snapshotEndpointStats() {
+        return List.of();
+    }
+
+    /**
+     * 엔드포인트별 누적 통계 (최종 리포트용, 단일 노드면 빈 목록)
+     */
+    default List<Map<String, Object>> getEndpointSummaries() {
+        return List.of();
+    }
+
     /**
      * INSERT 실행
      * @return 생성된 레코드 ID
@@ -58,8 +93,9 @@ public interface DatabaseAdapter {
 
     /**
      * UPDATE 실행
+     * @param value 갱신할 value_col 값
      */
-    boolean executeUpdate(Connection conn, long recordId) throws SQLException;
+    boolean executeUpdate(Connection conn, long recordId, String value) throws SQLException;
 
     /**
      * DELETE 실행
@@ -71,6 +107,13 @@ public interface DatabaseAdapter {
      */
     long getMaxId(Connection conn) throws SQLException;
 
+    /**
+     * ID 범위 스캔 SQL (원장 검증용, 파라미터: 시작 ID 이상, 끝 ID 미만 / 결과: id, value_col 순)
+     */
+    default String getRangeScanSql() {
+        return "SELECT id, value_col FROM load_test WHERE id >= ? AND id < ? ORDER BY id";
+    }
+
     /**
      * 랜덤 ID 생성
      */
@@ -81,6 +124,81 @@ public interface DatabaseAdapter {
      */
     void commit(Connection conn) throws SQLException;
 
+    /**
+     * 풀 생성 시 적용된 드라이버 속성 (결과 기록용, 드라이버 기본값이면 비어 있음)
+     */
+    default Map<String, String> getDriverProperties() {
+        return Map.of();
+    }
+
+    /**
+     * 풀을 거치지 않는 물리 커넥션 생성 (접속 폭주 모드 - close() 시 실제 종료)
+     */
+    Connection openPhysicalConnection() throws SQLException;
+
+    /**
+     * 접속 확인용 단일 구문 실행 (검증 쿼리)
+     */
+    void executePing(Connection conn) throws SQLException;
+
+    /**
+     * 커넥션 유효성 검증 (JDBC4 isValid 미지원 드라이버는 오버라이드하여 검증 쿼리로 대체)
+     */
+    default boolean isConnectionValid(Connection conn, int timeoutSeconds) throws SQLException {
+        return conn.isValid(timeoutSeconds);
+    }
+
+    /**
+     * 모든 풀의 커넥션 일괄 교체 (유휴는 즉시, 사용 중은 반환 시 종료 - 풀 장애 주입용)
+     */
+    default void softEvictConnections() {
+    }
+
+    /**
+     * 일괄 교체 세대 - softEvictConnections마다 증가
+     * 워커는 커넥션을 빌릴 때의 세대와 다르면 다음 트랜잭션 전에 반환하고 다시 빌린다 (보유 중 커넥션도 교체되도록)
+     */
+    default long getEvictionEpoch() {
+        return 0;
+    }
+
+    /**
+     * 사용 중인 커넥션 중 임의로 골라 물리 연결을 강제 종료 (풀 장애 주입용)
+     *
+     * @return 실제 종료한 커넥션 수
+     */
+    default int forceCloseConnections(int count) {
+        return 0;
+    }
+
+    /**
+     * 어댑터가 허용하는 최대 풀 크기 (createConnectionPool에서 이보다 큰 값은 잘림)
+     */
+    default int getMaxPoolSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * 호스트/포트 없이 파일이나 내장 드라이버로 동작하는 DB 여부 (결과 출력에서 호스트 생략)
+     */
+    default boolean isEmbedded() {
+        return false;
+    }
+
+    /**
+     * --ssl 옵션 지원 여부
+     */
+    default boolean supportsSsl() {
+        return false;
+    }
+
+    /**
+     * 지원하는 커밋/내구성 프로필 이름 (첫 항목은 항상 default = DB 기본 설정)
+     */
+    default List<String> getCommitProfiles() {
+        return List.of(DatabaseConfig.DEFAULT_COMMIT_PROFILE);
+    }
+
     /**
      * 롤백
      */
@@ -1,5 +1,8 @@
 package com.loadtest;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 데이터베이스 연결 설정
  */
@@ -20,6 +23,19 @@ public class DatabaseConfig {
     private int keepaliveTimeSeconds = 30;  // 유휴 커넥션 검증 주기 (HikariCP 최소값: 30초)
     private int connectionTimeoutMs = 30000;
     private int validationTimeoutMs = 5000;
+    private List<Endpoint> endpoints = new ArrayList<>();  // 다중 노드 (비어 있으면 host/port 단일 노드)
+    private EndpointStrategy endpointStrategy = EndpointStrategy.FAILOVER;
+    private List<Endpoint> readEndpoints = new ArrayList<>();  // 읽기 전용 standby 노드 (비어 있으면 분리 안 함)
+    private EndpointStrategy readEndpointStrategy = EndpointStrategy.ROUND_ROBIN;
+    private String commitProfile = DEFAULT_COMMIT_PROFILE;  // 세션 커밋/내구성 프로필 (어댑터별)
+    private String driverProfile = DEFAULT_DRIVER_PROFILE;  // 드라이버 속성 프로필: default, tuned, 또는 .properties 파일 경로
+    private PoolType poolType = PoolType.HIKARI;  // 커넥션 풀 구현
+    private Boolean ssl;  // SSL/TLS 접속 여부 (null = 어댑터 URL 기본값 유지)
+    private String serviceTime;  // null 어댑터 구문 처리 시간 분포 (ServiceTimeSpec 형식, null = 대기 없음)
+
+    public static final String DEFAULT_COMMIT_PROFILE = "default";
+    public static final String DEFAULT_DRIVER_PROFILE = "default";
+    public static final String TUNED_DRIVER_PROFILE = "tuned";
 
     public DatabaseConfig() {}
 
@@ -35,6 +51,64 @@ public class DatabaseConfig {
         return new Builder();
     }
 
+    /**
+     * 현재 설정을 복사한 Builder 반환 (일부 값만 바꾼 설정 생성용)
+     */
+    public Builder toBuilder() {
+        return builder()
+                .dbType(dbType)
+                .host(host)
+                .port(port)
+                .user(user)
+                .password(password)
+                .database(database)
+                .sid(sid)
+                .minPoolSize(minPoolSize)
+                .maxPoolSize(maxPoolSize)
+                .maxLifetimeSeconds(maxLifetimeSeconds)
+                .leakDetectionThresholdSeconds(leakDetectionThresholdSeconds)
+                .idleCheckIntervalSeconds(idleCheckIntervalSeconds)
+                .idleTimeoutSeconds(idleTimeoutSeconds)
+                .keepaliveTimeSeconds(keepaliveTimeSeconds)
+                .connectionTimeoutMs(connectionTimeoutMs)
+                .validationTimeoutMs(validationTimeoutMs)
+                .endpoints(endpoints)
+                .endpointStrategy(endpointStrategy)
+                .readEndpoints(readEndpoints)
+                .readEndpointStrategy(readEndpointStrategy)
+                .commitProfile(commitProfile)
+                .driverProfile(driverProfile)
+                .poolType(poolType)
+                .ssl(ssl)
+                .serviceTime(serviceTime);
+    }
+
+    /**
+     * 지정 엔드포인트의 host/port로 바꾼 단일 노드 설정 반환
+     */
+    public DatabaseConfig forEndpoint(Endpoint endpoint) {
+        return toBuilder()
+                .host(endpoint.getHost())
+                .port(endpoint.getPort())
+                .endpoints(new ArrayList<>())
+                .readEndpoints(new ArrayList<>())
+                .build();
+    }
+
+    /**
+     * 다중 엔드포인트 모드 여부
+     */
+    public boolean isMultiEndpoint() {
+        return endpoints.size() > 1;
+    }
+
+    /**
+     * 읽기/쓰기 분리 모드 여부
+     */
+    public boolean isReadSplit() {
+        return !readEndpoints.isEmpty();
+    }
+
     public static class Builder {
         private final DatabaseConfig config = new DatabaseConfig();
 
@@ -118,6 +192,51 @@ public class DatabaseConfig {
             return this;
         }
 
+        public Builder endpoints(List<Endpoint> endpoints) {
+            config.endpoints = new ArrayList<>(endpoints);
+            return this;
+        }
+
+        public Builder endpointStrategy(EndpointStrategy endpointStrategy) {
+            config.endpointStrategy = endpointStrategy;
+            return this;
+        }
+
+        public Builder readEndpoints(List<Endpoint> readEndpoints) {
+            config.readEndpoints = new ArrayList<>(readEndpoints);
+            return this;
+        }
+
+        public Builder readEndpointStrategy(EndpointStrategy readEndpointStrategy) {
+            config.readEndpointStrategy = readEndpointStrategy;
+            return this;
+        }
+
+        public Builder commitProfile(String commitProfile) {
+            config.commitProfile = commitProfile;
+            return this;
+        }
+
+        public Builder driverProfile(String driverProfile) {
+            config.driverProfile = driverProfile;
+            return this;
+        }
+
+        public Builder poolType(PoolType poolType) {
+            config.poolType = poolType;
+            return this;
+        }
+
+        public Builder ssl(Boolean ssl) {
+            config.ssl = ssl;
+            return this;
+        }
+
+        public Builder serviceTime(String serviceTime) {
+            config.serviceTime = serviceTime;
+            return this;
+        }
+
         public DatabaseConfig build() {
             return config;
         }
@@ -252,6 +371,78 @@ public class DatabaseConfig {
         this.validationTimeoutMs = validationTimeoutMs;
     }
 
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(List<Endpoint> endpoints) {
+        this.endpoints = new ArrayList<>(endpoints);
+    }
+
+    public EndpointStrategy getEndpointStrategy() {
+        return endpointStrategy;
+    }
+
+    public void setEndpointStrategy(EndpointStrategy endpointStrategy) {
+        this.endpointStrategy = endpointStrategy;
+    }
+
+    public List<Endpoint> getReadEndpoints() {
+        return readEndpoints;
+    }
+
+    public void setReadEndpoints(List<Endpoint> readEndpoints) {
+        this.readEndpoints = new ArrayList<>(readEndpoints);
+    }
+
+    public EndpointStrategy getReadEndpointStrategy() {
+        return readEndpointStrategy;
+    }
+
+    public void setReadEndpointStrategy(EndpointStrategy readEndpointStrategy) {
+        this.readEndpointStrategy = readEndpointStrategy;
+    }
+
+    public String getCommitProfile() {
+        return commitProfile;
+    }
+
+    public void setCommitProfile(String commitProfile) {
+        this.commitProfile = commitProfile;
+    }
+
+    public String getDriverProfile() {
+        return driverProfile;
+    }
+
+    public void setDriverProfile(String driverProfile) {
+        this.driverProfile = driverProfile;
+    }
+
+    public PoolType getPoolType() {
+        return poolType;
+    }
+
+    public void setPoolType(PoolType poolType) {
+        this.poolType = poolType;
+    }
+
+    public Boolean getSsl() {
+        return ssl;
+    }
+
+    public void setSsl(Boolean ssl) {
+        this.ssl = ssl;
+    }
+
+    public String getServiceTime() {
+        return serviceTime;
+    }
+
+    public void setServiceTime(String serviceTime) {
+        this.serviceTime = serviceTime;
+    }
+
     public int getDefaultPort() {
         if (port > 0) return port;
         return switch (dbType.toLowerCase()) {
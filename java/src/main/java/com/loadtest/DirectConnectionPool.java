@@ -0,0 +1,82 @@
+package com.loadtest;
+
+import com.zaxxer.hikari.HikariConfig;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 풀 없음 - 획득마다 DriverManager로 물리 커넥션을 열고 반환 시 닫는다
+ * 풀 오버헤드를 제거한 기준선, 또는 커넥션 생성 비용 자체를 측정할 때 사용
+ */
+public class DirectConnectionPool extends DriverConnectionPool {
+    private final AtomicInteger open = new AtomicInteger();
+    private final AtomicInteger connecting = new AtomicInteger();
+    private volatile boolean closed = false;
+
+    public DirectConnectionPool(HikariConfig config) {
+        super(config);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Pool is closed", "08003");
+        }
+        connecting.incrementAndGet();
+        try {
+            Connection physical = openPhysical();
+            open.incrementAndGet();
+            return wrap(physical, System.nanoTime());
+        } finally {
+            connecting.decrementAndGet();
+        }
+    }
+
+    @Override
+    protected void onReturn(Connection physical, long createdNanos, boolean broken) {
+        open.decrementAndGet();
+        closeQuietly(physical);
+    }
+
+    @Override
+    public PoolType getType() {
+        return PoolType.DIRECT;
+    }
+
+    @Override
+    public int getTotalConnections() {
+        return open.get();
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return open.get();
+    }
+
+    @Override
+    public int getIdleConnections() {
+        return 0;
+    }
+
+    @Override
+    public int getThreadsAwaitingConnection() {
+        return connecting.get();
+    }
+
+    @Override
+    public void softEvictConnections() {
+        // 유휴 커넥션이 없고 사용 중 커넥션은 반환 시 항상 종료됨
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;  // 대여 중 커넥션은 반환 시 닫힘
+    }
+}
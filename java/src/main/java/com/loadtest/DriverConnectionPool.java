@@ -0,0 +1,202 @@
+package com.loadtest;
+
+import com.zaxxer.hikari.HikariConfig;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DriverManager 기반 풀 구현의 공통 부분 - 물리 커넥션 생성과 반환 감지용 프록시
+ */
+abstract class DriverConnectionPool implements ConnectionPool {
+    protected final HikariConfig config;
+    private final Properties connectProperties = new Properties();
+    private final int loginTimeoutSeconds;
+
+    protected DriverConnectionPool(HikariConfig config) {
+        this.config = config;
+        if (config.getDriverClassName() != null) {
+            try {
+                Class.forName(config.getDriverClassName());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("JDBC driver not found: " + config.getDriverClassName(), e);
+            }
+        }
+        connectProperties.putAll(config.getDataSourceProperties());
+        if (config.getUsername() != null) connectProperties.setProperty("user", config.getUsername());
+        if (config.getPassword() != null) connectProperties.setProperty("password", config.getPassword());
+        // HikariCP와 같은 접속 제한 시간 (connectionTimeout + 0.5초, 최소 1초)
+        this.loginTimeoutSeconds = Math.max(1, (int) TimeUnit.MILLISECONDS.toSeconds(500L + config.getConnectionTimeout()));
+    }
+
+    /**
+     * 물리 커넥션 생성 + 세션 초기화 (HikariCP와 같은 순서: 초기화 SQL → autoCommit/readOnly)
+     * 죽은 호스트에서 OS TCP 타임아웃까지 멈추지 않도록 HikariCP처럼 DriverManager 로그인 제한 시간을 적용한다
+     */
+    protected Connection openPhysical() throws SQLException {
+        DriverManager.setLoginTimeout(loginTimeoutSeconds);
+        Connection conn = DriverManager.getConnection(config.getJdbcUrl(), connectProperties);
+        try {
+            if (config.getConnectionInitSql() != null) {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute(config.getConnectionInitSql());
+                }
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            }
+            conn.setAutoCommit(config.isAutoCommit());
+            conn.setReadOnly(config.isReadOnly());
+            return conn;
+        } catch (SQLException e) {
+            closeQuietly(conn);
+            throw e;
+        }
+    }
+
+    protected static void closeQuietly(Connection conn) {
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+            // 종료 에러 무시
+        }
+    }
+
+    /**
+     * 풀 반환(close) 시 호출
+     *
+     * @param createdNanos 물리 커넥션 생성 시각 (wrap에 전달한 값)
+     * @param broken 사용 중 커넥션 단절 계열 에러(SQLState 08xxx 등)가 발생했는지 여부
+     */
+    protected abstract void onReturn(Connection physical, long createdNanos, boolean broken);
+
+    protected Connection wrap(Connection physical, long createdNanos) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new LeaseHandler(physical, createdNanos));
+    }
+
+    /**
+     * 대여 커넥션 프록시 - close()를 가로채 풀로 반환하고, 단절 에러를 기록한다
+     * 커넥션에서 만든 Statement/ResultSet도 프록시로 감싸 구문 실행 중 단절 에러도 반환 시 폐기되게 한다
+     */
+    private class LeaseHandler implements InvocationHandler {
+        private final Connection physical;
+        private final long createdNanos;
+        private volatile boolean closed = false;
+        private volatile boolean broken = false;
+
+        LeaseHandler(Connection physical, long createdNanos) {
+            this.physical = physical;
+            this.createdNanos = createdNanos;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        onReturn(physical, createdNanos, broken);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return closed || physical.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Lease[" + physical + "]";
+                }
+                case "unwrap" -> {
+                    Class<?> iface = (Class<?>) args[0];
+                    if (iface.isInstance(physical)) return physical;
+                }
+                default -> { }
+            }
+            if (closed) {
+                throw new SQLException("Connection is closed", "08003");
+            }
+            return wrapResult(proxy, method, invokeTracked(physical, method, args));
+        }
+
+        /**
+         * 실제 객체 호출 - 단절 계열 에러면 lease를 broken으로 표시
+         */
+        private Object invokeTracked(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sqlException && isFatal(sqlException)) {
+                    broken = true;
+                }
+                throw cause;
+            }
+        }
+
+        private Object wrapResult(Object connectionProxy, Method method, Object result) {
+            Class<?> type = method.getReturnType();
+            if (result == null || !(Statement.class.isAssignableFrom(type) || type == ResultSet.class)) {
+                return result;
+            }
+            return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{type},
+                    new ChildHandler(connectionProxy, result));
+        }
+
+        private boolean isFatal(SQLException e) {
+            String state = e.getSQLState();
+            return state != null && (state.startsWith("08") || state.startsWith("57P"));
+        }
+
+        /**
+         * Statement/ResultSet 프록시 - getConnection()은 대여 프록시를 돌려주고 에러는 lease에 기록
+         */
+        private class ChildHandler implements InvocationHandler {
+            private final Object connectionProxy;
+            private final Object target;
+
+            ChildHandler(Object connectionProxy, Object target) {
+                this.connectionProxy = connectionProxy;
+                this.target = target;
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "getConnection" -> {
+                        return connectionProxy;
+                    }
+                    case "equals" -> {
+                        return proxy == args[0];
+                    }
+                    case "hashCode" -> {
+                        return System.identityHashCode(proxy);
+                    }
+                    case "toString" -> {
+                        return "Lease[" + target + "]";
+                    }
+                    case "unwrap" -> {
+                        Class<?> iface = (Class<?>) args[0];
+                        if (iface.isInstance(target)) return target;
+                    }
+                    default -> { }
+                }
+                return wrapResult(connectionProxy, method, invokeTracked(target, method, args));
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A/B 비교용 드라이버/풀 설정 변형 (변형마다 별도 커넥션 풀 생성)
+ */
+public class DriverVariant {
+    private final String name;
+    private final String driverProfile;
+    private final int maxPoolSize;  // 0 = 기본 설정 사용
+
+    public DriverVariant(String name, String driverProfile, int maxPoolSize) {
+        this.name = name;
+        this.driverProfile = driverProfile;
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    /**
+     * 변형 목록 파싱
+     * 형식: [name=]profile[@maxPoolSize],... (profile: default, tuned, .properties 파일 / 이름 생략 시 A, B, ...)
+     */
+    public static List<DriverVariant> parseList(String spec) {
+        List<DriverVariant> variants = new ArrayList<>();
+        if (spec == null || spec.isBlank()) {
+            return variants;
+        }
+        for (String token : spec.split(",")) {
+            String item = token.trim();
+            if (item.isEmpty()) continue;
+
+            String name = String.valueOf((char) ('A' + variants.size()));
+            int eq = item.indexOf('=');
+            if (eq > 0) {
+                name = item.substring(0, eq).trim();
+                item = item.substring(eq + 1).trim();
+            }
+
+            String profile = item;
+            int maxPoolSize = 0;
+            int at = item.lastIndexOf('@');
+            if (at > 0) {
+                profile = item.substring(0, at);
+                try {
+                    maxPoolSize = Integer.parseInt(item.substring(at + 1));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid variant pool size: " + token);
+                }
+            }
+            variants.add(new DriverVariant(name, profile, maxPoolSize));
+        }
+        return variants;
+    }
+
+    /**
+     * 기본 설정에 변형을 적용한 설정 반환
+     */
+    public DatabaseConfig applyTo(DatabaseConfig base) {
+        DatabaseConfig.Builder builder = base.toBuilder().driverProfile(driverProfile);
+        if (maxPoolSize > 0) {
+            builder.maxPoolSize(maxPoolSize).minPoolSize(Math.min(base.getMinPoolSize(), maxPoolSize));
+        }
+        return builder.build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDriverProfile() {
+        return driverProfile;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    @Override
+    public String toString() {
+        return name + "=" + driverProfile + (maxPoolSize > 0 ? "@" + maxPoolSize : "");
+    }
+}
@@ -0,0 +1,184 @@
+package com.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 커밋 확인(ack)된 쓰기의 append-only 원장 - 메모리 맵 세그먼트 파일 기반 (off-heap)
+ *
+ * 항목 형식: [id: 8 bytes][value 해시: 7 bytes][op: 1 byte], 16바이트 고정 길이.
+ * 항목의 위치(slot 번호)가 곧 전역 순서(version)이며, 같은 ID의 마지막 연산 판정에 사용된다.
+ * slot은 트랜잭션 안에서 쓰기 구문 실행 직후(행 잠금 보유 중, 커밋 전)에 {@link #reserve()}로 할당하므로
+ * 같은 행에 대한 쓰기들의 slot 순서는 DB가 적용한 순서와 같다. 커밋 확인 후 {@link #record}로 채우며,
+ * 커밋되지 않은 slot은 비어 있는 채로 남아 검증 시 무시된다. 커밋이 예외로 끝나 서버 반영 여부를 알 수 없는 쓰기는
+ * 연산에 {@link #IN_DOUBT}를 붙여 기록하며, 검증은 이를 유실/불일치가 아닌 별도 항목으로 집계한다.
+ * 워커는 slot을 getAndIncrement로 할당받아 서로 겹치지 않는 영역에 절대 위치 쓰기만 하므로 락이 없다.
+ */
+public class DurabilityLedger implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(DurabilityLedger.class);
+
+    public static final int OP_INSERT = 1;
+    public static final int OP_UPDATE = 2;
+    public static final int OP_DELETE = 3;
+    public static final int IN_DOUBT = 0x08;  // 연산 플래그: 커밋 결과 불명 (커밋 중 연결 단절 등)
+
+    static final int ENTRY_BYTES = 16;
+    static final int ENTRIES_PER_SEGMENT = 4 * 1024 * 1024;  // 세그먼트당 64MB
+    static final long SEGMENT_BYTES = (long) ENTRIES_PER_SEGMENT * ENTRY_BYTES;
+    private static final int MAX_SEGMENTS = 16 * 1024;       // 최대 1TB (약 687억 건)
+    private static final String SEGMENT_PREFIX = "ledger-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final long HASH_MASK = (1L << 56) - 1;
+
+    private final Path directory;
+    private final AtomicLong nextSlot = new AtomicLong(0);
+    private final AtomicLong nextVersion = new AtomicLong(0);
+    private final AtomicReferenceArray<MappedByteBuffer> segments = new AtomicReferenceArray<>(MAX_SEGMENTS);
+    private volatile boolean closed = false;
+
+    private DurabilityLedger(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 원장 디렉토리 준비 (기존 세그먼트 파일은 삭제)
+     */
+    public static DurabilityLedger create(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        int removed = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path old : stream) {
+                Files.delete(old);
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            logger.info("[Ledger] Removed {} segment files from previous run in {}", removed, directory);
+        }
+        logger.info("[Ledger] Recording acknowledged writes to {}", directory.toAbsolutePath());
+        return new DurabilityLedger(directory);
+    }
+
+    /**
+     * 원장 slot 할당 - 쓰기 구문 실행 후 커밋 전에 호출 (행 잠금이 DB 적용 순서를 보장)
+     *
+     * @return slot 번호, 원장이 닫혔으면 -1
+     */
+    public long reserve() {
+        return closed ? -1 : nextSlot.getAndIncrement();
+    }
+
+    /**
+     * UPDATE 값에 넣을 쓰기별 고유 버전 (같은 ID의 갱신끼리 값이 달라 정확히 대조 가능)
+     */
+    public long nextVersion() {
+        return nextVersion.incrementAndGet();
+    }
+
+    /**
+     * 커밋 확인된 쓰기 기록 (워커 스레드에서 호출, 커밋 반환 직후 - 커밋 예외 시 op에 {@link #IN_DOUBT} 추가)
+     *
+     * @param slot {@link #reserve()}로 할당한 slot
+     * @param value 쓰기 후 value_col 값 (DELETE는 null)
+     */
+    public void record(long slot, long id, int op, String value) {
+        if (closed || slot < 0 || id <= 0) return;
+        int segmentIndex = (int) (slot / ENTRIES_PER_SEGMENT);
+        int offset = (int) (slot % ENTRIES_PER_SEGMENT) * ENTRY_BYTES;
+        MappedByteBuffer segment = segment(segmentIndex);
+        segment.putLong(offset, id);
+        segment.putLong(offset + 8, (valueHash(value) << 8) | (op & 0xFF));
+    }
+
+    /**
+     * value_col 값의 56비트 해시 (FNV-1a, null은 0)
+     */
+    static long valueHash(String value) {
+        if (value == null) return 0;
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash & HASH_MASK;
+    }
+
+    static int opOf(long packed) {
+        return (int) (packed & 0xFF);
+    }
+
+    static long hashOf(long packed) {
+        return packed >>> 8;
+    }
+
+    private MappedByteBuffer segment(int index) {
+        MappedByteBuffer segment = segments.get(index);
+        if (segment != null) {
+            return segment;
+        }
+        synchronized (this) {
+            segment = segments.get(index);
+            if (segment == null) {
+                segment = map(index);
+                segments.set(index, segment);
+            }
+            return segment;
+        }
+    }
+
+    private MappedByteBuffer map(int index) {
+        try (FileChannel channel = FileChannel.open(segmentPath(directory, index),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map ledger segment " + index, e);
+        }
+    }
+
+    static Path segmentPath(Path directory, int index) {
+        return directory.resolve(String.format("%s%05d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * 기록된 항목 수 (close 이후 값이 확정됨)
+     */
+    public long getEntryCount() {
+        return nextSlot.get();
+    }
+
+    public int getSegmentCount() {
+        return (int) ((nextSlot.get() + ENTRIES_PER_SEGMENT - 1) / ENTRIES_PER_SEGMENT);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * 기록 종료 및 디스크 반영 - 워커 종료 후 호출
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        // segment는 처음 기록될 때 매핑되므로, 할당만 되고 기록이 없는 segment 뒤에도 매핑된 segment가 있을 수 있음
+        for (int i = 0; i < MAX_SEGMENTS; i++) {
+            MappedByteBuffer segment = segments.get(i);
+            if (segment == null) continue;
+            segment.force();
+        }
+        logger.info("[Ledger] Closed: {} entries in {} segments",
+                String.format("%,d", getEntryCount()), getSegmentCount());
+    }
+}
@@ -0,0 +1,269 @@
+package com.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 원장 기반 사후 검증 - 커밋 확인된 쓰기가 테이블에 남아 있는지 ID 범위 단위로 병렬 검사
+ *
+ * 1단계: 원장 세그먼트를 순서대로 읽어 ID 범위별 spill 파일로 분배 (slot 순서 유지 → 파일 내 뒤 항목이 최신)
+ * 2단계: 범위마다 상태표(ID당 연산 1바이트 + value 해시 8바이트)를 만들고 해당 범위를 ID 순으로 스캔하여 대조
+ * INSERT/UPDATE는 테이블 값의 해시가 마지막 ack 쓰기의 해시와 정확히 같아야 하므로 lost update도 검출된다.
+ * 마지막 항목이 커밋 결과 불명(in-doubt)인 ID는 반영/미반영 모두 정상이므로 별도로 집계한다.
+ * 힙 사용량은 스레드당 RANGE_WIDTH * 9 바이트로 고정되므로 원장 크기(수억 건)와 무관하다.
+ */
+public class DurabilityVerifier {
+    private static final Logger logger = LoggerFactory.getLogger(DurabilityVerifier.class);
+
+    private static final int RANGE_WIDTH = 1024 * 1024;      // 범위당 ID 수 (상태표 9MB)
+    private static final int SCAN_CHUNK = 100_000;           // 쿼리 1회당 ID 구간 (드라이버 결과셋 메모리 제한)
+    private static final int SAMPLE_LIMIT = 20;
+    private static final byte SEEN = 0x10;
+
+    private final DatabaseAdapter dbAdapter;
+    private final DurabilityLedger ledger;
+    private final int threads;
+
+    private final AtomicLong distinctIds = new AtomicLong();
+    private final AtomicLong verifiedRows = new AtomicLong();
+    private final AtomicLong lostRows = new AtomicLong();
+    private final AtomicLong phantomRows = new AtomicLong();
+    private final AtomicLong staleRows = new AtomicLong();
+    private final AtomicLong unacknowledgedRows = new AtomicLong();
+    private final AtomicLong inDoubtRows = new AtomicLong();
+    private final List<Long> lostSample = new ArrayList<>();
+    private final List<Long> phantomSample = new ArrayList<>();
+    private final List<Long> staleSample = new ArrayList<>();
+
+    public DurabilityVerifier(DatabaseAdapter dbAdapter, DurabilityLedger ledger, int threads) {
+        this.dbAdapter = dbAdapter;
+        this.ledger = ledger;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * 검증 실행 (원장 close 이후, 커넥션 풀 종료 전에 호출)
+     */
+    public Map<String, Object> verify() throws IOException {
+        long startMs = System.currentTimeMillis();
+        Path spillDir = ledger.getDirectory().resolve("verify-tmp");
+        Files.createDirectories(spillDir);
+
+        logger.info("[Verify] Partitioning {} ledger entries by ID range...",
+                String.format("%,d", ledger.getEntryCount()));
+        Map<Long, Path> rangeFiles = partition(spillDir);
+
+        logger.info("[Verify] Scanning {} ID ranges with {} threads...", rangeFiles.size(), threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> new Thread(r, "Verifier"));
+        List<Future<?>> futures = new ArrayList<>();
+        List<String> failedRanges = new ArrayList<>();
+        for (Map.Entry<Long, Path> entry : rangeFiles.entrySet()) {
+            futures.add(executor.submit(() -> {
+                verifyRange(entry.getKey(), entry.getValue());
+                return null;
+            }));
+        }
+        int index = 0;
+        for (Map.Entry<Long, Path> entry : rangeFiles.entrySet()) {
+            try {
+                futures.get(index++).get();
+            } catch (Exception e) {
+                long lo = entry.getKey() * RANGE_WIDTH;
+                failedRanges.add(lo + "-" + (lo + RANGE_WIDTH - 1));
+                logger.info("[Verify] Range starting at {} failed: {}", lo, e.getMessage());
+            }
+        }
+        executor.shutdown();
+
+        for (Path file : rangeFiles.values()) {
+            Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(spillDir);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("ledgerDirectory", ledger.getDirectory().toAbsolutePath().toString());
+        result.put("ledgerEntries", ledger.getEntryCount());
+        result.put("acknowledgedIds", distinctIds.get());
+        result.put("rangesScanned", rangeFiles.size() - failedRanges.size());
+        result.put("failedRanges", failedRanges);
+        result.put("verifiedRows", verifiedRows.get());
+        result.put("lostRows", lostRows.get());
+        result.put("phantomRows", phantomRows.get());
+        result.put("staleRows", staleRows.get());
+        result.put("unacknowledgedRows", unacknowledgedRows.get());
+        result.put("inDoubtRows", inDoubtRows.get());
+        synchronized (this) {
+            result.put("lostSample", new ArrayList<>(lostSample));
+            result.put("phantomSample", new ArrayList<>(phantomSample));
+            result.put("staleSample", new ArrayList<>(staleSample));
+        }
+        result.put("elapsedMs", System.currentTimeMillis() - startMs);
+        return result;
+    }
+
+    /**
+     * 1단계: 원장 → ID 범위별 spill 파일 ([id: 8 bytes][value 해시 + op: 8 bytes])
+     */
+    private Map<Long, Path> partition(Path spillDir) throws IOException {
+        Map<Long, Path> files = new TreeMap<>();
+        Map<Long, DataOutputStream> streams = new TreeMap<>();
+        long remaining = ledger.getEntryCount();
+        try {
+            for (int seg = 0; remaining > 0; seg++) {
+                int entries = (int) Math.min(remaining, DurabilityLedger.ENTRIES_PER_SEGMENT);
+                remaining -= entries;
+                Path segmentFile = DurabilityLedger.segmentPath(ledger.getDirectory(), seg);
+                if (!Files.exists(segmentFile)) continue;  // slot 할당만 되고 기록이 없어 생성되지 않은 segment
+                try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.READ)) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                            (long) entries * DurabilityLedger.ENTRY_BYTES);
+                    for (int i = 0; i < entries; i++) {
+                        long id = buffer.getLong();
+                        long packed = buffer.getLong();
+                        if (id <= 0) continue;  // 할당 후 미기록 slot
+                        long range = id / RANGE_WIDTH;
+                        DataOutputStream out = streams.get(range);
+                        if (out == null) {
+                            Path file = spillDir.resolve("range-" + range + ".bin");
+                            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024));
+                            streams.put(range, out);
+                            files.put(range, file);
+                        }
+                        out.writeLong(id);
+                        out.writeLong(packed);
+                    }
+                }
+            }
+        } finally {
+            for (DataOutputStream out : streams.values()) {
+                out.close();
+            }
+        }
+        return files;
+    }
+
+    /**
+     * 2단계: 범위 하나를 상태표와 테이블 스캔으로 대조
+     */
+    private void verifyRange(long range, Path file) throws IOException, SQLException {
+        long lo = range * RANGE_WIDTH;
+        byte[] state = new byte[RANGE_WIDTH];
+        long[] hashes = new long[RANGE_WIDTH];
+        int minOffset = RANGE_WIDTH;
+        int maxOffset = -1;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024))) {
+            while (true) {
+                long id;
+                try {
+                    id = in.readLong();
+                } catch (EOFException e) {
+                    break;
+                }
+                int offset = (int) (id - lo);
+                long packed = in.readLong();
+                state[offset] = (byte) DurabilityLedger.opOf(packed);  // 뒤 항목이 최신 연산
+                hashes[offset] = DurabilityLedger.hashOf(packed);
+                minOffset = Math.min(minOffset, offset);
+                maxOffset = Math.max(maxOffset, offset);
+            }
+        }
+        if (maxOffset < 0) return;
+
+        Connection conn = dbAdapter.getConnection();
+        boolean error = false;
+        try (PreparedStatement ps = conn.prepareStatement(dbAdapter.getRangeScanSql())) {
+            ps.setFetchSize(1000);
+            for (long from = lo + minOffset; from <= lo + maxOffset; from += SCAN_CHUNK) {
+                ps.setLong(1, from);
+                ps.setLong(2, Math.min(from + SCAN_CHUNK, lo + maxOffset + 1));
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        long id = rs.getLong(1);
+                        checkRow(id, rs.getString(2), state, hashes, (int) (id - lo));
+                    }
+                }
+                if (!conn.getAutoCommit()) {
+                    conn.rollback();
+                }
+            }
+        } catch (SQLException e) {
+            error = true;
+            throw e;
+        } finally {
+            dbAdapter.releaseConnection(conn, error);
+        }
+
+        // 테이블에 없었던 ID: 마지막 연산이 INSERT/UPDATE이면 유실 (in-doubt는 테이블 존재 여부와 무관하게 별도 집계)
+        long acknowledged = 0;
+        for (int offset = minOffset; offset <= maxOffset; offset++) {
+            byte s = state[offset];
+            int op = s & ~SEEN;
+            if (op == 0) continue;  // 원장에 없는 ID (스캔에서만 본 행 포함)
+            if ((op & DurabilityLedger.IN_DOUBT) != 0) {
+                inDoubtRows.incrementAndGet();
+                continue;
+            }
+            acknowledged++;
+            if ((s & SEEN) == 0 && op != DurabilityLedger.OP_DELETE) {
+                lostRows.incrementAndGet();
+                sample(lostSample, lo + offset);
+            }
+        }
+        distinctIds.addAndGet(acknowledged);
+    }
+
+    private void checkRow(long id, String value, byte[] state, long[] hashes, int offset) {
+        byte op = state[offset];
+        state[offset] = (byte) (op | SEEN);
+        if ((op & DurabilityLedger.IN_DOUBT) != 0) {
+            return;  // 커밋 결과 불명 - 범위 검사 후 집계
+        }
+        switch (op) {
+            case 0 -> unacknowledgedRows.incrementAndGet();  // 테스트 이전 행 또는 ack 유실 커밋
+            case DurabilityLedger.OP_DELETE -> {
+                phantomRows.incrementAndGet();
+                sample(phantomSample, id);
+            }
+            default -> {
+                // 마지막 ack 쓰기(INSERT/UPDATE)의 값과 정확히 같아야 함 (다르면 이전 값으로 되돌아간 lost update)
+                if (DurabilityLedger.valueHash(value) == hashes[offset]) {
+                    verifiedRows.incrementAndGet();
+                } else {
+                    staleRows.incrementAndGet();
+                    sample(staleSample, id);
+                }
+            }
+        }
+    }
+
+    private synchronized void sample(List<Long> samples, long id) {
+        if (samples.size() < SAMPLE_LIMIT) {
+            samples.add(id);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 데이터베이스 접속 엔드포인트 (HA 클러스터의 노드 1개)
+ */
+public class Endpoint {
+    private final String name;
+    private final String host;
+    private final int port;
+
+    public Endpoint(String name, String host, int port) {
+        this.name = name;
+        this.host = host;
+        this.port = port;
+    }
+
+    /**
+     * 엔드포인트 목록 파싱
+     * 형식: [name=]host[:port],[name=]host[:port],... (이름 생략 시 node1, node2, ...)
+     */
+    public static List<Endpoint> parseList(String spec, String namePrefix) {
+        List<Endpoint> endpoints = new ArrayList<>();
+        if (spec == null || spec.isBlank()) {
+            return endpoints;
+        }
+        for (String token : spec.split(",")) {
+            String item = token.trim();
+            if (item.isEmpty()) continue;
+
+            String name = namePrefix + (endpoints.size() + 1);
+            int eq = item.indexOf('=');
+            if (eq > 0) {
+                name = item.substring(0, eq).trim();
+                item = item.substring(eq + 1).trim();
+            }
+
+            String host = item;
+            int port = 0;
+            int colon = item.lastIndexOf(':');
+            if (colon > 0) {
+                host = item.substring(0, colon);
+                try {
+                    port = Integer.parseInt(item.substring(colon + 1));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid endpoint port: " + token);
+                }
+            }
+            endpoints.add(new Endpoint(name, host, port));
+        }
+        return endpoints;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getAddress() {
+        return host + (port > 0 ? ":" + port : "");
+    }
+
+    @Override
+    public String toString() {
+        return name + "=" + getAddress();
+    }
+}
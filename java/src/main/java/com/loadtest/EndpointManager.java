@@ -0,0 +1,222 @@
+package com.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다중 엔드포인트 커넥션 관리자 - 전략에 따라 노드를 선택하고 노드별 헬스/통계를 추적
+ *
+ * DOWN 노드는 백그라운드 프로브 스레드 하나만 주기적으로 커넥션 획득을 시도하며, 성공할 때까지 워커는 정상 노드만 사용한다
+ * (죽은 노드의 커넥션 타임아웃을 워커마다 기다리지 않도록). 모든 노드가 DOWN일 때만 워커도 DOWN 노드를 시도한다.
+ */
+public class EndpointManager {
+    private static final Logger logger = LoggerFactory.getLogger(EndpointManager.class);
+    private static final long PROBE_INTERVAL_MS = 1000;  // DOWN 노드 재확인 주기
+    private static final int FAILURE_THRESHOLD = 3;      // 연속 트랜잭션 실패 시 DOWN 처리
+
+    private final String role;
+    private final List<EndpointPool> pools;
+    private final EndpointStrategy strategy;
+    private final AtomicInteger roundRobinCounter = new AtomicInteger(0);
+    // 워커가 사용 중인 커넥션 → 소속 노드 (트랜잭션 결과 귀속용)
+    private final Map<Connection, EndpointPool> leased = new ConcurrentHashMap<>();
+    private final Thread prober;
+    private volatile boolean running = true;
+
+    public EndpointManager(String role, List<EndpointPool> pools, EndpointStrategy strategy) {
+        this.role = role;
+        this.pools = pools;
+        this.strategy = strategy;
+        this.prober = new Thread(this::probeLoop, "EndpointProbe-" + role);
+        prober.setDaemon(true);
+        prober.start();
+    }
+
+    public Connection getConnection() throws SQLException {
+        SQLException lastException = null;
+        for (EndpointPool pool : orderedCandidates()) {
+            try {
+                Connection conn = pool.getPool().getConnection();
+                leased.put(conn, pool);
+                if (pool.markHealthy()) {
+                    logger.info("[Endpoint] {} {} is UP", role, pool.getEndpoint());
+                }
+                return conn;
+            } catch (SQLException e) {
+                lastException = e;
+                if (pool.markUnhealthy(e.getMessage())) {
+                    logger.info("[Endpoint] {} {} is DOWN: {}", role, pool.getEndpoint(), e.getMessage());
+                }
+            }
+        }
+        throw lastException != null ? lastException : new SQLException("No endpoint available (" + role + ")");
+    }
+
+    /**
+     * DOWN 노드 재확인 - 커넥션 획득에 성공하면 UP으로 전환 (워커 대신 이 스레드만 죽은 노드의 타임아웃을 기다림)
+     */
+    private void probeLoop() {
+        while (running) {
+            try {
+                Thread.sleep(PROBE_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            for (EndpointPool pool : pools) {
+                if (!running) return;
+                if (!pool.isDown()) continue;
+                try (Connection conn = pool.getPool().getConnection()) {
+                    if (pool.markHealthy()) {
+                        logger.info("[Endpoint] {} {} is UP (probe)", role, pool.getEndpoint());
+                    }
+                } catch (SQLException e) {
+                    pool.markUnhealthy(e.getMessage());
+                    logger.debug("[Endpoint] Probe of {} {} failed: {}", role, pool.getEndpoint(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 정상 노드를 전략 순서로 먼저, DOWN 노드는 최후 수단으로 뒤에 배치
+     */
+    private List<EndpointPool> orderedCandidates() {
+        long now = System.currentTimeMillis();
+        List<EndpointPool> healthy = new ArrayList<>(pools.size());
+        List<EndpointPool> unhealthy = new ArrayList<>();
+        for (EndpointPool pool : pools) {
+            if (!pool.isDown()) {
+                healthy.add(pool);
+            } else {
+                unhealthy.add(pool);
+            }
+        }
+
+        switch (strategy) {
+            case ROUND_ROBIN -> {
+                if (!healthy.isEmpty()) {
+                    int offset = Math.floorMod(roundRobinCounter.getAndIncrement(), healthy.size());
+                    List<EndpointPool> rotated = new ArrayList<>(healthy.size());
+                    rotated.addAll(healthy.subList(offset, healthy.size()));
+                    rotated.addAll(healthy.subList(0, offset));
+                    healthy = rotated;
+                }
+            }
+            // 샘플이 없는 노드(0ms)가 먼저 선택되어 탐색됨, 오래 선택되지 않은 노드는 감쇠된 점수로 재측정됨
+            case LEAST_LATENCY -> healthy.sort(Comparator.comparingDouble(p -> p.getStats().getRoutingLatencyMs(now)));
+            default -> {
+                // FAILOVER: 목록 순서 유지
+            }
+        }
+
+        healthy.addAll(unhealthy);
+        return healthy;
+    }
+
+    /**
+     * 트랜잭션 결과를 커넥션 소속 노드에 귀속
+     */
+    public void recordResult(Connection conn, double latencyMs, boolean success) {
+        EndpointPool pool = conn != null ? leased.get(conn) : null;
+        if (pool == null) return;
+
+        if (success) {
+            pool.getStats().recordSuccess(latencyMs);
+            if (pool.markHealthy()) {
+                logger.info("[Endpoint] {} {} is UP", role, pool.getEndpoint());
+            }
+        } else {
+            pool.getStats().recordError();
+            if (pool.incrementFailures() >= FAILURE_THRESHOLD
+                    && pool.markUnhealthy("consecutive transaction failures")) {
+                logger.info("[Endpoint] {} {} is DOWN: {} consecutive transaction failures",
+                        role, pool.getEndpoint(), FAILURE_THRESHOLD);
+            }
+        }
+    }
+
+    public void release(Connection conn) {
+        if (conn != null) {
+            leased.remove(conn);
+        }
+    }
+
+    public void close() {
+        running = false;
+        prober.interrupt();
+        for (EndpointPool pool : pools) {
+            pool.getPool().close();
+        }
+        leased.clear();
+    }
+
+    public List<EndpointPool> getPools() {
+        return pools;
+    }
+
+    public EndpointStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * 전체 노드 합산 풀 상태
+     */
+    public Map<String, Object> getPoolStats() {
+        long total = 0, active = 0, idle = 0, pending = 0;
+        for (EndpointPool pool : pools) {
+            Map<String, Object> stats = pool.getPoolStats();
+            total += ((Number) stats.get("poolTotal")).longValue();
+            active += ((Number) stats.get("poolActive")).longValue();
+            idle += ((Number) stats.get("poolIdle")).longValue();
+            pending += ((Number) stats.get("poolPending")).longValue();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("poolTotal", total);
+        stats.put("poolActive", active);
+        stats.put("poolIdle", idle);
+        stats.put("poolPending", pending);
+        return stats;
+    }
+
+    /**
+     * 노드별 구간 통계 (모니터 주기마다 1회 호출)
+     */
+    public List<Map<String, Object>> snapshotEndpointStats() {
+        List<Map<String, Object>> result = new ArrayList<>(pools.size());
+        for (EndpointPool pool : pools) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("name", pool.getEndpoint().getName());
+            stats.put("role", role);
+            stats.put("status", pool.isDown() ? "DOWN" : "UP");
+            stats.putAll(pool.getStats().snapshotInterval());
+            stats.put("poolActive", pool.getPoolStats().get("poolActive"));
+            result.add(stats);
+        }
+        return result;
+    }
+
+    /**
+     * 노드별 누적 통계 (최종 리포트용)
+     */
+    public List<Map<String, Object>> getEndpointSummaries() {
+        List<Map<String, Object>> result = new ArrayList<>(pools.size());
+        for (EndpointPool pool : pools) {
+            Map<String, Object> summary = pool.getStats().getSummary();
+            summary.put("role", role);
+            summary.put("address", pool.getEndpoint().getAddress());
+            summary.put("status", pool.isDown() ? "DOWN" : "UP");
+            result.add(summary);
+        }
+        return result;
+    }
+}
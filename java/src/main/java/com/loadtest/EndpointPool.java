@@ -0,0 +1,79 @@
+package com.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 엔드포인트별 커넥션 풀 + 헬스 상태 + 트래픽 통계
+ */
+public class EndpointPool {
+    private final Endpoint endpoint;
+    private final String jdbcUrl;
+    private final ConnectionPool pool;
+    private final TrafficStats stats;
+    private volatile boolean down = false;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile String lastError;
+
+    public EndpointPool(Endpoint endpoint, String jdbcUrl, ConnectionPool pool) {
+        this.endpoint = endpoint;
+        this.jdbcUrl = jdbcUrl;
+        this.pool = pool;
+        this.stats = new TrafficStats(endpoint.getName());
+    }
+
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    public String getJdbcUrl() {
+        return jdbcUrl;
+    }
+
+    public ConnectionPool getPool() {
+        return pool;
+    }
+
+    public TrafficStats getStats() {
+        return stats;
+    }
+
+    /**
+     * DOWN 여부 - DOWN 노드는 프로브가 커넥션 획득에 성공할 때까지 후보 뒤로 밀림
+     */
+    public boolean isDown() {
+        return down;
+    }
+
+    /**
+     * @return DOWN 상태로 새로 전환된 경우 true
+     */
+    boolean markUnhealthy(String reason) {
+        lastError = reason;
+        boolean transitioned = !down;
+        down = true;
+        return transitioned;
+    }
+
+    /**
+     * @return UP 상태로 새로 전환된 경우 true
+     */
+    boolean markHealthy() {
+        if (consecutiveFailures.get() != 0) consecutiveFailures.set(0);
+        if (!down) return false;
+        down = false;
+        return true;
+    }
+
+    int incrementFailures() {
+        return consecutiveFailures.incrementAndGet();
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Map<String, Object> getPoolStats() {
+        return pool.getPoolStats();
+    }
+}
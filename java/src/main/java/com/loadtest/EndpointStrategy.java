@@ -0,0 +1,29 @@
+package com.loadtest;
+
+/**
+ * 다중 엔드포인트 커넥션 분배 전략
+ */
+public enum EndpointStrategy {
+    FAILOVER("failover"),           // 목록 순서대로 첫 번째 정상 노드 사용 (primary/standby)
+    ROUND_ROBIN("round-robin"),     // 정상 노드에 순환 분배
+    LEAST_LATENCY("least-latency"); // 평균 레이턴시가 가장 낮은 정상 노드 사용
+
+    private final String value;
+
+    EndpointStrategy(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static EndpointStrategy fromString(String text) {
+        for (EndpointStrategy strategy : EndpointStrategy.values()) {
+            if (strategy.value.equalsIgnoreCase(text)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint strategy: " + text);
+    }
+}
@@ -0,0 +1,51 @@
+package com.loadtest;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * SQL 에러 분류 (SQLState + 벤더 에러 코드 기반)
+ */
+public enum ErrorCategory {
+    TRANSIENT("transient"),     // 일시적 상태 (read-only 전환, 리소스 부족, 그룹 복제 충돌 등)
+    CONNECTION("connection"),   // 커넥션 단절/획득 실패 - 재시도 시 커넥션 교체
+    DEADLOCK("deadlock"),       // 데드락 또는 직렬화 실패
+    CONSTRAINT("constraint"),   // 무결성 제약 위반
+    TIMEOUT("timeout"),         // 쿼리/락 대기 타임아웃
+    OTHER("other");             // 분류 불가
+
+    private final String value;
+
+    ErrorCategory(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static ErrorCategory fromString(String text) {
+        for (ErrorCategory category : ErrorCategory.values()) {
+            if (category.value.equalsIgnoreCase(text)) {
+                return category;
+            }
+        }
+        throw new IllegalArgumentException("Unknown error category: " + text);
+    }
+
+    /**
+     * 콤마 구분 목록 파싱 (예: "transient,deadlock,connection")
+     */
+    public static Set<ErrorCategory> parseSet(String spec) {
+        Set<ErrorCategory> categories = EnumSet.noneOf(ErrorCategory.class);
+        if (spec == null || spec.isBlank()) {
+            return categories;
+        }
+        for (String token : spec.split(",")) {
+            if (!token.isBlank()) {
+                categories.add(fromString(token.trim()));
+            }
+        }
+        return categories;
+    }
+}
@@ -0,0 +1,204 @@
+package com.loadtest;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 벤더 인식 SQL 에러 분류기
+ *
+ * 판정 순서: 벤더 에러 코드 → JDBC 예외 타입 → SQLState 클래스 → 메시지 (드라이버/풀 내부 에러).
+ * 원인 체인(getCause, getNextException)도 함께 확인한다.
+ */
+public class ErrorClassifier {
+    private static final int MAX_CHAIN_DEPTH = 5;
+
+    // 벤더 에러 코드 (DB 타입별로 같은 코드가 다른 의미를 가지므로 분리)
+    private static final Map<String, Map<Integer, ErrorCategory>> VENDOR_CODES = Map.of(
+        "oracle", Map.ofEntries(
+            Map.entry(60, ErrorCategory.DEADLOCK),        // ORA-00060 deadlock detected
+            Map.entry(8177, ErrorCategory.DEADLOCK),      // ORA-08177 can't serialize access
+            Map.entry(1, ErrorCategory.CONSTRAINT),       // ORA-00001 unique constraint violated
+            Map.entry(1013, ErrorCategory.TIMEOUT),       // ORA-01013 user requested cancel (query timeout)
+            Map.entry(54, ErrorCategory.TRANSIENT),       // ORA-00054 resource busy
+            Map.entry(1033, ErrorCategory.CONNECTION),    // ORA-01033 initialization or shutdown in progress
+            Map.entry(1034, ErrorCategory.CONNECTION),    // ORA-01034 not available
+            Map.entry(1089, ErrorCategory.CONNECTION),    // ORA-01089 immediate shutdown in progress
+            Map.entry(1092, ErrorCategory.CONNECTION),    // ORA-01092 instance terminated
+            Map.entry(3113, ErrorCategory.CONNECTION),    // ORA-03113 end-of-file on communication channel
+            Map.entry(3114, ErrorCategory.CONNECTION),    // ORA-03114 not connected
+            Map.entry(3135, ErrorCategory.CONNECTION),    // ORA-03135 connection lost contact
+            Map.entry(12514, ErrorCategory.CONNECTION),   // ORA-12514 listener does not know of service
+            Map.entry(12528, ErrorCategory.CONNECTION),   // ORA-12528 all instances blocking
+            Map.entry(12541, ErrorCategory.CONNECTION),   // ORA-12541 no listener
+            Map.entry(17002, ErrorCategory.CONNECTION),   // IO error
+            Map.entry(17008, ErrorCategory.CONNECTION),   // closed connection
+            Map.entry(17410, ErrorCategory.CONNECTION),   // no more data to read from socket
+            Map.entry(25402, ErrorCategory.TRANSIENT),    // ORA-25402 transaction must roll back (TAF)
+            Map.entry(25408, ErrorCategory.TRANSIENT)     // ORA-25408 can not safely replay call
+        ),
+        "mysql", Map.ofEntries(
+            Map.entry(1213, ErrorCategory.DEADLOCK),      // ER_LOCK_DEADLOCK
+            Map.entry(1205, ErrorCategory.TIMEOUT),       // ER_LOCK_WAIT_TIMEOUT
+            Map.entry(3024, ErrorCategory.TIMEOUT),       // ER_QUERY_TIMEOUT (max_execution_time)
+            Map.entry(1062, ErrorCategory.CONSTRAINT),    // ER_DUP_ENTRY
+            Map.entry(1290, ErrorCategory.TRANSIENT),     // ER_OPTION_PREVENTS_STATEMENT (super_read_only, 전환 중)
+            Map.entry(3100, ErrorCategory.TRANSIENT),     // ER_RUN_HOOK_ERROR (GR before_commit 거부)
+            Map.entry(3101, ErrorCategory.TRANSIENT),     // ER_TRANSACTION_ROLLBACK_DURING_COMMIT (GR 인증 충돌)
+            Map.entry(1040, ErrorCategory.TRANSIENT),     // ER_CON_COUNT_ERROR (too many connections)
+            Map.entry(1053, ErrorCategory.CONNECTION),    // ER_SERVER_SHUTDOWN
+            Map.entry(2002, ErrorCategory.CONNECTION),    // CR_CONNECTION_ERROR
+            Map.entry(2003, ErrorCategory.CONNECTION),    // CR_CONN_HOST_ERROR
+            Map.entry(2006, ErrorCategory.CONNECTION),    // CR_SERVER_GONE_ERROR
+            Map.entry(2013, ErrorCategory.CONNECTION)     // CR_SERVER_LOST
+        ),
+        "sqlserver", Map.ofEntries(
+            Map.entry(1205, ErrorCategory.DEADLOCK),      // deadlock victim
+            Map.entry(3960, ErrorCategory.DEADLOCK),      // snapshot isolation update conflict
+            Map.entry(1222, ErrorCategory.TIMEOUT),       // lock request time out
+            Map.entry(2601, ErrorCategory.CONSTRAINT),    // duplicate key (unique index)
+            Map.entry(2627, ErrorCategory.CONSTRAINT),    // unique/primary key constraint
+            Map.entry(547, ErrorCategory.CONSTRAINT),     // foreign key/check constraint
+            Map.entry(976, ErrorCategory.TRANSIENT),      // AG database not accessible
+            Map.entry(983, ErrorCategory.TRANSIENT),      // AG replica role resolving
+            Map.entry(40613, ErrorCategory.TRANSIENT),    // database not currently available
+            Map.entry(40197, ErrorCategory.TRANSIENT),    // service error processing request
+            Map.entry(40501, ErrorCategory.TRANSIENT),    // service is busy
+            Map.entry(4060, ErrorCategory.CONNECTION),    // cannot open database
+            Map.entry(233, ErrorCategory.CONNECTION),     // no process on the other end of the pipe
+            Map.entry(10053, ErrorCategory.CONNECTION),   // transport-level error
+            Map.entry(10054, ErrorCategory.CONNECTION)    // connection forcibly closed
+        ),
+        "db2", Map.ofEntries(
+            Map.entry(-911, ErrorCategory.DEADLOCK),      // deadlock or timeout, rolled back
+            Map.entry(-913, ErrorCategory.DEADLOCK),      // deadlock or timeout, not rolled back
+            Map.entry(-803, ErrorCategory.CONSTRAINT),    // duplicate key
+            Map.entry(-952, ErrorCategory.TIMEOUT),       // processing cancelled (interrupt)
+            Map.entry(-1224, ErrorCategory.CONNECTION),   // database agent terminated
+            Map.entry(-4499, ErrorCategory.CONNECTION),   // fatal communication error
+            Map.entry(-30081, ErrorCategory.CONNECTION),  // communication error
+            Map.entry(-30108, ErrorCategory.CONNECTION),  // client reroute, transaction rolled back
+            Map.entry(-4498, ErrorCategory.TRANSIENT)     // client reroute succeeded, replay required
+        ),
+        "sqlite", Map.ofEntries(
+            Map.entry(5, ErrorCategory.TIMEOUT),          // SQLITE_BUSY (busy timeout 초과)
+            Map.entry(6, ErrorCategory.TIMEOUT),          // SQLITE_LOCKED
+            Map.entry(19, ErrorCategory.CONSTRAINT)       // SQLITE_CONSTRAINT
+        )
+    );
+
+    // SQLState 개별 코드 (클래스 판정보다 우선)
+    private static final Map<String, ErrorCategory> SQLSTATE_CODES = Map.ofEntries(
+        Map.entry("40001", ErrorCategory.DEADLOCK),    // serialization failure
+        Map.entry("40P01", ErrorCategory.DEADLOCK),    // PostgreSQL deadlock_detected
+        Map.entry("57014", ErrorCategory.TIMEOUT),     // PostgreSQL query_canceled (statement_timeout)
+        Map.entry("55P03", ErrorCategory.TIMEOUT),     // PostgreSQL lock_not_available (lock_timeout)
+        Map.entry("HYT00", ErrorCategory.TIMEOUT),     // timeout expired
+        Map.entry("HYT01", ErrorCategory.TIMEOUT),     // connection timeout expired
+        Map.entry("57P01", ErrorCategory.CONNECTION),  // PostgreSQL admin_shutdown
+        Map.entry("57P02", ErrorCategory.CONNECTION),  // PostgreSQL crash_shutdown
+        Map.entry("57P03", ErrorCategory.CONNECTION),  // PostgreSQL cannot_connect_now (recovery 중)
+        Map.entry("25006", ErrorCategory.TRANSIENT),   // read_only_sql_transaction (전환 전 standby)
+        Map.entry("53300", ErrorCategory.TRANSIENT),   // too_many_connections
+        Map.entry("40002", ErrorCategory.CONSTRAINT)   // integrity constraint violation on commit
+    );
+
+    // 드라이버/커넥션 풀 내부 에러 메시지 (SQLState 없이 발생하는 경우)
+    private static final Set<String> CONNECTION_MESSAGES = Set.of(
+        "Connection is closed",
+        "connection is closed",
+        "Already closed",
+        "No operations allowed after connection closed",
+        "Connection is not available",
+        "Communications link failure",
+        "Broken pipe",
+        "Connection reset"
+    );
+
+    private final Map<Integer, ErrorCategory> vendorCodes;
+
+    public ErrorClassifier(String dbType) {
+        this.vendorCodes = VENDOR_CODES.getOrDefault(normalize(dbType), Map.of());
+    }
+
+    private static String normalize(String dbType) {
+        if (dbType == null) return "";
+        return switch (dbType.toLowerCase()) {
+            case "mssql" -> "sqlserver";
+            default -> dbType.toLowerCase();
+        };
+    }
+
+    public ErrorCategory classify(SQLException e) {
+        ErrorCategory fallback = ErrorCategory.OTHER;
+        Throwable current = e;
+        for (int depth = 0; current != null && depth < MAX_CHAIN_DEPTH; depth++) {
+            if (current instanceof SQLException sqlException) {
+                ErrorCategory category = classifySingle(sqlException);
+                if (category != ErrorCategory.OTHER) {
+                    return category;
+                }
+                if (sqlException.getNextException() != null) {
+                    current = sqlException.getNextException();
+                    continue;
+                }
+            } else {
+                ErrorCategory category = classifyMessage(current.getMessage());
+                if (category != ErrorCategory.OTHER) {
+                    fallback = category;
+                }
+            }
+            current = current.getCause();
+        }
+        return fallback;
+    }
+
+    private ErrorCategory classifySingle(SQLException e) {
+        ErrorCategory category = vendorCodes.get(e.getErrorCode());
+        if (category != null && e.getErrorCode() != 0) {
+            return category;
+        }
+
+        if (e instanceof SQLTimeoutException) return ErrorCategory.TIMEOUT;
+        if (e instanceof SQLTransactionRollbackException) return ErrorCategory.DEADLOCK;
+        if (e instanceof SQLIntegrityConstraintViolationException) return ErrorCategory.CONSTRAINT;
+        if (e instanceof SQLTransientConnectionException
+                || e instanceof SQLNonTransientConnectionException
+                || e instanceof SQLRecoverableException) {
+            return ErrorCategory.CONNECTION;
+        }
+
+        String state = e.getSQLState();
+        if (state != null && state.length() >= 2) {
+            category = SQLSTATE_CODES.get(state);
+            if (category != null) return category;
+            switch (state.substring(0, 2)) {
+                case "08" -> { return ErrorCategory.CONNECTION; }
+                case "40" -> { return ErrorCategory.DEADLOCK; }
+                case "23" -> { return ErrorCategory.CONSTRAINT; }
+                default -> { }
+            }
+        }
+        return classifyMessage(e.getMessage());
+    }
+
+    private static ErrorCategory classifyMessage(String message) {
+        if (message == null) return ErrorCategory.OTHER;
+        for (String pattern : CONNECTION_MESSAGES) {
+            if (message.contains(pattern)) {
+                return ErrorCategory.CONNECTION;
+            }
+        }
+        // "database is locked" = 에러 코드 없는 구버전 SQLite 드라이버의 SQLITE_BUSY
+        if (message.contains("timed out") || message.contains("timeout") || message.contains("database is locked")) {
+            return ErrorCategory.TIMEOUT;
+        }
+        return ErrorCategory.OTHER;
+    }
+}
@@ -0,0 +1,368 @@
+package com.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 장애 주입 TCP 프록시 - HikariCP와 DB 엔드포인트 사이에서 동작 (in-process)
+ *
+ * 커넥션 풀은 프록시의 로컬 포트로 접속하고, 프록시는 연결마다 양방향 pump 스레드로 대상 DB에 중계한다.
+ * 일정(FaultSpec)에 따라 지연, 대역폭 제한, RST, blackhole, half-open을 주입하며
+ * 주입/해제 시점은 PerformanceCounter 타임라인에 FAULT 이벤트로 기록된다.
+ */
+public class FaultInjectionProxy implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(FaultInjectionProxy.class);
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final String targetHost;
+    private final int targetPort;
+    private final PerformanceCounter perfCounter;
+
+    private ServerSocket serverSocket;
+    private Thread acceptThread;
+    private ScheduledExecutorService scheduler;
+    private final Set<ProxiedConnection> connections = ConcurrentHashMap.newKeySet();
+    private final List<FaultSpec> activeFaults = new CopyOnWriteArrayList<>();
+    private final Object stateLock = new Object();
+    private final AtomicInteger connectionSeq = new AtomicInteger();
+    private volatile boolean running = true;
+
+    public FaultInjectionProxy(String targetHost, int targetPort, PerformanceCounter perfCounter) {
+        this.targetHost = targetHost;
+        this.targetPort = targetPort;
+        this.perfCounter = perfCounter;
+    }
+
+    /**
+     * 프록시 시작 (listenPort 0 = 임의 포트)
+     *
+     * @return 실제 listen 포트
+     */
+    public int start(int listenPort) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), listenPort));
+
+        acceptThread = new Thread(this::acceptLoop, "FaultProxy-accept");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+
+        logger.info("[FaultProxy] Listening on 127.0.0.1:{} -> {}:{}", getListenPort(), targetHost, targetPort);
+        return getListenPort();
+    }
+
+    public int getListenPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * 장애 일정 등록 (호출 시점 기준 상대 시간)
+     */
+    public void schedule(List<FaultSpec> faults) {
+        if (faults.isEmpty()) return;
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "FaultProxy-scheduler");
+            t.setDaemon(true);
+            return t;
+        });
+        for (FaultSpec fault : faults) {
+            long startMs = (long) (fault.getStartSeconds() * 1000);
+            scheduler.schedule(() -> inject(fault), startMs, TimeUnit.MILLISECONDS);
+            if (fault.getDurationSeconds() > 0) {
+                long endMs = startMs + (long) (fault.getDurationSeconds() * 1000);
+                scheduler.schedule(() -> clear(fault), endMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        logger.info("[FaultProxy] Scheduled {} faults: {}", faults.size(), faults);
+    }
+
+    /**
+     * 장애 주입
+     */
+    public void inject(FaultSpec fault) {
+        int affected = connections.size();
+        switch (fault.getType()) {
+            case RESET -> {
+                for (ProxiedConnection conn : connections) {
+                    conn.close(true);
+                }
+            }
+            case HALF_OPEN -> {
+                for (ProxiedConnection conn : connections) {
+                    conn.makeHalfOpen();
+                }
+            }
+            default -> { }
+        }
+        if (fault.getType() != FaultType.RESET || fault.getDurationSeconds() > 0) {
+            activeFaults.add(fault);
+        }
+        notifyStateChanged();
+
+        logger.info("[FaultProxy] Injected {} ({} connections affected)", fault, affected);
+        Map<String, Object> details = fault.toMap();
+        details.put("phase", "start");
+        details.put("connections", affected);
+        perfCounter.recordEvent("FAULT", details);
+    }
+
+    /**
+     * 장애 해제
+     */
+    public void clear(FaultSpec fault) {
+        if (!activeFaults.remove(fault)) return;
+        notifyStateChanged();
+
+        logger.info("[FaultProxy] Cleared {}", fault);
+        Map<String, Object> details = fault.toMap();
+        details.put("phase", "end");
+        details.put("connections", connections.size());
+        perfCounter.recordEvent("FAULT", details);
+    }
+
+    /**
+     * 모든 장애 해제 - 남은 일정을 취소하고 진행 중인 장애를 해제하며, half-open 처리된 연결은 되살릴 수 없으므로 RST로 정리
+     * (워커 종료 후 사후 검증 등이 장애 없이 접속하도록, 풀은 프록시를 경유하므로 프록시 자체는 유지)
+     */
+    public void clearAll() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        for (FaultSpec fault : activeFaults) {
+            clear(fault);
+        }
+        for (ProxiedConnection conn : connections) {
+            if (conn.halfOpen) {
+                conn.close(true);
+            }
+        }
+    }
+
+    private void notifyStateChanged() {
+        synchronized (stateLock) {
+            stateLock.notifyAll();
+        }
+    }
+
+    private boolean isActive(FaultType type) {
+        for (FaultSpec fault : activeFaults) {
+            if (fault.getType() == type) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 트래픽 보류 여부 (blackhole 또는 half-open 진행 중)
+     */
+    private boolean isHolding() {
+        return isActive(FaultType.BLACKHOLE) || isActive(FaultType.HALF_OPEN);
+    }
+
+    private long totalLatencyMs() {
+        long sum = 0;
+        for (FaultSpec fault : activeFaults) {
+            if (fault.getType() == FaultType.LATENCY) sum += fault.getParam();
+        }
+        return sum;
+    }
+
+    private long minBandwidth() {
+        long min = 0;
+        for (FaultSpec fault : activeFaults) {
+            if (fault.getType() == FaultType.BANDWIDTH && (min == 0 || fault.getParam() < min)) {
+                min = fault.getParam();
+            }
+        }
+        return min;
+    }
+
+    private void awaitPassable(ProxiedConnection conn) throws InterruptedException {
+        synchronized (stateLock) {
+            while (running && !conn.closed && !conn.halfOpen && isHolding()) {
+                stateLock.wait(100);
+            }
+        }
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            Socket client;
+            try {
+                client = serverSocket.accept();
+            } catch (IOException e) {
+                if (running) {
+                    logger.debug("[FaultProxy] Accept failed: {}", e.getMessage());
+                }
+                continue;
+            }
+            if (isActive(FaultType.RESET)) {
+                // 지속형 reset: 신규 연결 즉시 RST
+                abort(client);
+                continue;
+            }
+            ProxiedConnection conn = new ProxiedConnection(connectionSeq.incrementAndGet(), client);
+            connections.add(conn);
+            Thread opener = new Thread(conn::open, "FaultProxy-" + conn.id + "-open");
+            opener.setDaemon(true);
+            opener.start();
+        }
+    }
+
+    private static void abort(Socket socket) {
+        try {
+            socket.setSoLinger(true, 0);
+        } catch (SocketException ignored) {
+            // 이미 닫힌 소켓
+        }
+        closeQuietly(socket);
+    }
+
+    private static void closeQuietly(Socket socket) {
+        if (socket == null) return;
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // 종료 에러 무시
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        try {
+            if (serverSocket != null) serverSocket.close();
+        } catch (IOException ignored) {
+            // 종료 에러 무시
+        }
+        for (ProxiedConnection conn : connections) {
+            conn.close(false);
+        }
+        notifyStateChanged();
+        logger.info("[FaultProxy] Stopped ({} connections proxied)", connectionSeq.get());
+    }
+
+    /**
+     * 프록시 연결 1개 (클라이언트 소켓 + 대상 DB 소켓)
+     */
+    private class ProxiedConnection {
+        private final int id;
+        private final Socket client;
+        private volatile Socket upstream;
+        private volatile boolean closed = false;
+        private volatile boolean halfOpen = false;
+
+        ProxiedConnection(int id, Socket client) {
+            this.id = id;
+            this.client = client;
+        }
+
+        void open() {
+            try {
+                // blackhole/half-open 중 신규 연결은 해제될 때까지 대상 접속 보류 (SYN 무응답과 유사)
+                awaitPassable(this);
+                if (closed || halfOpen) return;
+                Socket socket = new Socket();
+                socket.setTcpNoDelay(true);
+                socket.connect(new InetSocketAddress(targetHost, targetPort));
+                upstream = socket;
+                client.setTcpNoDelay(true);
+            } catch (IOException e) {
+                logger.debug("[FaultProxy] #{} upstream connect failed: {}", id, e.getMessage());
+                close(true);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close(false);
+                return;
+            }
+
+            startPump(client, upstream, "up");
+            startPump(upstream, client, "down");
+        }
+
+        private void startPump(Socket from, Socket to, String direction) {
+            Thread pump = new Thread(() -> pump(from, to), "FaultProxy-" + id + "-" + direction);
+            pump.setDaemon(true);
+            pump.start();
+        }
+
+        private void pump(Socket from, Socket to) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try {
+                InputStream in = from.getInputStream();
+                OutputStream out = to.getOutputStream();
+                while (!closed) {
+                    int n = in.read(buffer);
+                    if (n < 0) break;
+
+                    long latencyMs = totalLatencyMs();
+                    if (latencyMs > 0) {
+                        Thread.sleep(latencyMs / 2);  // 방향별 절반 → 왕복당 latencyMs
+                    }
+                    awaitPassable(this);
+                    if (halfOpen) {
+                        continue;  // 상대가 사라진 것처럼 무응답 (클라이언트 쓰기는 계속 소비)
+                    }
+                    out.write(buffer, 0, n);
+                    out.flush();
+
+                    long bandwidth = minBandwidth();
+                    if (bandwidth > 0) {
+                        LockSupport.parkNanos(n * 1_000_000_000L / bandwidth);
+                    }
+                }
+            } catch (IOException e) {
+                logger.debug("[FaultProxy] #{} pump closed: {}", id, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // half-open 중 서버측 종료는 클라이언트에 전파하지 않음 (클라이언트가 닫은 경우만 정리)
+            if (!halfOpen || from == client) {
+                close(false);
+            }
+        }
+
+        /**
+         * 서버측 연결만 끊고 클라이언트에는 아무 신호도 보내지 않음
+         */
+        void makeHalfOpen() {
+            halfOpen = true;
+            closeQuietly(upstream);
+        }
+
+        void close(boolean reset) {
+            if (closed) return;
+            closed = true;
+            connections.remove(this);
+            if (reset) {
+                abort(client);
+                if (upstream != null) abort(upstream);
+            } else {
+                closeQuietly(client);
+                closeQuietly(upstream);
+            }
+        }
+    }
+}
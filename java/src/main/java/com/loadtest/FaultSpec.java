@@ -0,0 +1,97 @@
+package com.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장애 주입 일정 항목 1건
+ */
+public class FaultSpec {
+    private final double startSeconds;   // 워커 시작 기준 주입 시점
+    private final FaultType type;
+    private final long param;            // latency: ms, bandwidth: bytes/s, 그 외 미사용
+    private final double durationSeconds; // 0 = reset은 즉시 1회, 그 외는 테스트 종료까지
+
+    public FaultSpec(double startSeconds, FaultType type, long param, double durationSeconds) {
+        this.startSeconds = startSeconds;
+        this.type = type;
+        this.param = param;
+        this.durationSeconds = durationSeconds;
+    }
+
+    /**
+     * 장애 일정 파싱
+     * 형식: start:type[=param][:duration],... 예) 30:latency=200:10,60:reset,90:blackhole:5
+     */
+    public static List<FaultSpec> parseSchedule(String spec) {
+        List<FaultSpec> faults = new ArrayList<>();
+        if (spec == null || spec.isBlank()) {
+            return faults;
+        }
+        for (String token : spec.split(",")) {
+            String item = token.trim();
+            if (item.isEmpty()) continue;
+
+            String[] parts = item.split(":");
+            if (parts.length < 2 || parts.length > 3) {
+                throw new IllegalArgumentException("Invalid fault spec (start:type[=param][:duration]): " + token);
+            }
+            try {
+                double start = Double.parseDouble(parts[0]);
+                String typePart = parts[1];
+                long param = 0;
+                int eq = typePart.indexOf('=');
+                if (eq > 0) {
+                    param = Long.parseLong(typePart.substring(eq + 1));
+                    typePart = typePart.substring(0, eq);
+                }
+                FaultType type = FaultType.fromString(typePart);
+                if ((type == FaultType.LATENCY || type == FaultType.BANDWIDTH) && param <= 0) {
+                    throw new IllegalArgumentException("Fault '" + type.getValue() + "' requires a positive parameter: " + token);
+                }
+                double duration = parts.length == 3 ? Double.parseDouble(parts[2]) : 0;
+                faults.add(new FaultSpec(start, type, param, duration));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number in fault spec: " + token);
+            }
+        }
+        return faults;
+    }
+
+    public double getStartSeconds() {
+        return startSeconds;
+    }
+
+    public FaultType getType() {
+        return type;
+    }
+
+    public long getParam() {
+        return param;
+    }
+
+    public double getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("fault", type.getValue());
+        if (param > 0) {
+            map.put("param", param);
+        }
+        map.put("durationSeconds", durationSeconds);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(startSeconds).append(':').append(type.getValue());
+        if (param > 0) sb.append('=').append(param);
+        if (durationSeconds > 0) sb.append(':').append(durationSeconds);
+        return sb.toString();
+    }
+}
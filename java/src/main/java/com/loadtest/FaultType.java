@@ -0,0 +1,31 @@
+package com.loadtest;
+
+/**
+ * 장애 주입 프록시의 장애 유형
+ */
+public enum FaultType {
+    LATENCY("latency"),       // 왕복당 지연 추가 (ms, 방향별로 절반씩)
+    BANDWIDTH("bandwidth"),   // 방향별 대역폭 제한 (bytes/s)
+    RESET("reset"),           // 모든 연결 RST 종료, 지속 시간 동안 신규 연결도 RST
+    BLACKHOLE("blackhole"),   // 패킷 정지 - 데이터 보류, 해제 시 재개 (TCP 재전송과 유사)
+    HALF_OPEN("half-open");   // 서버측만 종료, 클라이언트에는 FIN/RST 없이 무응답 유지
+
+    private final String value;
+
+    FaultType(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static FaultType fromString(String text) {
+        for (FaultType type : FaultType.values()) {
+            if (type.value.equalsIgnoreCase(text)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown fault type: " + text);
+    }
+}
@@ -0,0 +1,77 @@
+package com.loadtest;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * HikariCP 풀 (기본 구현)
+ */
+public class HikariConnectionPool implements ConnectionPool {
+    private final HikariDataSource dataSource;
+
+    public HikariConnectionPool(HikariConfig config) {
+        this.dataSource = new HikariDataSource(config);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public PoolType getType() {
+        return PoolType.HIKARI;
+    }
+
+    public HikariDataSource getDataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public void softEvictConnections() {
+        HikariPoolMXBean mxBean = dataSource.getHikariPoolMXBean();
+        if (mxBean != null) {
+            mxBean.softEvictConnections();
+        }
+    }
+
+    @Override
+    public int getTotalConnections() {
+        HikariPoolMXBean mxBean = dataSource.getHikariPoolMXBean();
+        return mxBean != null ? mxBean.getTotalConnections() : 0;
+    }
+
+    @Override
+    public int getActiveConnections() {
+        HikariPoolMXBean mxBean = dataSource.getHikariPoolMXBean();
+        return mxBean != null ? mxBean.getActiveConnections() : 0;
+    }
+
+    @Override
+    public int getIdleConnections() {
+        HikariPoolMXBean mxBean = dataSource.getHikariPoolMXBean();
+        return mxBean != null ? mxBean.getIdleConnections() : 0;
+    }
+
+    @Override
+    public int getThreadsAwaitingConnection() {
+        HikariPoolMXBean mxBean = dataSource.getHikariPoolMXBean();
+        return mxBean != null ? mxBean.getThreadsAwaitingConnection() : 0;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return dataSource.isClosed();
+    }
+
+    @Override
+    public void close() {
+        if (!dataSource.isClosed()) {
+            dataSource.close();
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.loadtest;
+
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.HdrHistogram.HistogramLogWriter;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 히스토그램 로그 병합 도구 (서브커맨드: merge-histograms)
+ *
+ * 여러 실행/부하 발생 호스트의 .hlog 파일({@link HistogramLogRecorder})을 절대 시각 기준으로 합쳐
+ * 지정한 시간 범위의 백분위수를 다시 계산한다. 시간 범위는 입력 중 가장 이른 시작 시각 기준 초.
+ * 워밍업 태그 구간은 기본적으로 제외하며, 창(window) 단위 표와 병합된 로그 파일을 출력할 수 있다.
+ * 입력들을 구간 시작 시각 순으로 함께 읽어(k-way 병합) 창이 끝나는 즉시 출력하므로, 메모리는 로그 길이와 무관하게 창 하나 분량이다.
+ */
+public class HistogramLogMerger {
+    public static final String COMMAND = "merge-histograms";
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 95.0, 99.0, 99.9, 99.99};
+
+    public static void main(String[] args) {
+        Options options = buildOptions();
+        CommandLine cmd;
+        try {
+            cmd = new DefaultParser().parse(options, args);
+        } catch (ParseException e) {
+            System.err.println("Error: " + e.getMessage());
+            printHelp(options);
+            System.exit(1);
+            return;
+        }
+        if (cmd.hasOption("help") || cmd.getArgList().isEmpty()) {
+            printHelp(options);
+            if (!cmd.hasOption("help")) System.exit(1);
+            return;
+        }
+
+        try {
+            double start = Double.parseDouble(cmd.getOptionValue("start", "0"));
+            double end = cmd.hasOption("end") ? Double.parseDouble(cmd.getOptionValue("end")) : Double.POSITIVE_INFINITY;
+            double window = Double.parseDouble(cmd.getOptionValue("window", "0"));
+            if (start < 0 || end <= start || window < 0) {
+                throw new IllegalArgumentException("--start must be >= 0, --end > --start and --window >= 0");
+            }
+            new HistogramLogMerger(cmd.getArgList(), start, end, window, cmd.hasOption("include-warmup"))
+                    .run(cmd.getOptionValue("output"));
+        } catch (IOException e) {
+            System.err.println("Error: failed to read histogram logs: " + e.getMessage());
+            System.exit(1);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private final List<String> inputs;
+    private final double startSec;
+    private final double endSec;
+    private final double windowSec;
+    private final boolean includeWarmup;
+
+    private final Histogram total = new Histogram(2);
+    private final List<Input> openedInputs = new ArrayList<>();
+    private HistogramLogWriter mergedWriter;
+    private long windowsWritten = 0;
+    private double originSec = Double.MAX_VALUE;
+    private double firstSec = Double.MAX_VALUE;
+    private double lastSec = 0;
+    private long intervalsUsed = 0;
+    private long warmupSkipped = 0;
+
+    public HistogramLogMerger(List<String> inputs, double startSec, double endSec, double windowSec,
+                              boolean includeWarmup) {
+        this.inputs = inputs;
+        this.startSec = startSec;
+        this.endSec = endSec;
+        this.windowSec = windowSec;
+        this.includeWarmup = includeWarmup;
+    }
+
+    /**
+     * 병합 실행 후 결과 출력 (outputPath가 있으면 창 단위 병합 로그도 기록, 창 미지정 시 1초)
+     */
+    public void run(String outputPath) throws IOException {
+        // 1차: 입력별 시작 시각 (시간 범위의 기준점)
+        for (String input : inputs) {
+            HistogramLogReader reader = openReader(input);
+            try {
+                EncodableHistogram first = reader.nextIntervalHistogram();
+                double inputStart = reader.getStartTimeSec();
+                if (inputStart <= 0 && first != null) {
+                    inputStart = first.getStartTimeStamp() / 1000.0;
+                }
+                if (inputStart > 0) {
+                    originSec = Math.min(originSec, inputStart);
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        if (originSec == Double.MAX_VALUE) {
+            throw new IllegalArgumentException("No interval histograms in " + inputs);
+        }
+
+        // 2차: 범위 안의 구간을 입력 전체에 걸쳐 시작 시각 순으로 병합, 창이 끝나면 바로 출력
+        double bucketSec = windowSec > 0 ? windowSec : outputPath != null ? 1.0 : 0;
+        if (outputPath != null) {
+            mergedWriter = openWriter(outputPath);
+        }
+        if (windowSec > 0) {
+            printWindowHeader();
+        }
+        PriorityQueue<Input> queue = new PriorityQueue<>(Comparator.comparingLong(input -> input.next.getStartTimeStamp()));
+        try {
+            for (String path : inputs) {
+                Input input = new Input(path, openReader(path));
+                openedInputs.add(input);
+                if (advance(input)) {
+                    queue.add(input);
+                }
+            }
+
+            long windowKey = -1;
+            Histogram window = null;
+            while (!queue.isEmpty()) {
+                Input input = queue.poll();
+                Histogram histogram = input.next;
+                double relStart = histogram.getStartTimeStamp() / 1000.0 - originSec;
+
+                total.add(histogram);
+                if (bucketSec > 0) {
+                    long key = (long) Math.floor(relStart / bucketSec);
+                    if (window != null && key != windowKey) {
+                        completeWindow(windowKey, window, bucketSec);
+                        window = null;
+                    }
+                    if (window == null) {
+                        window = new Histogram(2);
+                        windowKey = key;
+                    }
+                    window.add(histogram);
+                }
+                firstSec = Math.min(firstSec, relStart);
+                lastSec = Math.max(lastSec, histogram.getEndTimeStamp() / 1000.0 - originSec);
+                intervalsUsed++;
+                input.used++;
+                input.count += histogram.getTotalCount();
+
+                if (advance(input)) {
+                    queue.add(input);
+                }
+            }
+            if (window != null) {
+                completeWindow(windowKey, window, bucketSec);
+            }
+        } finally {
+            for (Input input : openedInputs) {
+                input.reader.close();
+            }
+            if (mergedWriter != null) {
+                mergedWriter.close();
+            }
+        }
+
+        printSummary();
+        if (outputPath != null) {
+            System.out.printf("Merged log written: %s (%,d intervals of %.1fs)%n", outputPath, windowsWritten, bucketSec);
+        }
+    }
+
+    /**
+     * 입력 하나의 다음 병합 대상 구간 읽기 (워밍업/범위 밖 구간은 건너뜀)
+     *
+     * @return 남은 구간이 있으면 true (input.next에 보관)
+     */
+    private boolean advance(Input input) {
+        EncodableHistogram encoded;
+        while ((encoded = input.reader.nextIntervalHistogram()) != null) {
+            if (!(encoded instanceof Histogram histogram)) continue;
+            if (!includeWarmup && HistogramLogRecorder.WARMUP_TAG.equals(histogram.getTag())) {
+                warmupSkipped++;
+                continue;
+            }
+            double relStart = histogram.getStartTimeStamp() / 1000.0 - originSec;
+            if (relStart < startSec || relStart >= endSec) continue;
+            input.next = histogram;
+            return true;
+        }
+        input.next = null;
+        return false;
+    }
+
+    /**
+     * 끝난 창 하나 출력 (표 한 줄, 병합 로그 구간 하나)
+     */
+    private void completeWindow(long key, Histogram window, double bucketSec) {
+        if (windowSec > 0) {
+            printWindow(key, window);
+        }
+        if (mergedWriter != null) {
+            double windowStart = key * bucketSec;
+            mergedWriter.outputIntervalHistogram(windowStart, windowStart + bucketSec, window, 1000.0);
+            windowsWritten++;
+        }
+    }
+
+    private static HistogramLogReader openReader(String input) throws IOException {
+        InputStream in = new FileInputStream(input);
+        if (input.endsWith(".gz")) {
+            in = new GZIPInputStream(in);
+        }
+        return new HistogramLogReader(in);
+    }
+
+    private void printSummary() {
+        double covered = intervalsUsed > 0 ? lastSec - firstSec : 0;
+        System.out.println();
+        System.out.println("=".repeat(80));
+        System.out.println("Merged Latency Histograms");
+        System.out.println("=".repeat(80));
+        System.out.println("Inputs:");
+        for (Input input : openedInputs) {
+            System.out.printf("  %-40s intervals: %,8d  count: %,12d%n", input.path, input.used, input.count);
+        }
+        System.out.printf("Range: %.1fs - %.1fs (requested %.1fs - %s, %s)%n",
+                intervalsUsed > 0 ? firstSec : 0, intervalsUsed > 0 ? lastSec : 0, startSec,
+                Double.isInfinite(endSec) ? "end" : String.format("%.1fs", endSec),
+                includeWarmup ? "warmup included" : String.format("%,d warmup intervals excluded", warmupSkipped));
+        System.out.printf("Intervals: %,d | Transactions: %,d | TPS: %.2f%n",
+                intervalsUsed, total.getTotalCount(), covered > 0 ? total.getTotalCount() / covered : 0.0);
+        if (total.getTotalCount() == 0) {
+            System.out.println("No transactions in range");
+            System.out.println("=".repeat(80));
+            return;
+        }
+        StringBuilder sb = new StringBuilder(String.format("Latency (ms): avg %.2f", total.getMean() / 1000.0));
+        for (double percentile : PERCENTILES) {
+            sb.append(String.format(" | p%s %.2f", percentileLabel(percentile),
+                    total.getValueAtPercentile(percentile) / 1000.0));
+        }
+        sb.append(String.format(" | max %.2f", total.getMaxValue() / 1000.0));
+        System.out.println(sb);
+        System.out.println("=".repeat(80));
+    }
+
+    private void printWindowHeader() {
+        System.out.println();
+        System.out.printf("%10s %12s %10s %10s %10s %10s %10s%n",
+                "Window(s)", "Count", "TPS", "P50(ms)", "P99(ms)", "P99.9(ms)", "Max(ms)");
+        System.out.println("-".repeat(80));
+    }
+
+    private void printWindow(long key, Histogram histogram) {
+        System.out.printf("%10.1f %,12d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                key * windowSec,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / windowSec,
+                histogram.getValueAtPercentile(50.0) / 1000.0,
+                histogram.getValueAtPercentile(99.0) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private HistogramLogWriter openWriter(String outputPath) throws IOException {
+        OutputStream out = new FileOutputStream(outputPath);
+        if (outputPath.endsWith(".gz")) {
+            out = new GZIPOutputStream(out);
+        }
+        long originMs = (long) (originSec * 1000);
+        HistogramLogWriter writer = new HistogramLogWriter(out);
+        writer.outputComment("merged by " + COMMAND + " from " + String.join(" ", inputs));
+        writer.outputLogFormatVersion();
+        writer.outputStartTime(originMs);
+        writer.setBaseTime(originMs);
+        writer.outputBaseTime(originMs);
+        writer.outputLegend();
+        return writer;
+    }
+
+    private static String percentileLabel(double percentile) {
+        return percentile == Math.floor(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+    }
+
+    private static Options buildOptions() {
+        Options options = new Options();
+        options.addOption(Option.builder().longOpt("start")
+                .hasArg().desc("Range start in seconds from the earliest log start (default: 0)").build());
+        options.addOption(Option.builder().longOpt("end")
+                .hasArg().desc("Range end in seconds from the earliest log start (default: end of logs)").build());
+        options.addOption(Option.builder().longOpt("window")
+                .hasArg().desc("Print percentiles per window of this many seconds (default: 0 = summary only)").build());
+        options.addOption(Option.builder().longOpt("include-warmup")
+                .desc("Include intervals tagged as warmup").build());
+        options.addOption(Option.builder().longOpt("output")
+                .hasArg().desc("Write the merged histograms as a log (one interval per window, 1s if --window is not set)").build());
+        options.addOption(Option.builder("h").longOpt("help")
+                .desc("Print help").build());
+        return options;
+    }
+
+    private static void printHelp(Options options) {
+        new HelpFormatter().printHelp("java -jar multi-db-load-tester.jar " + COMMAND
+                + " [options] <file.hlog> [<file.hlog> ...]", options);
+    }
+
+    /**
+     * 병합 중인 입력 파일 하나 (다음 구간 + 입력별 집계)
+     */
+    private static final class Input {
+        private final String path;
+        private final HistogramLogReader reader;
+        private Histogram next;
+        private long used;
+        private long count;
+
+        Input(String path, HistogramLogReader reader) {
+            this.path = path;
+            this.reader = reader;
+        }
+    }
+}
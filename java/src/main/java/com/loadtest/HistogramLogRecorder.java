@@ -0,0 +1,129 @@
+package com.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 트랜잭션 레이턴시 구간 히스토그램을 HdrHistogram 로그(.hlog)로 기록하는 스레드
+ *
+ * intervalMs마다 구간 히스토그램(마이크로초, 유효숫자 2자리)을 압축 인코딩하여 한 줄씩 기록한다.
+ * 워밍업 중에 시작한 구간은 "warmup" 태그를 붙인다. 구간 시각은 실행 시작 기준이며 헤더의 StartTime/BaseTime으로 절대 시각을 복원할 수 있어
+ * 여러 부하 발생 호스트의 로그를 시간 축으로 합칠 수 있다 ({@link HistogramLogMerger}).
+ * 일반 파일은 줄 단위로 OS에 기록되어 중단되어도 그때까지의 구간이 남고, 경로가 .gz로 끝나면 gzip으로 압축한다 (종료 시 완결).
+ */
+public class HistogramLogRecorder extends Thread {
+    private static final Logger logger = LoggerFactory.getLogger(HistogramLogRecorder.class);
+
+    public static final String WARMUP_TAG = "warmup";
+
+    private final PerformanceCounter perfCounter;
+    private final Path path;
+    private final long intervalMs;
+    private final HistogramLogWriter writer;
+    private final long baseTimeMs;
+    private final Recorder recorder = new Recorder(2);
+    private final Object writeLock = new Object();
+    private Histogram recycled;
+    private long intervals = 0;
+    private volatile boolean running = true;
+
+    private HistogramLogRecorder(PerformanceCounter perfCounter, Path path, long intervalMs, OutputStream out) {
+        super("HistogramLog");
+        setDaemon(true);
+        this.perfCounter = perfCounter;
+        this.path = path;
+        this.intervalMs = intervalMs;
+        this.writer = new HistogramLogWriter(out);
+        this.baseTimeMs = perfCounter.getStartTime();
+
+        writer.outputComment("multi-db-load-tester " + MultiDBLoadTester.VERSION + " transaction latency (values in microseconds, max column in ms)");
+        writer.outputLogFormatVersion();
+        writer.outputStartTime(baseTimeMs);
+        writer.setBaseTime(baseTimeMs);
+        writer.outputBaseTime(baseTimeMs);
+        writer.outputLegend();
+    }
+
+    /**
+     * 로그 파일 생성 (기존 파일은 덮어씀)
+     */
+    public static HistogramLogRecorder open(PerformanceCounter perfCounter, Path path, long intervalMs) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        OutputStream out = new FileOutputStream(path.toFile());
+        if (path.toString().endsWith(".gz")) {
+            out = new GZIPOutputStream(out);
+        }
+        logger.info("[HistogramLog] Writing {}ms latency histograms to {}", intervalMs, path.toAbsolutePath());
+        return new HistogramLogRecorder(perfCounter, path, intervalMs, out);
+    }
+
+    /**
+     * 성공 트랜잭션 레이턴시 기록 (워커 스레드, wait-free)
+     */
+    public void recordValue(double latencyMs) {
+        recorder.recordValue(Math.max(1, (long) (latencyMs * 1000)));
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                Thread.sleep(intervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            writeInterval();
+        }
+    }
+
+    private void writeInterval() {
+        synchronized (writeLock) {
+            recycled = recorder.getIntervalHistogram(recycled);
+            // 워밍업 중에 시작한 구간은 워밍업으로 표시 (측정 구간에 워밍업이 섞이지 않도록)
+            recycled.setTag(perfCounter.isWarmupAt(recycled.getStartTimeStamp()) ? WARMUP_TAG : null);
+            writer.outputIntervalHistogram((recycled.getStartTimeStamp() - baseTimeMs) / 1000.0,
+                    (recycled.getEndTimeStamp() - baseTimeMs) / 1000.0, recycled, 1000.0);
+            intervals++;
+        }
+    }
+
+    /**
+     * 기록 종료 - 마지막 구간을 기록하고 파일을 닫음 (워커 종료 후 호출)
+     */
+    public void stopRecorder() {
+        running = false;
+        interrupt();
+        try {
+            join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeInterval();
+        synchronized (writeLock) {
+            writer.close();
+        }
+        logger.info("[HistogramLog] Closed: {} intervals written to {}", intervals, path.toAbsolutePath());
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+}
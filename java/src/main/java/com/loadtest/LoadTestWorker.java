@@ -18,7 +18,7 @@ public class LoadTestWorker implements Callable<Integer> {
     private static final long ERROR_LOG_INTERVAL_MS = 10000;  // 에러 로그 출력 간격 (10초)
 
     private final DatabaseAdapter dbAdapter;
-    private final Instant endTime;
+    private volatile Instant endTime;
     private final WorkMode mode;
     private long maxIdCache;
     private final int batchSize;
@@ -31,13 +31,50 @@ public class LoadTestWorker implements Callable<Integer> {
     private long lastErrorLogTime = 0;
     private int suppressedErrorCount = 0;
     private static final int MAX_CONNECTION_RETRIES = 3;
-    private static final long MAX_BACKOFF_MS = 5000;  // 최대 백오프 5초
-    private long currentBackoffMs = 100;  // 초기 백오프 100ms
+    private static final long ACQUIRE_WAIT_MS = 1000;  // breaker 대기 1회 최대 시간 (종료 조건 재확인 주기)
+    private final ReconnectCoordinator reconnectCoordinator;
+    private int backoffAttempt = 0;
+    private int stepRetries = 0;          // full 모드에서 앞 단계들의 재시도 횟수 (마지막 단계 성공 시 합산)
+    private Connection connection;        // primary 커넥션 (재시도 시 교체될 수 있음)
+    private boolean reconnecting = false; // 에러로 primary 커넥션을 버린 뒤 재접속 중 (검증을 코디네이터 permit으로 제한)
+    private long connectionEpoch;         // 커넥션을 빌릴 때의 풀 일괄 교체 세대
+    private Connection readConnection;    // 읽기/쓰기 분리 모드의 standby 커넥션 (SELECT 전용)
+    private DurabilityLedger ledger;      // 커밋 확인된 쓰기 원장 (선택)
+    private ErrorClassifier errorClassifier = new ErrorClassifier(null);
+    private RetryPolicy retryPolicy = RetryPolicy.none();
+    private String variant;               // A/B 비교 모드의 드라이버/풀 변형 이름 (선택)
+    private ConnectionScope connectionScope = ConnectionScope.WORKER;
+
+    /**
+     * 트랜잭션 본문 결과
+     */
+    private enum TxOutcome {
+        COMMITTED,
+        STEP_COMMITTED,       // 여러 커밋으로 나뉜 트랜잭션(full 모드)의 중간 단계 - 성공은 마지막 단계에서 기록
+        SKIPPED,
+        VERIFICATION_FAILED
+    }
+
+    /**
+     * 재시도 단위 트랜잭션 본문 (재시도 시 처음부터 다시 실행되므로 본문 안에서는 마지막에만 커밋)
+     */
+    @FunctionalInterface
+    private interface TransactionBody {
+        TxOutcome run(Connection conn) throws SQLException;
+    }
+
+    /**
+     * 단계 측정 대상 구문 호출 (어댑터 메서드 1회)
+     */
+    @FunctionalInterface
+    private interface StatementCall<T> {
+        T call() throws SQLException;
+    }
 
     public LoadTestWorker(int workerId, DatabaseAdapter dbAdapter, Instant endTime,
                           WorkMode mode, long maxIdCache, int batchSize,
                           RateLimiter rateLimiter, PerformanceCounter perfCounter,
-                          AtomicBoolean shutdownRequested) {
+                          ReconnectCoordinator reconnectCoordinator, AtomicBoolean shutdownRequested) {
         this.dbAdapter = dbAdapter;
         this.endTime = endTime;
         this.mode = mode;
@@ -45,73 +82,169 @@ public class LoadTestWorker implements Callable<Integer> {
         this.batchSize = batchSize;
         this.rateLimiter = rateLimiter;
         this.perfCounter = perfCounter;
+        this.reconnectCoordinator = reconnectCoordinator;
         this.shutdownRequested = shutdownRequested;
         this.threadName = String.format("Worker-%04d", workerId);
     }
 
     /**
-     * 유효한 커넥션 획득 (재시도 + 지수 백오프 로직 포함)
-     * DB 재시작 시 풀에서 죽은 커넥션을 가져올 수 있으므로 유효성 검증 후 반환
+     * 종료 시각 변경 (적응형 워밍업이 일찍 끝나면 측정 구간 길이를 유지하도록 앞당김)
+     */
+    public void setEndTime(Instant endTime) {
+        this.endTime = endTime;
+    }
+
+    public void setDurabilityLedger(DurabilityLedger ledger) {
+        this.ledger = ledger;
+    }
+
+    public void setVariant(String variant) {
+        this.variant = variant;
+    }
+
+    /**
+     * 커넥션 보유 범위 - TRANSACTION이면 트랜잭션마다 풀에서 빌리고 반환 (풀 대여/반환 경로를 측정)
+     */
+    public void setConnectionScope(ConnectionScope connectionScope) {
+        this.connectionScope = connectionScope;
+    }
+
+    /**
+     * 에러 분류기 및 재시도 정책 설정 (분류기는 워커 간 공유 가능)
+     */
+    public void setRetryPolicy(ErrorClassifier errorClassifier, RetryPolicy retryPolicy) {
+        this.errorClassifier = errorClassifier;
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * 원장 slot 할당 - 쓰기 구문 실행 후 커밋 전(행 잠금 보유 중)에 호출, 원장 미사용 시 -1
+     */
+    private long reserveLedgerSlot() {
+        return ledger != null ? ledger.reserve() : -1;
+    }
+
+    /**
+     * 커밋 확인된 쓰기를 원장에 기록 (원장 미사용 시 무시)
+     */
+    private void recordAcknowledged(long slot, long id, int op, String value) {
+        if (ledger != null) {
+            ledger.record(slot, id, op, value);
+        }
+    }
+
+    /**
+     * 커밋 후 원장 기록 - 커밋이 예외로 끝나면 서버 반영 여부를 알 수 없으므로 in-doubt로 기록하고 예외를 전파
+     */
+    private void commitAndRecord(Connection conn, long slot, long id, int op, String value) throws SQLException {
+        try {
+            commit(conn);
+        } catch (SQLException e) {
+            recordAcknowledged(slot, id, op | DurabilityLedger.IN_DOUBT, value);
+            throw e;
+        }
+        recordAcknowledged(slot, id, op, value);
+    }
+
+    /**
+     * INSERT 시 어댑터가 기록하는 value_col 값 (원장 대조용)
+     */
+    private String insertValue() {
+        return "TEST_" + threadName;
+    }
+
+    /**
+     * UPDATE 값 - 원장 사용 시 쓰기마다 고유 버전을 붙여 사후 검증에서 값으로 정확히 대조
+     */
+    private String updateValue(long recordId) {
+        return ledger != null ? "UPDATED_" + recordId + "_v" + ledger.nextVersion() : "UPDATED_" + recordId;
+    }
+
+    /**
+     * 유효한 커넥션 획득 - 재접속 코디네이터 경유 (circuit breaker, 재접속 시 검증 동시 실행 제한)
+     *
+     * @return 커넥션, breaker OPEN 등으로 대기 시간 내 시도하지 못한 경우 null
      */
     private Connection getValidConnection() throws SQLException {
+        try {
+            long epoch = dbAdapter.getEvictionEpoch();
+            Connection conn = reconnectCoordinator.acquire(this::openValidatedConnection, ACQUIRE_WAIT_MS);
+            if (conn != null) {
+                connectionEpoch = epoch;
+                reconnecting = false;
+                resetBackoff();
+            }
+            return conn;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for connection");
+        }
+    }
+
+    /**
+     * 풀에서 커넥션 획득 후 유효성 검증
+     * DB 재시작 시 풀에서 죽은 커넥션을 가져올 수 있으므로 무효 커넥션은 즉시 재시도 (풀이 제거)
+     * 재접속 중이면 검증(서버 왕복)만 코디네이터 permit을 잡고 수행 - 풀 대기 중에는 permit을 잡지 않음
+     * 트랜잭션마다 빌리는 경우 정상 대여는 풀의 검증에 맡김 (매 트랜잭션 서버 왕복 추가 방지)
+     */
+    private Connection openValidatedConnection() throws SQLException {
+        long start = System.nanoTime();
         for (int retry = 0; retry < MAX_CONNECTION_RETRIES; retry++) {
+            Connection conn = dbAdapter.getConnection();
+            if (connectionScope == ConnectionScope.TRANSACTION && !reconnecting) {
+                perfCounter.recordPhase(PhaseTimer.Phase.ACQUIRE, System.nanoTime() - start);
+                return conn;
+            }
             try {
-                Connection conn = dbAdapter.getConnection();
-                try {
-                    if (conn.isValid(2)) {
-                        // 성공 시 백오프 리셋
-                        currentBackoffMs = 100;
-                        return conn;
-                    }
-                    logger.debug("[{}] Got invalid connection from pool, retry {}/{}",
-                            threadName, retry + 1, MAX_CONNECTION_RETRIES);
-                    dbAdapter.releaseConnection(conn, true);
-                    perfCounter.incrementConnectionRecreate();
-                } catch (SQLException e) {
-                    logger.debug("[{}] Connection validation failed: {}", threadName, e.getMessage());
-                    dbAdapter.releaseConnection(conn, true);
-                    perfCounter.incrementConnectionRecreate();
+                boolean valid = reconnecting
+                        ? reconnectCoordinator.checkReconnect(conn, c -> dbAdapter.isConnectionValid(c, 2))
+                        : dbAdapter.isConnectionValid(conn, 2);
+                if (valid) {
+                    perfCounter.recordPhase(PhaseTimer.Phase.ACQUIRE, System.nanoTime() - start);
+                    return conn;
                 }
+                logger.debug("[{}] Got invalid connection from pool, retry {}/{}",
+                        threadName, retry + 1, MAX_CONNECTION_RETRIES);
             } catch (SQLException e) {
-                // 커넥션 획득 실패 (DB 다운 등)
-                logger.debug("[{}] Failed to get connection: {}", threadName, e.getMessage());
-            }
-
-            // 지수 백오프 적용 (재시도 전 대기)
-            if (retry < MAX_CONNECTION_RETRIES - 1) {
-                try {
-                    Thread.sleep(currentBackoffMs);
-                    currentBackoffMs = Math.min(currentBackoffMs * 2, MAX_BACKOFF_MS);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new SQLException("Interrupted while waiting for connection");
-                }
+                logger.debug("[{}] Connection validation failed: {}", threadName, e.getMessage());
             }
+            dbAdapter.releaseConnection(conn, true);
+            perfCounter.incrementConnectionRecreate();
         }
-        // 마지막 시도 - 예외 발생 허용
-        return dbAdapter.getConnection();
+        throw new SQLException("No valid connection after " + MAX_CONNECTION_RETRIES + " attempts");
+    }
+
+    /**
+     * 에러로 primary 커넥션 폐기 - 다음 획득은 재접속으로 처리
+     */
+    private void discardConnection() {
+        dbAdapter.releaseConnection(connection, true);
+        connection = null;
+        reconnecting = true;
+        perfCounter.incrementConnectionRecreate();
     }
 
     /**
      * 백오프 리셋 (성공적인 트랜잭션 후 호출)
      */
     private void resetBackoff() {
-        currentBackoffMs = 100;
+        backoffAttempt = 0;
+    }
+
+    /**
+     * jitter 백오프 대기 (워커 간 재시도 시점 분산)
+     */
+    private void backoff() throws InterruptedException {
+        Thread.sleep(reconnectCoordinator.backoffMs(backoffAttempt++));
     }
 
     /**
      * 에러 로그 빈도 제한 - 10초에 1회만 출력, 나머지는 DEBUG 레벨
-     * Connection is closed 등 무시할 에러는 로그 출력 안함
+     * 커넥션 단절 계열 에러는 장애 테스트 중 대량 발생하므로 로그 출력 안함
      */
-    private void logError(String operation, String message) {
-        // 무시할 에러 패턴 (콘솔 출력 안함, 로그 파일에만 기록)
-        if (message != null && (
-                message.contains("Connection is closed") ||
-                message.contains("connection is closed") ||
-                message.contains("Already closed") ||
-                message.contains("No operations allowed after connection closed") ||
-                message.contains("Connection is not available") ||
-                message.contains("request timed out"))) {
+    private void logError(String operation, ErrorCategory category, String message) {
+        // 무시할 에러 분류 (콘솔 출력 안함, 로그 파일에만 기록)
+        if (category == ErrorCategory.CONNECTION) {
             logger.debug("[{}] {} (suppressed): {}", threadName, operation, message);
             return;
         }
@@ -119,164 +252,336 @@ public class LoadTestWorker implements Callable<Integer> {
         long now = System.currentTimeMillis();
         if (now - lastErrorLogTime > ERROR_LOG_INTERVAL_MS) {
             if (suppressedErrorCount > 0) {
-                logger.warn("[{}] {} error (suppressed {} similar errors): {}",
-                        threadName, operation, suppressedErrorCount, message);
+                logger.warn("[{}] {} error [{}] (suppressed {} similar errors): {}",
+                        threadName, operation, category.getValue(), suppressedErrorCount, message);
             } else {
-                logger.warn("[{}] {} error: {}", threadName, operation, message);
+                logger.warn("[{}] {} error [{}]: {}", threadName, operation, category.getValue(), message);
             }
             lastErrorLogTime = now;
             suppressedErrorCount = 0;
         } else {
             suppressedErrorCount++;
-            logger.debug("[{}] {} error: {}", threadName, operation, message);
+            logger.debug("[{}] {} error [{}]: {}", threadName, operation, category.getValue(), message);
         }
     }
 
-    private boolean executeInsert(Connection conn) {
-        long startTime = System.nanoTime();
-        try {
-            String threadId = threadName;
-            String randomData = dbAdapter.generateRandomData(500);
+    /**
+     * 트랜잭션 성공 기록 (전체 카운터 + 엔드포인트/역할 귀속)
+     * 레이턴시는 첫 시도부터 재시도 포함 end-to-end 기준
+     *
+     * @param role 라우팅 역할 (커넥션 획득 전에 결정 - 획득 실패 시에도 같은 역할로 귀속)
+     */
+    private void recordSuccess(Connection conn, String role, long startTime, int retries) {
+        double latencyMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        perfCounter.recordTransaction(latencyMs);
+        perfCounter.recordRoleSuccess(role, latencyMs);
+        if (variant != null) {
+            perfCounter.recordVariantSuccess(variant, latencyMs);
+        }
+        dbAdapter.recordTransactionResult(conn, latencyMs, true);
+        if (retries > 0) {
+            perfCounter.incrementRetriedTransaction();
+        }
+        transactionCount++;
+    }
 
-            if (batchSize > 1) {
-                int count = dbAdapter.executeBatchInsert(conn, threadId, batchSize);
-                perfCounter.incrementInsert(count);
-            } else {
-                dbAdapter.executeInsert(conn, threadId, randomData);
-                perfCounter.incrementInsert();
-            }
+    /**
+     * 트랜잭션 실패 기록 (전체 카운터 + 분류 + 엔드포인트/역할 귀속)
+     */
+    private void recordFailure(Connection conn, String role, String operation, ErrorCategory category, SQLException e) {
+        logError(operation, category, e.getMessage());
+        perfCounter.incrementError();
+        perfCounter.recordErrorCategory(category);
+        perfCounter.recordRoleError(role);
+        if (variant != null) {
+            perfCounter.recordVariantError(variant);
+        }
+        dbAdapter.recordTransactionResult(conn, 0, false);
+    }
 
-            dbAdapter.commit(conn);
+    /**
+     * 읽기 전용 커넥션 획득 (최초 사용 시 획득 후 재사용)
+     */
+    private Connection getReadConnection() throws SQLException {
+        if (readConnection == null) {
+            long start = System.nanoTime();
+            readConnection = dbAdapter.getReadConnection();
+            perfCounter.recordPhase(PhaseTimer.Phase.ACQUIRE, System.nanoTime() - start);
+        }
+        return readConnection;
+    }
 
-            double latencyMs = (System.nanoTime() - startTime) / 1_000_000.0;
-            perfCounter.recordTransaction(latencyMs);
-            transactionCount++;
-            return true;
-        } catch (SQLException e) {
-            logError("Insert", e.getMessage());
-            perfCounter.incrementError();
-            dbAdapter.rollback(conn);
-            return false;
+    /**
+     * 구문 1회 실행 - 실행/fetch 단계 시간 기록
+     */
+    private <T> T timed(StatementCall<T> statement) throws SQLException {
+        long start = PhaseTimer.startStatement();
+        T result = statement.call();
+        perfCounter.recordStatement(start);
+        return result;
+    }
+
+    /**
+     * 커밋 - 커밋 단계 시간 기록 (redo/WAL sync 및 동기 복제 대기 포함)
+     */
+    private void commit(Connection conn) throws SQLException {
+        long start = System.nanoTime();
+        dbAdapter.commit(conn);
+        perfCounter.recordPhase(PhaseTimer.Phase.COMMIT, System.nanoTime() - start);
+    }
+
+    private void releaseReadConnection(boolean isError) {
+        if (readConnection != null) {
+            dbAdapter.releaseConnection(readConnection, isError);
+            readConnection = null;
         }
     }
 
-    private boolean executeSelect(Connection conn, long maxId) {
-        long startTime = System.nanoTime();
-        try {
-            dbAdapter.executeRandomSelect(conn, maxId);
-            perfCounter.incrementSelect();
+    /**
+     * 트랜잭션 실행 - 재시도 정책에 따라 재시도 가능한 에러는 처음부터 다시 실행
+     *
+     * @param readOnly true면 읽기 풀(있을 경우)로 라우팅
+     * @return 성공(또는 스킵) 여부
+     */
+    private boolean executeWithRetry(String operation, boolean readOnly, TransactionBody body) {
+        return executeWithRetry(operation, readOnly, System.nanoTime(), body);
+    }
 
-            double latencyMs = (System.nanoTime() - startTime) / 1_000_000.0;
-            perfCounter.recordTransaction(latencyMs);
-            transactionCount++;
-            return true;
+    /**
+     * @param startTime 레이턴시 기준 시각 (full 모드는 단계마다 재시도 단위를 나누고 첫 단계 시작 시각을 공유)
+     */
+    private boolean executeWithRetry(String operation, boolean readOnly, long startTime, TransactionBody body) {
+        boolean useReadPool = readOnly && dbAdapter.hasReadPool();
+        String role = useReadPool ? PerformanceCounter.ROLE_READ : PerformanceCounter.ROLE_WRITE;
+        int retries = 0;
+
+        while (true) {
+            Connection conn = null;
+            try {
+                conn = useReadPool ? getReadConnection() : connection;
+                TxOutcome outcome = body.run(conn);
+                switch (outcome) {
+                    case COMMITTED -> recordSuccess(conn, role, startTime, retries + stepRetries);
+                    case STEP_COMMITTED -> stepRetries += retries;
+                    case VERIFICATION_FAILED -> perfCounter.incrementVerificationFailure();
+                    default -> { }
+                }
+                return outcome != TxOutcome.VERIFICATION_FAILED;
+            } catch (SQLException e) {
+                ErrorCategory category = errorClassifier.classify(e);
+                if (conn != null && !useReadPool) {
+                    dbAdapter.rollback(conn);
+                }
+                if (!retryPolicy.shouldRetry(category, retries) || !canRetry()
+                        || (category == ErrorCategory.CONNECTION && !replaceConnection(useReadPool))) {
+                    recordFailure(conn, role, operation, category, e);
+                    if (useReadPool) {
+                        releaseReadConnection(true);
+                        perfCounter.incrementConnectionRecreate();
+                    }
+                    return false;
+                }
+
+                perfCounter.recordRetry(category);
+                logger.debug("[{}] {} retry {}/{} after {} error: {}", threadName, operation,
+                        retries + 1, retryPolicy.getMaxRetries(), category.getValue(), e.getMessage());
+                try {
+                    Thread.sleep(retryPolicy.backoffMs(retries));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    recordFailure(conn, role, operation, category, e);
+                    return false;
+                }
+                retries++;
+            }
+        }
+    }
+
+    private boolean canRetry() {
+        return !shutdownRequested.get() && Instant.now().isBefore(endTime);
+    }
+
+    /**
+     * 커넥션 계열 에러 재시도 전 커넥션 교체
+     *
+     * @return 교체 성공 여부 (실패 시 재시도 중단)
+     */
+    private boolean replaceConnection(boolean readPool) {
+        if (readPool) {
+            perfCounter.incrementConnectionRecreate();
+            releaseReadConnection(true);
+            return true;  // 다음 시도에서 새로 획득
+        }
+        discardConnection();
+        try {
+            connection = getValidConnection();
         } catch (SQLException e) {
-            logError("Select", e.getMessage());
-            perfCounter.incrementError();
-            return false;
+            logger.debug("[{}] Reconnect for retry failed: {}", threadName, e.getMessage());
         }
+        return connection != null;
     }
 
-    private boolean executeUpdate(Connection conn, long maxId) {
+    /**
+     * 접속 폭주 1회 - 물리 접속(인증 포함) → 검증 쿼리 → 종료
+     * 레이턴시는 접속부터 종료까지, 접속 시간은 CONNECT 단계로 따로 기록
+     */
+    private boolean executeConnectCycle() {
         long startTime = System.nanoTime();
+        Connection conn = null;
         try {
-            long recordId = dbAdapter.getRandomId(maxId);
-            if (recordId <= 0) {
-                return true;  // 데이터 없음, 스킵
-            }
-            dbAdapter.executeUpdate(conn, recordId);
-            dbAdapter.commit(conn);
-            perfCounter.incrementUpdate();
-
-            double latencyMs = (System.nanoTime() - startTime) / 1_000_000.0;
-            perfCounter.recordTransaction(latencyMs);
-            transactionCount++;
-            return true;
+            conn = dbAdapter.openPhysicalConnection();
+            perfCounter.recordPhase(PhaseTimer.Phase.CONNECT, System.nanoTime() - startTime);
+
+            Connection opened = conn;
+            timed(() -> {
+                dbAdapter.executePing(opened);
+                return null;
+            });
         } catch (SQLException e) {
-            logError("Update", e.getMessage());
-            perfCounter.incrementError();
-            dbAdapter.rollback(conn);
+            recordFailure(null, PerformanceCounter.ROLE_WRITE, "Connect", errorClassifier.classify(e), e);
+            closeQuietly(conn);
             return false;
         }
+
+        long closeStart = System.nanoTime();
+        closeQuietly(conn);
+        perfCounter.recordPhase(PhaseTimer.Phase.DISCONNECT, System.nanoTime() - closeStart);
+        recordSuccess(null, PerformanceCounter.ROLE_WRITE, startTime, 0);
+        return true;
     }
 
-    private boolean executeDelete(Connection conn, long maxId) {
-        long startTime = System.nanoTime();
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) return;
         try {
-            long recordId = dbAdapter.getRandomId(maxId);
-            if (recordId <= 0) {
-                return true;  // 데이터 없음, 스킵
+            conn.close();
+        } catch (SQLException ignored) {
+            // 종료 에러 무시
+        }
+    }
+
+    private boolean executeInsert() {
+        return executeWithRetry("Insert", false, conn -> {
+            String threadId = threadName;
+            String randomData = dbAdapter.generateRandomData(500);
+
+            long newId = 0;
+            int count = 1;
+            if (batchSize > 1) {
+                // 배치 INSERT는 생성 ID를 반환하지 않으므로 원장 기록 대상 아님
+                count = timed(() -> dbAdapter.executeBatchInsert(conn, threadId, batchSize));
+            } else {
+                newId = timed(() -> dbAdapter.executeInsert(conn, threadId, randomData));
             }
-            dbAdapter.executeDelete(conn, recordId);
-            dbAdapter.commit(conn);
-            perfCounter.incrementDelete();
+            long slot = batchSize > 1 ? -1 : reserveLedgerSlot();
 
-            double latencyMs = (System.nanoTime() - startTime) / 1_000_000.0;
-            perfCounter.recordTransaction(latencyMs);
-            transactionCount++;
-            return true;
-        } catch (SQLException e) {
-            logError("Delete", e.getMessage());
-            perfCounter.incrementError();
-            dbAdapter.rollback(conn);
-            return false;
+            commitAndRecord(conn, slot, newId, DurabilityLedger.OP_INSERT, insertValue());
+            perfCounter.incrementInsert(count);
+            return TxOutcome.COMMITTED;
+        });
+    }
+
+    private boolean executeSelect(long maxId) {
+        // 읽기 풀이 있으면 standby로 라우팅 (실패 시 standby 커넥션만 교체)
+        return executeWithRetry("Select", true, conn -> {
+            timed(() -> dbAdapter.executeRandomSelect(conn, maxId));
+            perfCounter.incrementSelect();
+            return TxOutcome.COMMITTED;
+        });
+    }
+
+    private boolean executeUpdate(long maxId) {
+        long recordId = dbAdapter.getRandomId(maxId);
+        if (recordId <= 0) {
+            return true;  // 데이터 없음, 스킵
         }
+        return executeWithRetry("Update", false, conn -> {
+            String value = updateValue(recordId);
+            boolean updated = timed(() -> dbAdapter.executeUpdate(conn, recordId, value));
+            long slot = updated ? reserveLedgerSlot() : -1;  // 대상 행이 없으면 기록하지 않음
+            commitAndRecord(conn, slot, recordId, DurabilityLedger.OP_UPDATE, value);
+            perfCounter.incrementUpdate();
+            return TxOutcome.COMMITTED;
+        });
     }
 
-    private boolean executeMixed(Connection conn, long maxId) {
+    private boolean executeDelete(long maxId) {
+        long recordId = dbAdapter.getRandomId(maxId);
+        if (recordId <= 0) {
+            return true;  // 데이터 없음, 스킵
+        }
+        return executeWithRetry("Delete", false, conn -> {
+            boolean deleted = timed(() -> dbAdapter.executeDelete(conn, recordId));
+            long slot = deleted ? reserveLedgerSlot() : -1;  // 대상 행이 없으면 기록하지 않음
+            commitAndRecord(conn, slot, recordId, DurabilityLedger.OP_DELETE, null);
+            perfCounter.incrementDelete();
+            return TxOutcome.COMMITTED;
+        });
+    }
+
+    private boolean executeMixed(long maxId) {
         // INSERT 60%, SELECT 20%, UPDATE 15%, DELETE 5%
         double rand = random.nextDouble();
         if (rand < 0.60) {
-            return executeInsert(conn);
+            return executeInsert();
         } else if (rand < 0.80) {
-            return executeSelect(conn, maxId);
+            return executeSelect(maxId);
         } else if (rand < 0.95) {
-            return executeUpdate(conn, maxId);
+            return executeUpdate(maxId);
         } else {
-            return executeDelete(conn, maxId);
+            return executeDelete(maxId);
         }
     }
 
-    private boolean executeFull(Connection conn) {
+    private boolean executeFull() {
+        // 커밋마다 재시도 단위를 나눔 - 뒤 단계 에러로 이미 커밋된 INSERT/UPDATE를 다시 실행하지 않음
         long startTime = System.nanoTime();
-        try {
+        long[] newId = new long[1];
+        stepRetries = 0;
+
+        // INSERT
+        boolean ok = executeWithRetry("Transaction", false, startTime, conn -> {
             String threadId = threadName;
             String randomData = dbAdapter.generateRandomData(500);
-
-            // INSERT
-            long newId = dbAdapter.executeInsert(conn, threadId, randomData);
+            newId[0] = timed(() -> dbAdapter.executeInsert(conn, threadId, randomData));
+            long insertSlot = reserveLedgerSlot();
+            commitAndRecord(conn, insertSlot, newId[0], DurabilityLedger.OP_INSERT, insertValue());
             perfCounter.incrementInsert();
-            dbAdapter.commit(conn);
+            return TxOutcome.STEP_COMMITTED;
+        });
+        if (!ok) {
+            return false;
+        }
 
-            // SELECT and verify
-            Object[] result = dbAdapter.executeSelect(conn, newId);
+        // SELECT and verify + UPDATE
+        ok = executeWithRetry("Transaction", false, startTime, conn -> {
+            long id = newId[0];
+            Object[] result = timed(() -> dbAdapter.executeSelect(conn, id));
             perfCounter.incrementSelect();
 
-            if (result == null || !result[0].equals(newId)) {
-                perfCounter.incrementVerificationFailure();
-                return false;
+            if (result == null || !result[0].equals(id)) {
+                return TxOutcome.VERIFICATION_FAILED;
             }
 
-            // UPDATE
-            dbAdapter.executeUpdate(conn, newId);
+            String value = updateValue(id);
+            timed(() -> dbAdapter.executeUpdate(conn, id, value));
+            long updateSlot = reserveLedgerSlot();
+            commitAndRecord(conn, updateSlot, id, DurabilityLedger.OP_UPDATE, value);
             perfCounter.incrementUpdate();
-            dbAdapter.commit(conn);
-
-            // DELETE
-            dbAdapter.executeDelete(conn, newId);
-            perfCounter.incrementDelete();
-            dbAdapter.commit(conn);
-
-            double latencyMs = (System.nanoTime() - startTime) / 1_000_000.0;
-            perfCounter.recordTransaction(latencyMs);
-            transactionCount++;
-            return true;
-        } catch (SQLException e) {
-            logError("Transaction", e.getMessage());
-            perfCounter.incrementError();
-            dbAdapter.rollback(conn);
+            return TxOutcome.STEP_COMMITTED;
+        });
+        if (!ok) {
             return false;
         }
+
+        // DELETE
+        return executeWithRetry("Transaction", false, startTime, conn -> {
+            long id = newId[0];
+            timed(() -> dbAdapter.executeDelete(conn, id));
+            long deleteSlot = reserveLedgerSlot();
+            commitAndRecord(conn, deleteSlot, id, DurabilityLedger.OP_DELETE, null);
+            perfCounter.incrementDelete();
+            return TxOutcome.COMMITTED;
+        });
     }
 
     @Override
@@ -284,7 +589,6 @@ public class LoadTestWorker implements Callable<Integer> {
         Thread.currentThread().setName(threadName);
         logger.info("[{}] Starting (mode: {})", threadName, mode.getValue());
 
-        Connection connection = null;
         int consecutiveErrors = 0;
         long maxId = maxIdCache;
 
@@ -299,27 +603,55 @@ public class LoadTestWorker implements Callable<Integer> {
                 continue;
             }
 
+            // 접속 폭주 모드 - 풀 커넥션 없이 매번 물리 접속
+            if (mode == WorkMode.CONNECT_STORM) {
+                if (executeConnectCycle()) {
+                    resetBackoff();
+                    continue;
+                }
+                try {
+                    backoff();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                continue;
+            }
+
             try {
                 // 커넥션 획득 및 유효성 검증
                 if (connection == null) {
                     connection = getValidConnection();
-                    consecutiveErrors = 0;
+                    if (connectionScope == ConnectionScope.WORKER) {
+                        consecutiveErrors = 0;  // 트랜잭션 단위 보유는 매번 새로 빌리므로 연속 에러 유지
+                    }
+                } else if (dbAdapter.getEvictionEpoch() != connectionEpoch) {
+                    // 풀 일괄 교체 - 보유 중 커넥션을 반환(풀이 종료)하고 새 커넥션을 빌림
+                    dbAdapter.releaseConnection(connection, false);
+                    connection = null;
+                    releaseReadConnection(false);
+                    perfCounter.incrementConnectionRecreate();
+                    connection = getValidConnection();
                 } else {
                     // 기존 커넥션 유효성 검증 (DB 재시작 대응)
+                    boolean valid;
                     try {
-                        if (!connection.isValid(2)) {
+                        valid = dbAdapter.isConnectionValid(connection, 2);
+                        if (!valid) {
                             logger.debug("[{}] Connection invalid, getting new one", threadName);
-                            dbAdapter.releaseConnection(connection, true);
-                            connection = getValidConnection();
-                            perfCounter.incrementConnectionRecreate();
                         }
                     } catch (SQLException e) {
                         logger.debug("[{}] Connection validation failed: {}", threadName, e.getMessage());
-                        dbAdapter.releaseConnection(connection, true);
+                        valid = false;
+                    }
+                    if (!valid) {
+                        discardConnection();
                         connection = getValidConnection();
-                        perfCounter.incrementConnectionRecreate();
                     }
                 }
+                if (connection == null) {
+                    continue;  // breaker OPEN - 대기 후 종료 조건 재확인
+                }
 
                 // For modes that need existing data, check maxId (매 100회마다 갱신)
                 boolean needsData = (mode == WorkMode.SELECT_ONLY || mode == WorkMode.UPDATE_ONLY ||
@@ -334,42 +666,43 @@ public class LoadTestWorker implements Callable<Integer> {
 
                 boolean success;
                 switch (mode) {
-                    case INSERT_ONLY -> success = executeInsert(connection);
-                    case SELECT_ONLY -> success = executeSelect(connection, maxId);
-                    case UPDATE_ONLY -> success = executeUpdate(connection, maxId);
-                    case DELETE_ONLY -> success = executeDelete(connection, maxId);
-                    case MIXED -> success = executeMixed(connection, maxId);
-                    default -> success = executeFull(connection);
+                    case INSERT_ONLY -> success = executeInsert();
+                    case SELECT_ONLY -> success = executeSelect(maxId);
+                    case UPDATE_ONLY -> success = executeUpdate(maxId);
+                    case DELETE_ONLY -> success = executeDelete(maxId);
+                    case MIXED -> success = executeMixed(maxId);
+                    default -> success = executeFull();
                 }
 
                 if (!success) {
                     consecutiveErrors++;
                     // 연속 에러 시 커넥션 재생성 (임계값 감소: 5 → 2)
-                    if (consecutiveErrors >= 2) {
-                        dbAdapter.releaseConnection(connection, true);
-                        connection = null;
-                        perfCounter.incrementConnectionRecreate();
-                        // 지수 백오프 적용
-                        Thread.sleep(currentBackoffMs);
-                        currentBackoffMs = Math.min(currentBackoffMs * 2, MAX_BACKOFF_MS);
+                    if (consecutiveErrors >= 2 && connection != null) {
+                        discardConnection();
+                        backoff();
                     }
                 } else {
                     consecutiveErrors = 0;
                     resetBackoff();  // 성공 시 백오프 리셋
                 }
 
+                // 트랜잭션 단위 보유 - 풀로 반환하고 다음 트랜잭션에서 다시 대여
+                if (connectionScope == ConnectionScope.TRANSACTION && connection != null) {
+                    dbAdapter.releaseConnection(connection, false);
+                    connection = null;
+                }
+
             } catch (Exception e) {
-                logError("Connection", e.getMessage());
+                ErrorCategory category = e instanceof SQLException sqlException
+                        ? errorClassifier.classify(sqlException) : ErrorCategory.OTHER;
+                logError("Connection", category, e.getMessage());
                 perfCounter.incrementError();
+                perfCounter.recordErrorCategory(category);
                 if (connection != null) {
-                    dbAdapter.releaseConnection(connection, true);
-                    connection = null;
-                    perfCounter.incrementConnectionRecreate();
+                    discardConnection();
                 }
                 try {
-                    // 지수 백오프 적용
-                    Thread.sleep(currentBackoffMs);
-                    currentBackoffMs = Math.min(currentBackoffMs * 2, MAX_BACKOFF_MS);
+                    backoff();
                 } catch (InterruptedException ie) {
                     Thread.currentThread().interrupt();
                     break;
@@ -380,6 +713,7 @@ public class LoadTestWorker implements Callable<Integer> {
         if (connection != null) {
             dbAdapter.releaseConnection(connection, false);
         }
+        releaseReadConnection(false);
 
         logger.info("[{}] Completed. Transactions: {}", threadName, transactionCount);
         return transactionCount;
@@ -0,0 +1,98 @@
+package com.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 측정 구간 하나의 집계 (sweep 단계, 반복 시행 등) - 구간 [startMs, endMs) 안의 기록만 반영 (스레드 안전)
+ *
+ * 레이턴시/커넥션 획득 히스토그램은 마이크로초, 유효숫자 2자리.
+ * 풀 대기는 커넥션 획득 시간과 모니터 주기마다 샘플링한 풀 대기 스레드 수로 본다 - 워커는 커넥션을 계속 보유하므로
+ * 스레드 수가 풀 크기를 넘으면 획득 시간보다 대기 스레드 수에 드러난다.
+ */
+public class MeasurementWindow {
+    private final long startMs;
+    private final long endMs;
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Recorder latency = new Recorder(2);
+    private final Recorder acquire = new Recorder(2);
+    private final LongAdder pendingSum = new LongAdder();
+    private final LongAdder pendingSamples = new LongAdder();
+    private final AtomicLong pendingMax = new AtomicLong();
+
+    public MeasurementWindow(long startMs, long endMs) {
+        this.startMs = startMs;
+        this.endMs = endMs;
+    }
+
+    private boolean inWindow() {
+        long now = System.currentTimeMillis();
+        return now >= startMs && now < endMs;
+    }
+
+    public void recordSuccess(double latencyMs) {
+        if (!inWindow()) return;
+        transactions.increment();
+        latency.recordValue(Math.max(1, (long) (latencyMs * 1000)));
+    }
+
+    public void recordError() {
+        if (inWindow()) errors.increment();
+    }
+
+    public void recordAcquire(long nanos) {
+        if (inWindow()) acquire.recordValue(Math.max(1, nanos / 1000));
+    }
+
+    /**
+     * 풀 대기 스레드 수 샘플 (모니터 주기마다)
+     */
+    public void recordPoolPending(long pending) {
+        if (!inWindow()) return;
+        pendingSum.add(pending);
+        pendingSamples.increment();
+        pendingMax.accumulateAndGet(pending, Math::max);
+    }
+
+    /**
+     * 구간 통계 (구간 종료 후 1회 호출)
+     */
+    public Map<String, Object> summarize() {
+        Histogram latencyHistogram = latency.getIntervalHistogram();
+        Histogram acquireHistogram = acquire.getIntervalHistogram();
+        double seconds = (endMs - startMs) / 1000.0;
+        long count = transactions.sum();
+        long samples = pendingSamples.sum();
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("transactions", count);
+        row.put("tps", round(seconds > 0 ? count / seconds : 0));
+        row.put("latencyAvg", latencyHistogram.getTotalCount() > 0 ? round(latencyHistogram.getMean() / 1000.0) : 0.0);
+        row.put("latencyP50", percentileMs(latencyHistogram, 50.0));
+        row.put("latencyP95", percentileMs(latencyHistogram, 95.0));
+        row.put("latencyP99", percentileMs(latencyHistogram, 99.0));
+        row.put("latencyP999", percentileMs(latencyHistogram, 99.9));
+        row.put("latencyMax", round(latencyHistogram.getMaxValue() / 1000.0));
+        row.put("errors", errors.sum());
+        row.put("poolWaitAvg", acquireHistogram.getTotalCount() > 0 ? round(acquireHistogram.getMean() / 1000.0) : 0.0);
+        row.put("poolWaitP99", percentileMs(acquireHistogram, 99.0));
+        row.put("poolPendingAvg", round(samples > 0 ? (double) pendingSum.sum() / samples : 0));
+        row.put("poolPendingMax", pendingMax.get());
+        return row;
+    }
+
+    private static double percentileMs(Histogram histogram, double percentile) {
+        if (histogram.getTotalCount() == 0) return 0.0;
+        return round(histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -4,6 +4,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -20,6 +22,13 @@ public class MonitorThread extends Thread {
     private final AtomicBoolean shutdownRequested;
     private volatile boolean running = true;
     private volatile boolean warmupEndLogged = false;
+    private volatile ReplicationLagProbe lagProbe;
+
+    // 1분 롤업 요약 출력 상태 (모니터 스레드 전용)
+    private long loggedMinuteRows = 0;
+    private double lastMinuteEndSeconds = 0;
+    private long lastMinuteTransactions = 0;
+    private long lastMinuteErrors = 0;
 
     public MonitorThread(double intervalSeconds, Instant endTime,
                          DatabaseAdapter dbAdapter, PerformanceCounter perfCounter,
@@ -33,6 +42,10 @@ public class MonitorThread extends Thread {
         this.shutdownRequested = shutdownRequested;
     }
 
+    public void setReplicationLagProbe(ReplicationLagProbe lagProbe) {
+        this.lagProbe = lagProbe;
+    }
+
     @Override
     public void run() {
         logger.info("[Monitor] Starting (interval: {}s)", intervalSeconds);
@@ -123,8 +136,128 @@ public class MonitorThread extends Thread {
             poolStats.getOrDefault("poolTotal", 0)
         );
 
+        // 엔드포인트별 상태 (다중 노드 모드)
+        Map<String, Object> seriesStats = new LinkedHashMap<>(poolStats);
+        List<Map<String, Object>> endpointStats = dbAdapter.snapshotEndpointStats();
+        if (!endpointStats.isEmpty()) {
+            StringBuilder sb = new StringBuilder();
+            for (Map<String, Object> ep : endpointStats) {
+                if (sb.length() > 0) sb.append(" | ");
+                String name = (String) ep.get("name");
+                sb.append(String.format("%s %s TPS: %.2f Lat: %.1fms ERR: %d Pool: %s",
+                        name, ep.get("status"),
+                        ((Number) ep.get("intervalTps")).doubleValue(),
+                        ((Number) ep.get("intervalLatencyAvg")).doubleValue(),
+                        ((Number) ep.get("intervalErrors")).longValue(),
+                        ep.get("poolActive")));
+                seriesStats.put(name + ".status", ep.get("status"));
+                seriesStats.put(name + ".tps", ep.get("intervalTps"));
+                seriesStats.put(name + ".latencyAvg", ep.get("intervalLatencyAvg"));
+                seriesStats.put(name + ".errors", ep.get("intervalErrors"));
+            }
+            logger.info("[Monitor] {}Endpoints: {}", statusIndicator, sb);
+        }
+
+        // 역할별(write/read) 상태 (읽기/쓰기 분리 모드)
+        Map<String, Map<String, Object>> roleStats = perfCounter.snapshotRoleStats();
+        if (!roleStats.isEmpty()) {
+            StringBuilder sb = new StringBuilder();
+            roleStats.forEach((role, rs) -> {
+                if (sb.length() > 0) sb.append(" | ");
+                sb.append(String.format("%s TPS: %.2f Lat(avg/p99): %.1f/%.1fms ERR: %d",
+                        role.toUpperCase(),
+                        ((Number) rs.get("intervalTps")).doubleValue(),
+                        ((Number) rs.get("intervalLatencyAvg")).doubleValue(),
+                        ((Number) rs.get("intervalLatencyP99")).doubleValue(),
+                        ((Number) rs.get("intervalErrors")).longValue()));
+                seriesStats.put(role + ".tps", rs.get("intervalTps"));
+                seriesStats.put(role + ".latencyAvg", rs.get("intervalLatencyAvg"));
+                seriesStats.put(role + ".latencyP99", rs.get("intervalLatencyP99"));
+                seriesStats.put(role + ".errors", rs.get("intervalErrors"));
+            });
+            logger.info("[Monitor] {}Roles: {}", statusIndicator, sb);
+        }
+
+        // 드라이버/풀 변형별 상태 (A/B 비교 모드)
+        Map<String, Map<String, Object>> variantStats = perfCounter.snapshotVariantStats();
+        if (!variantStats.isEmpty()) {
+            StringBuilder sb = new StringBuilder();
+            variantStats.forEach((variant, vs) -> {
+                if (sb.length() > 0) sb.append(" | ");
+                sb.append(String.format("%s TPS: %.2f Lat(avg/p99): %.1f/%.1fms ERR: %d",
+                        variant,
+                        ((Number) vs.get("intervalTps")).doubleValue(),
+                        ((Number) vs.get("intervalLatencyAvg")).doubleValue(),
+                        ((Number) vs.get("intervalLatencyP99")).doubleValue(),
+                        ((Number) vs.get("intervalErrors")).longValue()));
+                seriesStats.put("variant." + variant + ".tps", vs.get("intervalTps"));
+                seriesStats.put("variant." + variant + ".latencyAvg", vs.get("intervalLatencyAvg"));
+                seriesStats.put("variant." + variant + ".latencyP99", vs.get("intervalLatencyP99"));
+                seriesStats.put("variant." + variant + ".errors", vs.get("intervalErrors"));
+            });
+            logger.info("[Monitor] {}Variants: {}", statusIndicator, sb);
+        }
+
+        // 트랜잭션 단계별 소요 시간 (warmup 중에는 기록 없음)
+        Map<String, Object> phaseStats = perfCounter.snapshotPhaseStats();
+        if (((Number) phaseStats.get("phase.commit.count")).longValue() > 0
+                || ((Number) phaseStats.get("phase.execute.count")).longValue() > 0) {
+            StringBuilder sb = new StringBuilder();
+            for (PhaseTimer.Phase phase : PhaseTimer.Phase.values()) {
+                String prefix = "phase." + phase.getValue();
+                if (((Number) phaseStats.get(prefix + ".count")).longValue() == 0) continue;
+                if (sb.length() > 0) sb.append(" | ");
+                sb.append(String.format("%s %.2f/%.2fms", phase.getValue(),
+                        ((Number) phaseStats.get(prefix + ".avg")).doubleValue(),
+                        ((Number) phaseStats.get(prefix + ".p99")).doubleValue()));
+            }
+            logger.info("[Monitor] {}Phases(avg/p99): {}", statusIndicator, sb);
+        }
+        seriesStats.putAll(phaseStats);
+
+        // 복제 가시성 지연 (lag probe 활성 시)
+        ReplicationLagProbe probe = lagProbe;
+        if (probe != null) {
+            Map<String, Object> lag = probe.snapshotInterval();
+            logger.info("[Monitor] {}Replication lag(p50/p99/max): {}/{}/{}ms | Samples: {} | Timeouts: {}",
+                    statusIndicator, lag.get("replLagP50"), lag.get("replLagP99"), lag.get("replLagMax"),
+                    lag.get("replLagSamples"), lag.get("replLagTimeouts"));
+            seriesStats.putAll(lag);
+        }
+
         // 시계열 데이터 기록
-        perfCounter.recordTimeSeries(poolStats);
+        perfCounter.recordTimeSeries(seriesStats);
+        logMinuteRollup();
+    }
+
+    /**
+     * 1분 롤업 행이 확정되면 분 단위 요약 출력 (장시간 실행에서 초 단위 출력 대신 추이 확인용)
+     */
+    private void logMinuteRollup() {
+        TimeSeriesStore store = perfCounter.getTimeSeries();
+        long rows = store.getTotalRows(TimeSeriesStore.Resolution.ONE_MINUTE);
+        if (rows == loggedMinuteRows) return;
+        loggedMinuteRows = rows;
+        Map<String, Object> row = store.latestRow(TimeSeriesStore.Resolution.ONE_MINUTE);
+        if (row == null) return;
+
+        double endSeconds = ((Number) row.get("elapsedSeconds")).doubleValue() + 60;
+        long transactions = ((Number) row.get("totalTransactions")).longValue();
+        long errors = ((Number) row.get("totalErrors")).longValue();
+        double seconds = endSeconds - lastMinuteEndSeconds;
+        double tps = seconds > 0 ? (transactions - lastMinuteTransactions) / seconds : 0;
+        lastMinuteEndSeconds = endSeconds;
+        lastMinuteTransactions = transactions;
+        long intervalErrors = errors - lastMinuteErrors;
+        lastMinuteErrors = errors;
+
+        logger.info("[Monitor] [1m]      {} | TPS: {} | ERR: {} | Lat avg: {}ms | Lat p99 (max): {}ms{}",
+                row.get("timestamp"),
+                String.format("%.2f", tps),
+                String.format("%,d", intervalErrors),
+                row.get("latencyAvg"),
+                row.get("latencyP99"),
+                ((String) row.get("events")).isEmpty() ? "" : " | Events: " + row.get("events"));
     }
 
     public void stopMonitor() {
@@ -5,6 +5,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
@@ -12,6 +14,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
 
 /**
  * Multi-Database Load Tester v0.2.2 (HikariCP Version)
@@ -20,13 +24,78 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public class MultiDBLoadTester {
     private static final Logger logger = LoggerFactory.getLogger(MultiDBLoadTester.class);
-    private static final String VERSION = "0.2.2";
+    static final String VERSION = "0.2.2";
 
     private final DatabaseConfig config;
     private DatabaseAdapter dbAdapter;
     private PerformanceCounter perfCounter;
+    private OutageDetector outageDetector;
+    private ReplicationLagProbe lagProbe;
+    private DurabilityLedger ledger;
+    private FaultInjectionProxy faultProxy;
+    private ReconnectCoordinator reconnectCoordinator;
+    private Map<String, Object> durabilityResult;
     private final AtomicBoolean shutdownRequested = new AtomicBoolean(false);
 
+    // 장애 구간 감지 설정
+    private boolean outageDetectionEnabled = true;
+    private long outageMinGapMs = 1000;
+    private double outageErrorRatio = 0.5;
+    private double outageRecoveryRatio = 0.9;
+
+    // 복제 가시성 지연 측정 설정 (0 = 비활성)
+    private long lagProbeIntervalMs = 0;
+
+    // 커밋 원장 및 사후 검증 설정 (null = 비활성)
+    private String ledgerDirectory;
+    private int verifyThreads = 8;
+
+    // 시계열 스트리밍 파일 (null = 비활성, 시계열은 종료 시 결과 파일에만 기록)
+    private String timeSeriesFile;
+    private int timeSeriesFsyncSeconds = 10;
+    private TimeSeriesSink timeSeriesSink;
+
+    // 레이턴시 히스토그램 로그 (null = 비활성)
+    private String histogramLogFile;
+    private long histogramIntervalMs = 1000;
+    private HistogramLogRecorder histogramLog;
+
+    // 재접속 코디네이터 설정
+    private int reconnectMaxConcurrent = 8;
+    private int breakerFailureThreshold = 5;
+    private long reconnectMaxBackoffMs = 5000;
+
+    // 드라이버/풀 A/B 비교 변형 (비어 있으면 단일 풀)
+    private List<DriverVariant> variants = new ArrayList<>();
+    private final List<DatabaseAdapter> variantAdapters = new ArrayList<>();
+
+    // 트랜잭션 재시도 정책 (기본: 재시도 안함)
+    private RetryPolicy retryPolicy = RetryPolicy.none();
+    private ConnectionScope connectionScope = ConnectionScope.WORKER;
+
+    // 장애 주입 프록시 설정 (null = 비활성)
+    private Integer faultProxyPort;
+    private List<FaultSpec> faultSchedule = new ArrayList<>();
+
+    // 풀 장애 주입 일정 (비어 있으면 비활성)
+    private List<ChaosSpec> chaosSchedule = new ArrayList<>();
+    private long chaosImpactWindowMs = 5000;
+    private PoolChaosScheduler poolChaos;
+
+    // 확장성 sweep (선택)
+    private ScalabilitySweep sweep;
+
+    // 반복 시행 (선택)
+    private RepeatedTrials trials;
+
+    // 적응형 워밍업 (--warmup은 최대 시간)
+    private boolean adaptiveWarmup = false;
+    private int warmupWindowSeconds = 10;
+    private double warmupCvThreshold = 0.05;
+    private SteadyStateDetector warmupDetector;
+    private final List<LoadTestWorker> activeWorkers = new ArrayList<>();
+    private Instant adjustedEndTime;  // 워밍업 조기 종료 시 재계산된 측정 종료 시각 (activeWorkers 잠금)
+
     public MultiDBLoadTester(DatabaseConfig config) {
         this.config = config;
         this.dbAdapter = createAdapter(config.getDbType());
@@ -40,13 +109,180 @@ public class MultiDBLoadTester {
             case "sqlserver", "mssql" -> new SQLServerAdapter();
             case "tibero" -> new TiberoAdapter();
             case "db2" -> new DB2Adapter();
+            case "sqlite" -> new SQLiteAdapter();
+            case "null" -> new NullAdapter();
             default -> throw new IllegalArgumentException("Unsupported database type: " + dbType);
         };
     }
 
+    /**
+     * 현재 DB 어댑터가 지원하는 커밋 프로필 목록
+     */
+    public List<String> getCommitProfiles() {
+        return dbAdapter.getCommitProfiles();
+    }
+
+    public boolean supportsSsl() {
+        return dbAdapter.supportsSsl();
+    }
+
+    public int getMaxPoolSizeLimit() {
+        return dbAdapter.getMaxPoolSizeLimit();
+    }
+
+    /**
+     * 장애 구간 감지 설정
+     */
+    public void setOutageDetection(boolean enabled, long minGapMs, double errorRatio, double recoveryRatio) {
+        this.outageDetectionEnabled = enabled;
+        this.outageMinGapMs = minGapMs;
+        this.outageErrorRatio = errorRatio;
+        this.outageRecoveryRatio = recoveryRatio;
+    }
+
+    /**
+     * 복제 가시성 지연 측정 설정
+     */
+    public void setLagProbeInterval(long lagProbeIntervalMs) {
+        this.lagProbeIntervalMs = lagProbeIntervalMs;
+    }
+
+    /**
+     * 커밋 확인된 쓰기 원장 및 사후 검증 설정
+     */
+    public void setDurabilityLedger(String ledgerDirectory, int verifyThreads) {
+        this.ledgerDirectory = ledgerDirectory;
+        this.verifyThreads = verifyThreads;
+    }
+
+    /**
+     * 재접속 코디네이터 설정 (동시 접속 시도 수, breaker 임계값, 최대 백오프)
+     */
+    public void setReconnectPolicy(int maxConcurrent, int failureThreshold, long maxBackoffMs) {
+        this.reconnectMaxConcurrent = maxConcurrent;
+        this.breakerFailureThreshold = failureThreshold;
+        this.reconnectMaxBackoffMs = maxBackoffMs;
+    }
+
+    /**
+     * 드라이버/풀 A/B 비교 변형 설정 (워커는 변형별 풀에 번갈아 배정)
+     */
+    public void setVariants(List<DriverVariant> variants) {
+        this.variants = variants;
+    }
+
+    /**
+     * 트랜잭션 재시도 정책 설정
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    public void setConnectionScope(ConnectionScope connectionScope) {
+        this.connectionScope = connectionScope;
+    }
+
+    /**
+     * 장애 주입 프록시 설정 (listenPort 0 = 임의 포트)
+     */
+    public void setFaultProxy(int listenPort, List<FaultSpec> faultSchedule) {
+        this.faultProxyPort = listenPort;
+        this.faultSchedule = faultSchedule;
+    }
+
+    /**
+     * 풀 장애 주입 일정 설정
+     *
+     * @param impactWindowMs 실행 후 churn 구간으로 집계할 시간
+     */
+    public void setPoolChaos(List<ChaosSpec> chaosSchedule, long impactWindowMs) {
+        this.chaosSchedule = chaosSchedule;
+        this.chaosImpactWindowMs = impactWindowMs;
+    }
+
+    /**
+     * 시계열 스트리밍 설정 - 모니터 주기마다 행을 파일에 즉시 기록 (fsyncSeconds = 0이면 매 행 fsync)
+     */
+    public void setTimeSeriesFile(String timeSeriesFile, int fsyncSeconds) {
+        this.timeSeriesFile = timeSeriesFile;
+        this.timeSeriesFsyncSeconds = fsyncSeconds;
+    }
+
+    /**
+     * 레이턴시 히스토그램 로그 설정 - intervalMs마다 구간 히스토그램을 .hlog 파일에 기록 (merge-histograms로 사후 분석)
+     */
+    public void setHistogramLog(String histogramLogFile, long intervalMs) {
+        this.histogramLogFile = histogramLogFile;
+        this.histogramIntervalMs = intervalMs;
+    }
+
+    /**
+     * 적응형 워밍업 설정 - 최근 windowSeconds초의 TPS/레이턴시 변동계수가 cvThreshold 이하이면 워밍업 종료
+     */
+    public void setAdaptiveWarmup(int windowSeconds, double cvThreshold) {
+        this.adaptiveWarmup = true;
+        this.warmupWindowSeconds = windowSeconds;
+        this.warmupCvThreshold = cvThreshold;
+    }
+
+    /**
+     * 확장성 sweep 설정 - 스레드 수 단계별로 (단계 워밍업 + 측정)을 반복, 풀은 실행 내내 유지
+     */
+    public void setSweep(List<Integer> stages, int stageWarmupSeconds, int stageDurationSeconds) {
+        this.sweep = new ScalabilitySweep(stages, stageWarmupSeconds, stageDurationSeconds);
+    }
+
+    /**
+     * 반복 시행 설정 - 시행마다 (시행 워밍업 + 측정)을 반복, 풀은 실행 내내 유지
+     */
+    public void setTrials(int count, int trialWarmupSeconds, int trialDurationSeconds, RepeatedTrials.Reset reset) {
+        this.trials = new RepeatedTrials(count, trialWarmupSeconds, trialDurationSeconds, reset);
+    }
+
+    /**
+     * 변형별 커넥션 풀 생성 - 첫 변형은 기본 어댑터, 나머지는 같은 DB 타입의 새 어댑터
+     */
+    private void createVariantPools(DatabaseConfig poolConfig) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < variants.size(); i++) {
+            DriverVariant variant = variants.get(i);
+            DatabaseAdapter adapter = i == 0 ? dbAdapter : createAdapter(config.getDbType());
+            logger.info("Creating pool for variant {} ({})", variant.getName(), variant);
+            adapter.createConnectionPool(variant.applyTo(poolConfig));
+            variantAdapters.add(adapter);
+            names.add(variant.getName());
+        }
+        perfCounter.enableVariantStats(names);
+    }
+
+    private void closeVariantPools() {
+        for (DatabaseAdapter adapter : variantAdapters) {
+            if (adapter != dbAdapter) {
+                adapter.closePool();
+            }
+        }
+    }
+
+    /**
+     * 장애 주입 프록시 시작 후 primary 접속 대상을 프록시로 교체한 설정 반환
+     */
+    private DatabaseConfig startFaultProxy() throws IOException {
+        DatabaseConfig target = config.isMultiEndpoint() ? config.forEndpoint(config.getEndpoints().get(0)) : config;
+        faultProxy = new FaultInjectionProxy(target.getHost(), target.getDefaultPort(), perfCounter);
+        int port = faultProxy.start(faultProxyPort);
+
+        if (config.isMultiEndpoint()) {
+            List<Endpoint> endpoints = new ArrayList<>(config.getEndpoints());
+            Endpoint first = endpoints.get(0);
+            endpoints.set(0, new Endpoint(first.getName(), "127.0.0.1", port));
+            return config.toBuilder().endpoints(endpoints).build();
+        }
+        return config.toBuilder().host("127.0.0.1").port(port).build();
+    }
+
     public void printDDL() {
         System.out.println("\n" + "=".repeat(80));
-        System.out.println("DDL for " + config.getDbType().toUpperCase() + " (HikariCP)");
+        System.out.println("DDL for " + config.getDbType().toUpperCase() + " (" + config.getPoolType().getDisplayName() + ")");
         System.out.println("=".repeat(80));
         System.out.println(dbAdapter.getDDL());
         System.out.println("=".repeat(80) + "\n");
@@ -71,9 +307,58 @@ public class MultiDBLoadTester {
 
         // Performance counter 초기화
         perfCounter = new PerformanceCounter(subSecondIntervalMs);
+        if (config.isReadSplit()) {
+            perfCounter.enableRoleStats();
+        }
+
+        // 시계열 스트리밍 (중단되어도 기록된 구간은 파일에 남음)
+        if (timeSeriesFile != null) {
+            try {
+                timeSeriesSink = TimeSeriesSink.open(Path.of(timeSeriesFile), timeSeriesFsyncSeconds);
+            } catch (IOException e) {
+                logger.error("Failed to open time series file: {}", e.getMessage());
+                return;
+            }
+            perfCounter.setTimeSeriesSink(timeSeriesSink);
+        }
 
-        // 커넥션 풀 생성
-        dbAdapter.createConnectionPool(config);
+        // 레이턴시 히스토그램 로그
+        if (histogramLogFile != null) {
+            try {
+                histogramLog = HistogramLogRecorder.open(perfCounter, Path.of(histogramLogFile), histogramIntervalMs);
+            } catch (IOException e) {
+                logger.error("Failed to open histogram log: {}", e.getMessage());
+                if (timeSeriesSink != null) {
+                    timeSeriesSink.close();
+                }
+                return;
+            }
+            perfCounter.setHistogramLog(histogramLog);
+        }
+
+        // 장애 주입 프록시 (primary 엔드포인트 앞단)
+        DatabaseConfig poolConfig = config;
+        if (faultProxyPort != null) {
+            try {
+                poolConfig = startFaultProxy();
+            } catch (IOException e) {
+                logger.error("Failed to start fault injection proxy: {}", e.getMessage());
+                if (timeSeriesSink != null) {
+                    timeSeriesSink.close();
+                }
+                if (histogramLog != null) {
+                    histogramLog.stopRecorder();
+                }
+                return;
+            }
+        }
+
+        // 커넥션 풀 생성 (A/B 비교 모드: 변형마다 별도 풀, 첫 변형이 기준이며 스키마/모니터링 등 공용 작업 담당)
+        if (variants.size() > 1) {
+            createVariantPools(poolConfig);
+        } else {
+            dbAdapter.createConnectionPool(poolConfig);
+        }
 
         // 스키마 설정 (기존 스키마가 있으면 재사용)
         logger.info("Setting up database schema...");
@@ -96,14 +381,31 @@ public class MultiDBLoadTester {
         }
 
         // 기존 데이터 확인
-        long maxIdCache = 0;
-        if (mode == WorkMode.SELECT_ONLY || mode == WorkMode.UPDATE_ONLY ||
-            mode == WorkMode.DELETE_ONLY || mode == WorkMode.MIXED) {
-            try (Connection conn = dbAdapter.getConnection()) {
-                maxIdCache = dbAdapter.getMaxId(conn);
-                logger.info("Found {} existing records", maxIdCache);
-            } catch (SQLException e) {
-                logger.error("Failed to get max ID: {}", e.getMessage());
+        long maxIdCache = loadMaxId(mode);
+
+        // sweep 모드: 단계마다 워밍업/측정 구간을 따로 두므로 전체 워밍업과 ramp-up은 사용하지 않음
+        if (sweep != null) {
+            threadCount = sweep.getMaxThreads();
+            durationSeconds = sweep.getTotalSeconds();
+            warmupSeconds = 0;
+            rampUpSeconds = 0;
+            if (adaptiveWarmup) {
+                logger.info("[Sweep] --adaptive-warmup is ignored; each stage uses --sweep-warmup");
+            }
+            logger.info("Scalability sweep: {} threads ({}s warmup + {}s measurement per stage)",
+                    sweep.getStages(), sweep.getWarmupSeconds(), sweep.getDurationSeconds());
+        }
+
+        // 반복 시행 모드: 시행마다 워밍업/측정 구간을 따로 두므로 전체 워밍업과 ramp-up은 사용하지 않음
+        if (trials != null) {
+            durationSeconds = trials.getTotalSeconds();
+            warmupSeconds = 0;
+            rampUpSeconds = 0;
+            logger.info("Repeated trials: {} x ({}s warmup + {}s measurement), reset between trials: {}",
+                    trials.getStepCount(), trials.getWarmupSeconds(), trials.getDurationSeconds(),
+                    trials.getReset().getValue());
+            if (adaptiveWarmup) {
+                logger.info("[Trials] --adaptive-warmup is ignored; each trial uses --trial-warmup");
             }
         }
 
@@ -111,9 +413,19 @@ public class MultiDBLoadTester {
         Instant now = Instant.now();
         Instant warmupEndTime = warmupSeconds > 0 ? now.plus(warmupSeconds, ChronoUnit.SECONDS) : null;
         Instant endTime = now.plus(durationSeconds + warmupSeconds, ChronoUnit.SECONDS);
+        // sweep/반복 시행은 단계마다 워커 시작/종료 시간이 더해지므로 모니터는 워커 종료 후 직접 중지
+        Instant monitorEndTime = sweep != null || trials != null ? endTime.plus(1, ChronoUnit.HOURS) : endTime;
 
         // 워밍업 설정 (warmup > 0일 때만 설정)
-        if (warmupSeconds > 0) {
+        if (warmupSeconds > 0 && adaptiveWarmup) {
+            perfCounter.setWarmupEndTime(warmupEndTime.toEpochMilli());
+            logger.info("================================================================================");
+            logger.info("Adaptive warmup: until TPS and latency are steady (CV <= {} over {}s), at most {} seconds",
+                    warmupCvThreshold, warmupWindowSeconds, warmupSeconds);
+            logger.info("Measurement: {} seconds after warmup ends (at most {} seconds in total)",
+                    durationSeconds, warmupSeconds + durationSeconds);
+            logger.info("================================================================================");
+        } else if (warmupSeconds > 0) {
             perfCounter.setWarmupEndTime(warmupEndTime.toEpochMilli());
             logger.info("================================================================================");
             logger.info("Warmup period: {} seconds (Avg TPS will be calculated after warmup)", warmupSeconds);
@@ -126,6 +438,27 @@ public class MultiDBLoadTester {
             logger.info("================================================================================");
         }
 
+        // 커밋 원장 (실패 시 바로 종료하므로 모니터 등 백그라운드 스레드 시작 전에 생성)
+        if (ledgerDirectory != null) {
+            try {
+                ledger = DurabilityLedger.create(Path.of(ledgerDirectory));
+            } catch (IOException e) {
+                logger.error("Failed to create durability ledger: {}", e.getMessage());
+                if (timeSeriesSink != null) {
+                    timeSeriesSink.close();
+                }
+                if (histogramLog != null) {
+                    histogramLog.stopRecorder();
+                }
+                closeVariantPools();
+                dbAdapter.closePool();
+                if (faultProxy != null) {
+                    faultProxy.close();
+                }
+                return;
+            }
+        }
+
         // Rate limiter
         RateLimiter rateLimiter = targetTps > 0 ? new RateLimiter(targetTps) : null;
         if (targetTps > 0) {
@@ -134,12 +467,158 @@ public class MultiDBLoadTester {
 
         // 모니터링 스레드
         MonitorThread monitor = new MonitorThread(
-                monitorInterval, endTime, dbAdapter, perfCounter, shutdownRequested);
+                monitorInterval, monitorEndTime, dbAdapter, perfCounter, shutdownRequested);
         monitor.start();
+        if (histogramLog != null) {
+            histogramLog.start();
+        }
+
+        // 장애 주입 일정 (워커 시작 시점 기준)
+        if (faultProxy != null) {
+            faultProxy.schedule(faultSchedule);
+        }
+        if (!chaosSchedule.isEmpty()) {
+            List<DatabaseAdapter> chaosTargets = variantAdapters.isEmpty() ? List.of(dbAdapter) : variantAdapters;
+            poolChaos = new PoolChaosScheduler(chaosTargets, perfCounter, chaosImpactWindowMs);
+            perfCounter.setPoolChaosScheduler(poolChaos);
+            poolChaos.schedule(chaosSchedule);
+        }
+
+        // 장애 구간 감지 스레드
+        if (outageDetectionEnabled) {
+            outageDetector = new OutageDetector(perfCounter, subSecondIntervalMs, outageMinGapMs,
+                    outageErrorRatio, outageRecoveryRatio);
+            perfCounter.setOutageDetector(outageDetector);
+            outageDetector.start();
+        }
+
+        // 복제 가시성 지연 측정 스레드
+        if (lagProbeIntervalMs > 0) {
+            lagProbe = new ReplicationLagProbe(dbAdapter, lagProbeIntervalMs);
+            monitor.setReplicationLagProbe(lagProbe);
+            lagProbe.start();
+        }
+
+        // 워커 공용 재접속 코디네이터
+        reconnectCoordinator = new ReconnectCoordinator(perfCounter, reconnectMaxConcurrent,
+                breakerFailureThreshold, 100, reconnectMaxBackoffMs);
+
+        ErrorClassifier errorClassifier = new ErrorClassifier(config.getDbType());
+        if (retryPolicy.isEnabled()) {
+            logger.info("Transaction retry enabled: {}", retryPolicy);
+        }
+
+        // 적응형 워밍업: 정상 상태 도달 시점부터 측정 시간을 다시 계산하여 워커 종료 시각을 앞당김
+        if (adaptiveWarmup && warmupSeconds > 0) {
+            int measureSeconds = durationSeconds;
+            warmupDetector = new SteadyStateDetector(perfCounter, warmupSeconds, warmupWindowSeconds,
+                    warmupCvThreshold, warmupEndMs -> {
+                        synchronized (activeWorkers) {
+                            adjustedEndTime = Instant.ofEpochMilli(warmupEndMs).plus(measureSeconds, ChronoUnit.SECONDS);
+                            activeWorkers.forEach(w -> w.setEndTime(adjustedEndTime));
+                        }
+                    });
+            warmupDetector.start();
+        }
+
+        // Ramp-up 지원 워커 실행 (sweep 모드는 단계별, 반복 시행 모드는 시행별 실행)
+        StagedMeasurement staged = sweep != null ? sweep : trials;
+        int totalTransactions = staged != null
+                ? runStaged(staged, threadCount, step -> {
+                    if (trials != null && step > 1) {
+                        resetBetweenTrials(trials.getReset());
+                    }
+                }, mode, batchSize, rateLimiter, errorClassifier)
+                : runWorkers(threadCount, endTime, mode, maxIdCache, batchSize, rateLimiter, errorClassifier,
+                        rampUpSeconds > 0 ? (rampUpSeconds * 1000L) / threadCount : 0);
+
+        if (warmupDetector != null) {
+            warmupDetector.stopDetector();
+        }
+
+        if (histogramLog != null) {
+            histogramLog.stopRecorder();
+        }
+
+        if (lagProbe != null) {
+            lagProbe.stopProbe();
+        }
+
+        if (outageDetector != null) {
+            outageDetector.stopDetector();
+        }
+
+        if (poolChaos != null) {
+            poolChaos.close();
+        }
+
+        monitor.stopMonitor();
+        try {
+            monitor.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        monitor.logFinalSnapshot();
+        perfCounter.getTimeSeries().flush();
+        if (timeSeriesSink != null) {
+            timeSeriesSink.close();
+        }
+
+        // 최종 통계 출력
+        printFinalStats(threadCount, durationSeconds, totalTransactions, mode,
+                warmupSeconds, targetTps, batchSize);
+
+        // 남은 장애 해제 (기간 0 = 테스트 종료까지인 blackhole/half-open이 사후 검증 커넥션을 막지 않도록)
+        if (faultProxy != null) {
+            faultProxy.clearAll();
+        }
 
-        // Ramp-up 지원 워커 실행
+        // 원장 기반 사후 검증
+        if (ledger != null) {
+            ledger.close();
+            try {
+                durabilityResult = new DurabilityVerifier(dbAdapter, ledger, verifyThreads).verify();
+                printDurabilitySummary(durabilityResult);
+            } catch (IOException e) {
+                logger.error("Durability verification failed: {}", e.getMessage());
+            }
+        }
+
+        // 결과 내보내기
+        if (outputFormat != null && outputFile != null) {
+            exportResults(outputFormat, outputFile, threadCount, durationSeconds, mode);
+        }
+
+        closeVariantPools();
+        dbAdapter.closePool();
+        if (faultProxy != null) {
+            faultProxy.close();
+        }
+    }
+
+    /**
+     * 조회/수정/삭제 대상 ID 범위 (삽입 전용 모드는 0)
+     */
+    private long loadMaxId(WorkMode mode) {
+        long maxIdCache = 0;
+        if (mode == WorkMode.SELECT_ONLY || mode == WorkMode.UPDATE_ONLY ||
+            mode == WorkMode.DELETE_ONLY || mode == WorkMode.MIXED) {
+            try (Connection conn = dbAdapter.getConnection()) {
+                maxIdCache = dbAdapter.getMaxId(conn);
+                logger.info("Found {} existing records", maxIdCache);
+            } catch (SQLException e) {
+                logger.error("Failed to get max ID: {}", e.getMessage());
+            }
+        }
+        return maxIdCache;
+    }
+
+    /**
+     * 워커 threadCount개를 endTime까지 실행하고 처리한 트랜잭션 수 반환
+     */
+    private int runWorkers(int threadCount, Instant endTime, WorkMode mode, long maxIdCache, int batchSize,
+                           RateLimiter rateLimiter, ErrorClassifier errorClassifier, long rampUpDelayMs) {
         int totalTransactions = 0;
-        long rampUpDelayMs = rampUpSeconds > 0 ? (rampUpSeconds * 1000L) / threadCount : 0;
 
         ExecutorService executor = Executors.newFixedThreadPool(threadCount,
                 r -> new Thread(r, "Worker"));
@@ -155,9 +634,26 @@ public class MultiDBLoadTester {
                     }
                 }
 
+                // 변형 모드: 같은 시간대에 워커를 변형별 풀에 교대로 배정 (배경 부하 변동을 양쪽이 동일하게 받음)
+                DatabaseAdapter workerAdapter = variantAdapters.isEmpty()
+                        ? dbAdapter : variantAdapters.get(i % variantAdapters.size());
                 LoadTestWorker worker = new LoadTestWorker(
-                        i + 1, dbAdapter, endTime, mode, maxIdCache, batchSize,
-                        rateLimiter, perfCounter, shutdownRequested);
+                        i + 1, workerAdapter, endTime, mode, maxIdCache, batchSize,
+                        rateLimiter, perfCounter, reconnectCoordinator, shutdownRequested);
+                worker.setDurabilityLedger(ledger);
+                worker.setRetryPolicy(errorClassifier, retryPolicy);
+                worker.setConnectionScope(connectionScope);
+                if (!variantAdapters.isEmpty()) {
+                    String variantName = variants.get(i % variants.size()).getName();
+                    worker.setVariant(variantName);
+                    perfCounter.registerVariantWorker(variantName);
+                }
+                synchronized (activeWorkers) {
+                    if (adjustedEndTime != null) {
+                        worker.setEndTime(adjustedEndTime);
+                    }
+                    activeWorkers.add(worker);
+                }
 
                 futures.add(executor.submit(worker));
             }
@@ -180,26 +676,68 @@ public class MultiDBLoadTester {
             } catch (InterruptedException e) {
                 executor.shutdownNow();
             }
+            synchronized (activeWorkers) {
+                activeWorkers.clear();
+            }
         }
+        return totalTransactions;
+    }
+
+    /**
+     * 단계별 측정 실행 (확장성 sweep, 반복 시행) - 단계마다 워커를 (워밍업 + 측정) 동안 실행, 측정 구간만 단계 통계로 집계
+     * beforeStep은 단계 시작 전 (이전 단계 워커 종료 후) 호출
+     */
+    private int runStaged(StagedMeasurement staged, int threadCount, IntConsumer beforeStep, WorkMode mode,
+                          int batchSize, RateLimiter rateLimiter, ErrorClassifier errorClassifier) {
+        String tag = staged.getLogTag();
+        String name = staged.getStepName();
+        int steps = staged.getStepCount();
+        int totalTransactions = 0;
+
+        for (int step = 1; step <= steps && !shutdownRequested.get(); step++) {
+            beforeStep.accept(step);
+            int threads = staged.getThreads(step, threadCount);
+            // 이전 단계의 삽입/삭제를 반영
+            long maxIdCache = loadMaxId(mode);
+            long measureStartMs = System.currentTimeMillis() + staged.getWarmupSeconds() * 1000L;
+            long measureEndMs = measureStartMs + staged.getDurationSeconds() * 1000L;
+
+            logger.info("[{}] {} {}/{}: {} threads ({}s warmup + {}s measurement)",
+                    tag, name, step, steps, threads, staged.getWarmupSeconds(), staged.getDurationSeconds());
+            perfCounter.recordEvent(staged.getEventType(), staged.getEventDetails(step, threads));
 
-        monitor.stopMonitor();
-        try {
-            monitor.join(5000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            perfCounter.setMeasurementWindow(staged.begin(step, threads, measureStartMs, measureEndMs));
+            totalTransactions += runWorkers(threads, Instant.ofEpochMilli(measureEndMs), mode, maxIdCache,
+                    batchSize, rateLimiter, errorClassifier, 0);
+            perfCounter.setMeasurementWindow(null);
+
+            if (shutdownRequested.get()) {
+                staged.discard();
+                logger.info("[{}] {} {}/{} interrupted - excluded from results", tag, name, step, steps);
+                break;
+            }
+            Map<String, Object> row = staged.end();
+            logger.info("[{}] {} {}/{} done: {}", tag, name, step, steps, staged.describeResult(row));
         }
-        monitor.logFinalSnapshot();
+        return totalTransactions;
+    }
 
-        // 최종 통계 출력
-        printFinalStats(threadCount, durationSeconds, totalTransactions, mode,
-                warmupSeconds, targetTps, batchSize);
-
-        // 결과 내보내기
-        if (outputFormat != null && outputFile != null) {
-            exportResults(outputFormat, outputFile, threadCount, durationSeconds, mode);
+    /**
+     * 시행 사이 초기화 (워커 종료 후 호출)
+     */
+    private void resetBetweenTrials(RepeatedTrials.Reset reset) {
+        if (reset.truncates()) {
+            try (Connection conn = dbAdapter.getConnection()) {
+                dbAdapter.truncateTable(conn);
+            } catch (SQLException e) {
+                logger.error("[Trials] Table truncate failed: {}", e.getMessage());
+            }
+        }
+        if (reset.evictsPool()) {
+            (variantAdapters.isEmpty() ? List.of(dbAdapter) : variantAdapters)
+                    .forEach(DatabaseAdapter::softEvictConnections);
+            logger.info("[Trials] Pool connections soft-evicted");
         }
-
-        dbAdapter.closePool();
     }
 
     private void printFinalStats(int threadCount, int durationSeconds, int totalTransactions,
@@ -208,17 +746,44 @@ public class MultiDBLoadTester {
         Map<String, Double> latencyStats = perfCounter.getLatencyStats();
 
         System.out.println("\n" + "=".repeat(80));
-        System.out.println("LOAD TEST COMPLETED (HikariCP)");
+        System.out.println("LOAD TEST COMPLETED (" + config.getPoolType().getDisplayName() + ")");
         System.out.println("=".repeat(80));
         System.out.println("Configuration:");
         System.out.printf("  - Database: %s%n", config.getDbType().toUpperCase());
-        System.out.printf("  - Host: %s%n", config.getHost());
+        if (!dbAdapter.isEmbedded()) {
+            System.out.printf("  - Host: %s%n", config.getHost());
+        } else if (config.getDatabase() != null) {
+            System.out.printf("  - Database File: %s%n", config.getDatabase());
+        }
         System.out.printf("  - Mode: %s%n", mode.getValue());
         System.out.printf("  - Threads: %d%n", threadCount);
         System.out.printf("  - Duration: %ds%n", durationSeconds);
-        if (warmupSeconds > 0) System.out.printf("  - Warmup: %ds%n", warmupSeconds);
+        if (warmupDetector != null) {
+            System.out.printf("  - Warmup: %s%n", describeAdaptiveWarmup(warmupSeconds));
+        } else if (warmupSeconds > 0) {
+            System.out.printf("  - Warmup: %ds%n", warmupSeconds);
+        }
         if (targetTps > 0) System.out.printf("  - Target TPS: %d%n", targetTps);
         if (batchSize > 1) System.out.printf("  - Batch Size: %d%n", batchSize);
+        if (!DatabaseConfig.DEFAULT_COMMIT_PROFILE.equals(config.getCommitProfile())) {
+            System.out.printf("  - Commit Profile: %s%n", config.getCommitProfile());
+        }
+        if (config.getPoolType() != PoolType.HIKARI) {
+            System.out.printf("  - Pool: %s%n", config.getPoolType().getValue());
+        }
+        if (connectionScope != ConnectionScope.WORKER) {
+            System.out.printf("  - Connection Scope: %s (borrow/return per transaction)%n", connectionScope.getValue());
+        }
+        if (config.getSsl() != null) {
+            System.out.printf("  - SSL: %s%n", config.getSsl() ? "on" : "off");
+        }
+        if (config.getServiceTime() != null) {
+            System.out.printf("  - Service Time: %s%n", config.getServiceTime());
+        }
+        if (!DatabaseConfig.DEFAULT_DRIVER_PROFILE.equals(config.getDriverProfile())) {
+            System.out.printf("  - Driver Profile: %s (%d properties)%n",
+                    config.getDriverProfile(), dbAdapter.getDriverProperties().size());
+        }
         System.out.println("-".repeat(80));
         System.out.println("Results:");
         System.out.printf("  - Total Transactions: %,d%n", stats.get("totalTransactions"));
@@ -227,6 +792,10 @@ public class MultiDBLoadTester {
         System.out.printf("  - Total Updates: %,d%n", stats.get("totalUpdates"));
         System.out.printf("  - Total Deletes: %,d%n", stats.get("totalDeletes"));
         System.out.printf("  - Total Errors: %,d%n", stats.get("totalErrors"));
+        if (retryPolicy.isEnabled()) {
+            System.out.printf("  - Total Retries: %,d (retried transactions committed: %,d)%n",
+                    stats.get("totalRetries"), stats.get("retriedTransactions"));
+        }
         System.out.printf("  - Elapsed Time: %.2fs%n", stats.get("elapsedSeconds"));
         if (warmupSeconds > 0) {
             System.out.printf("  - Average TPS: %.2f%n", stats.get("postWarmupTps"));
@@ -241,28 +810,486 @@ public class MultiDBLoadTester {
         System.out.printf("  - P99: %.2fms%n", latencyStats.get("p99"));
         System.out.printf("  - Min: %.2fms%n", latencyStats.get("min"));
         System.out.printf("  - Max: %.2fms%n", latencyStats.get("max"));
+        printPhaseSummary(perfCounter.getPhaseSummaries());
+        if (mode == WorkMode.CONNECT_STORM) {
+            printConnectStormSummary(getConnectStormSummary(stats, warmupSeconds > 0));
+        }
+        List<Map<String, Object>> endpointSummaries = dbAdapter.getEndpointSummaries();
+        if (!endpointSummaries.isEmpty()) {
+            printEndpointSummary(endpointSummaries);
+        }
+        if (perfCounter.isRoleStatsEnabled()) {
+            printRoleSummary(perfCounter.getRoleSummaries());
+        }
+        if (perfCounter.isVariantStatsEnabled()) {
+            printVariantSummary(perfCounter.getVariantSummaries(), perfCounter.compareVariants());
+        }
+        if (lagProbe != null) {
+            printLagSummary(lagProbe.getSummary());
+        }
+        if (outageDetector != null) {
+            printOutageSummary(outageDetector.getWindows());
+        }
+        if (poolChaos != null) {
+            printPoolChaosSummary(poolChaos.getSummary());
+        }
+        if (sweep != null && !sweep.getResults().isEmpty()) {
+            printSweepSummary(sweep.fit());
+        }
+        if (trials != null && !trials.getResults().isEmpty()) {
+            printTrialSummary();
+        }
+        printErrorCategorySummary(perfCounter.getErrorCategoryStats());
+        if (reconnectCoordinator != null) {
+            printReconnectSummary(reconnectCoordinator.getSummary());
+        }
         System.out.println("=".repeat(80));
     }
 
+    private void printVariantSummary(List<Map<String, Object>> summaries, List<Map<String, Object>> comparisons) {
+        System.out.println("-".repeat(80));
+        System.out.println("Driver Variants (A/B):");
+        System.out.printf("  %-12s %12s %8s %9s %9s %9s %9s%n",
+                "Variant", "Transactions", "Errors", "Avg(ms)", "P50", "P95", "P99");
+        for (Map<String, Object> summary : summaries) {
+            System.out.printf("  %-12s %,12d %,8d %9.2f %9.2f %9.2f %9.2f%n",
+                    summary.get("name"),
+                    ((Number) summary.get("totalTransactions")).longValue(),
+                    ((Number) summary.get("totalErrors")).longValue(),
+                    ((Number) summary.get("latencyAvg")).doubleValue(),
+                    ((Number) summary.get("latencyP50")).doubleValue(),
+                    ((Number) summary.get("latencyP95")).doubleValue(),
+                    ((Number) summary.get("latencyP99")).doubleValue());
+        }
+        for (Map<String, Object> comparison : comparisons) {
+            System.out.printf("  - %s vs %s: mean %+.2f%%, throughput/worker x%.3f, Welch t=%.2f (df=%s, %s batches), p=%.4f %s%n",
+                    comparison.get("variant"), comparison.get("baseline"),
+                    ((Number) comparison.get("meanDiffPct")).doubleValue(),
+                    ((Number) comparison.get("throughputRatio")).doubleValue(),
+                    ((Number) comparison.get("tStatistic")).doubleValue(),
+                    comparison.get("degreesOfFreedom"), comparison.get("batches"),
+                    ((Number) comparison.get("pValue")).doubleValue(),
+                    Boolean.TRUE.equals(comparison.get("significant")) ? "(significant)" : "(not significant)");
+        }
+    }
+
+    private void printPhaseSummary(List<Map<String, Object>> phases) {
+        if (phases.isEmpty()) return;
+        System.out.println("-".repeat(80));
+        System.out.println("Latency by Phase:");
+        System.out.printf("  %-10s %12s %9s %9s %9s %9s %9s%n",
+                "Phase", "Count", "Avg(ms)", "P50", "P95", "P99", "Max");
+        for (Map<String, Object> phase : phases) {
+            System.out.printf("  %-10s %,12d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    phase.get("phase"),
+                    ((Number) phase.get("count")).longValue(),
+                    ((Number) phase.get("avgMs")).doubleValue(),
+                    ((Number) phase.get("p50Ms")).doubleValue(),
+                    ((Number) phase.get("p95Ms")).doubleValue(),
+                    ((Number) phase.get("p99Ms")).doubleValue(),
+                    ((Number) phase.get("maxMs")).doubleValue());
+        }
+    }
+
+    /**
+     * 접속 폭주 결과 - 초당 접속 수 + 접속(CONNECT 단계) 레이턴시
+     */
+    private Map<String, Object> getConnectStormSummary(Map<String, Object> stats, boolean warmup) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("dbType", config.getDbType());
+        summary.put("ssl", config.getSsl() == null ? "default" : config.getSsl() ? "on" : "off");
+        summary.put("connects", stats.get("totalTransactions"));
+        summary.put("failedConnects", stats.get("totalErrors"));
+        summary.put("connectsPerSecond", warmup ? stats.get("postWarmupTps") : stats.get("avgTps"));
+        for (Map<String, Object> phase : perfCounter.getPhaseSummaries()) {
+            if (PhaseTimer.Phase.CONNECT.getValue().equals(phase.get("phase"))) {
+                phase.forEach((key, value) -> {
+                    if (key.endsWith("Ms")) summary.put("connect" + Character.toUpperCase(key.charAt(0)) + key.substring(1), value);
+                });
+            }
+        }
+        return summary;
+    }
+
+    private void printConnectStormSummary(Map<String, Object> summary) {
+        System.out.println("-".repeat(80));
+        System.out.printf("Connection Storm (%s, ssl: %s):%n", summary.get("dbType"), summary.get("ssl"));
+        System.out.printf("  - Connects: %,d (failed: %,d)%n",
+                ((Number) summary.get("connects")).longValue(),
+                ((Number) summary.get("failedConnects")).longValue());
+        System.out.printf("  - Connects/sec: %.2f%n", ((Number) summary.get("connectsPerSecond")).doubleValue());
+        if (summary.containsKey("connectAvgMs")) {
+            System.out.printf("  - Connect latency: avg %.2fms, p50 %.2fms, p95 %.2fms, p99 %.2fms, p99.9 %.2fms, max %.2fms%n",
+                    ((Number) summary.get("connectAvgMs")).doubleValue(),
+                    ((Number) summary.get("connectP50Ms")).doubleValue(),
+                    ((Number) summary.get("connectP95Ms")).doubleValue(),
+                    ((Number) summary.get("connectP99Ms")).doubleValue(),
+                    ((Number) summary.get("connectP999Ms")).doubleValue(),
+                    ((Number) summary.get("connectMaxMs")).doubleValue());
+        }
+    }
+
+    private void printPoolChaosSummary(List<Map<String, Object>> rows) {
+        System.out.println("-".repeat(80));
+        System.out.printf("Pool Chaos (churn window: %,dms after each action):%n", poolChaos.getImpactWindowMs());
+        System.out.printf("  %-8s %12s %8s %10s %9s %9s %9s %9s%n",
+                "Window", "Transactions", "Errors", "Reconnects", "Avg(ms)", "P50", "P99", "Max");
+        for (Map<String, Object> row : rows) {
+            System.out.printf("  %-8s %,12d %,8d %,10d %9.2f %9.2f %9.2f %9.2f%n",
+                    row.get("name"),
+                    ((Number) row.get("totalTransactions")).longValue(),
+                    ((Number) row.get("totalErrors")).longValue(),
+                    ((Number) row.get("reconnects")).longValue(),
+                    ((Number) row.get("latencyAvg")).doubleValue(),
+                    ((Number) row.get("latencyP50")).doubleValue(),
+                    ((Number) row.get("latencyP99")).doubleValue(),
+                    ((Number) row.get("latencyMax")).doubleValue());
+        }
+        Map<String, Object> churn = rows.get(rows.size() - 1);
+        System.out.printf("  - Soft evictions: %,d, forced closes: %,d, churn/steady P99 x%.3f (Welch p=%.4f)%n",
+                ((Number) churn.get("softEvictions")).longValue(),
+                ((Number) churn.get("forcedCloses")).longValue(),
+                ((Number) churn.get("p99Ratio")).doubleValue(),
+                ((Number) churn.get("pValue")).doubleValue());
+    }
+
+    private String describeAdaptiveWarmup(int capSeconds) {
+        double detected = warmupDetector.getWarmupSeconds();
+        if (detected < 0) {
+            return String.format("adaptive, stopped before steady state (cap %ds)", capSeconds);
+        }
+        Map<String, Object> summary = warmupDetector.getSummary();
+        return String.format("%.2fs adaptive (%s, TPS CV %s, latency CV %s; cap %ds)", detected,
+                warmupDetector.isSteadyStateReached() ? "steady state" : "cap reached",
+                SteadyStateDetector.cvText(((Number) summary.get("tpsCv")).doubleValue()),
+                SteadyStateDetector.cvText(((Number) summary.get("latencyCv")).doubleValue()), capSeconds);
+    }
+
+    private void printTrialSummary() {
+        System.out.println("-".repeat(80));
+        System.out.printf("Repeated Trials (%ds warmup + %ds measurement per trial, reset: %s):%n",
+                trials.getWarmupSeconds(), trials.getDurationSeconds(), trials.getReset().getValue());
+        System.out.printf("  %5s %12s %9s %9s %9s %9s %9s %8s%n",
+                "Trial", "TPS", "Avg(ms)", "P50", "P95", "P99", "P99.9", "Errors");
+        for (Map<String, Object> row : trials.getResults()) {
+            System.out.printf("  %5d %,12.2f %9.2f %9.2f %9.2f %9.2f %9.2f %,8d%n",
+                    ((Number) row.get("trial")).intValue(),
+                    ((Number) row.get("tps")).doubleValue(),
+                    ((Number) row.get("latencyAvg")).doubleValue(),
+                    ((Number) row.get("latencyP50")).doubleValue(),
+                    ((Number) row.get("latencyP95")).doubleValue(),
+                    ((Number) row.get("latencyP99")).doubleValue(),
+                    ((Number) row.get("latencyP999")).doubleValue(),
+                    ((Number) row.get("errors")).longValue());
+        }
+        System.out.printf("  %-12s %12s %10s %25s %7s%n", "Metric", "Mean", "StdDev", "95% CI", "CV");
+        for (Map<String, Object> row : trials.getStatistics()) {
+            System.out.printf("  %-12s %,12.2f %10.2f %25s %6.2f%%%n",
+                    row.get("metric"),
+                    ((Number) row.get("mean")).doubleValue(),
+                    ((Number) row.get("stdDev")).doubleValue(),
+                    String.format("[%,.2f, %,.2f]", ((Number) row.get("ci95Low")).doubleValue(),
+                            ((Number) row.get("ci95High")).doubleValue()),
+                    ((Number) row.get("cvPct")).doubleValue());
+        }
+        if (trials.getResults().size() < 2) {
+            System.out.println("  - Confidence intervals need at least 2 completed trials");
+        }
+    }
+
+    private void printSweepSummary(UniversalScalabilityLaw model) {
+        System.out.println("-".repeat(80));
+        System.out.printf("Scalability Sweep (%ds warmup + %ds measurement per stage, pool wait: acquire ms / pending threads avg/max):%n",
+                sweep.getWarmupSeconds(), sweep.getDurationSeconds());
+        System.out.printf("  %7s %12s %9s %9s %8s %13s %13s %12s%n",
+                "Threads", "TPS", "P50(ms)", "P99(ms)", "Errors", "Acquire P99", "Pending", "USL TPS");
+        for (Map<String, Object> row : sweep.getResultsWithModel(model)) {
+            System.out.printf("  %7d %,12.2f %9.2f %9.2f %,8d %13.2f %8.1f/%-4d %12s%n",
+                    ((Number) row.get("threads")).intValue(),
+                    ((Number) row.get("tps")).doubleValue(),
+                    ((Number) row.get("latencyP50")).doubleValue(),
+                    ((Number) row.get("latencyP99")).doubleValue(),
+                    ((Number) row.get("errors")).longValue(),
+                    ((Number) row.get("poolWaitP99")).doubleValue(),
+                    ((Number) row.get("poolPendingAvg")).doubleValue(),
+                    ((Number) row.get("poolPendingMax")).longValue(),
+                    row.containsKey("uslTps") ? String.format("%,.2f", ((Number) row.get("uslTps")).doubleValue()) : "-");
+        }
+        if (model == null) {
+            System.out.println("  - USL fit: needs at least 3 completed stages with distinct thread counts");
+            return;
+        }
+        System.out.printf("  - USL fit: lambda=%.2f TPS/thread, contention sigma=%.6f, coherency kappa=%.6f (R^2=%.4f)%n",
+                model.getLambda(), model.getSigma(), model.getKappa(), model.getRSquared());
+        double peak = model.peakConcurrency();
+        if (Double.isInfinite(peak)) {
+            double ceiling = model.peakThroughput();
+            System.out.printf("  - No retrograde region (kappa=0): throughput ceiling %s%n",
+                    Double.isInfinite(ceiling) ? "unbounded (linear)" : String.format("%,.2f TPS", ceiling));
+        } else {
+            System.out.printf("  - Predicted peak: %,.2f TPS at %.1f threads%n", model.peakThroughput(), peak);
+        }
+    }
+
+    private void printErrorCategorySummary(List<Map<String, Object>> categories) {
+        if (categories.isEmpty()) return;
+        System.out.println("-".repeat(80));
+        System.out.println("Errors by Category:");
+        System.out.printf("  %-12s %12s %12s%n", "Category", "Errors", "Retries");
+        for (Map<String, Object> category : categories) {
+            System.out.printf("  %-12s %,12d %,12d%n", category.get("category"),
+                    ((Number) category.get("errors")).longValue(),
+                    ((Number) category.get("retries")).longValue());
+        }
+    }
+
+    private void printReconnectSummary(Map<String, Object> summary) {
+        System.out.println("-".repeat(80));
+        System.out.println("Reconnect Coordinator:");
+        System.out.printf("  - Attempts: %,d (failed: %,d, deferred: %,d)%n",
+                ((Number) summary.get("attempts")).longValue(),
+                ((Number) summary.get("failedAttempts")).longValue(),
+                ((Number) summary.get("deferredAttempts")).longValue());
+        System.out.printf("  - Pool Timeouts: %,d (not counted as failures) | Reconnect Checks: %,d%n",
+                ((Number) summary.get("poolTimeouts")).longValue(),
+                ((Number) summary.get("reconnectChecks")).longValue());
+        System.out.printf("  - Breaker Opens: %,d | Max Concurrent Attempts: %s | Final State: %s%n",
+                ((Number) summary.get("breakerOpens")).longValue(),
+                summary.get("maxConcurrentAttempts"), summary.get("finalState"));
+    }
+
+    private void printDurabilitySummary(Map<String, Object> result) {
+        System.out.println("-".repeat(80));
+        System.out.println("Durability Verification (ledger: " + result.get("ledgerDirectory") + "):");
+        System.out.printf("  - Ledger Entries: %,d (acknowledged IDs: %,d)%n",
+                ((Number) result.get("ledgerEntries")).longValue(),
+                ((Number) result.get("acknowledgedIds")).longValue());
+        System.out.printf("  - Verified: %,d | Lost: %,d | Phantom: %,d | Stale: %,d | Unacknowledged: %,d | In-doubt: %,d%n",
+                ((Number) result.get("verifiedRows")).longValue(),
+                ((Number) result.get("lostRows")).longValue(),
+                ((Number) result.get("phantomRows")).longValue(),
+                ((Number) result.get("staleRows")).longValue(),
+                ((Number) result.get("unacknowledgedRows")).longValue(),
+                ((Number) result.get("inDoubtRows")).longValue());
+        printSample("Lost IDs", result.get("lostSample"));
+        printSample("Phantom IDs", result.get("phantomSample"));
+        printSample("Stale IDs", result.get("staleSample"));
+        List<?> failed = (List<?>) result.get("failedRanges");
+        if (!failed.isEmpty()) {
+            System.out.println("  - Failed ranges (not verified): " + failed);
+        }
+        System.out.printf("  - Elapsed: %,dms%n", ((Number) result.get("elapsedMs")).longValue());
+        System.out.println("=".repeat(80));
+    }
+
+    private static void printSample(String label, Object sample) {
+        List<?> ids = (List<?>) sample;
+        if (!ids.isEmpty()) {
+            System.out.println("  - " + label + " (sample): " + ids);
+        }
+    }
+
+    private void printLagSummary(Map<String, Object> lag) {
+        System.out.println("-".repeat(80));
+        System.out.println("Replication Visibility Lag:");
+        System.out.printf("  - Samples: %,d (timeouts: %,d, probe errors: %,d)%n",
+                ((Number) lag.get("samples")).longValue(),
+                ((Number) lag.get("timeouts")).longValue(),
+                ((Number) lag.get("probeErrors")).longValue());
+        System.out.printf("  - Mean: %.2fms | P50: %.2fms | P95: %.2fms | P99: %.2fms | P99.9: %.2fms | Max: %.2fms%n",
+                lag.get("lagMeanMs"), lag.get("lagP50Ms"), lag.get("lagP95Ms"),
+                lag.get("lagP99Ms"), lag.get("lagP999Ms"), lag.get("lagMaxMs"));
+    }
+
+    private void printRoleSummary(List<Map<String, Object>> summaries) {
+        System.out.println("-".repeat(80));
+        System.out.println("Read/Write Split (read strategy: " + config.getReadEndpointStrategy().getValue() + "):");
+        System.out.printf("  %-6s %14s %10s %10s %10s %10s %10s%n",
+                "Role", "Transactions", "Errors", "Avg", "P95", "P99", "Max");
+        for (Map<String, Object> rs : summaries) {
+            System.out.printf("  %-6s %,14d %,10d %8.2fms %8.2fms %8.2fms %8.2fms%n",
+                    rs.get("name"),
+                    ((Number) rs.get("totalTransactions")).longValue(),
+                    ((Number) rs.get("totalErrors")).longValue(),
+                    ((Number) rs.get("latencyAvg")).doubleValue(),
+                    ((Number) rs.get("latencyP95")).doubleValue(),
+                    ((Number) rs.get("latencyP99")).doubleValue(),
+                    ((Number) rs.get("latencyMax")).doubleValue());
+        }
+    }
+
+    private void printEndpointSummary(List<Map<String, Object>> summaries) {
+        System.out.println("-".repeat(80));
+        System.out.println("Endpoints (strategy: " + config.getEndpointStrategy().getValue() + "):");
+        System.out.printf("  %-10s %-8s %-28s %14s %10s %12s%n",
+                "Name", "Role", "Address", "Transactions", "Errors", "Avg Latency");
+        for (Map<String, Object> ep : summaries) {
+            System.out.printf("  %-10s %-8s %-28s %,14d %,10d %10.2fms%n",
+                    ep.get("name"), ep.get("role"), ep.get("address"),
+                    ((Number) ep.get("totalTransactions")).longValue(),
+                    ((Number) ep.get("totalErrors")).longValue(),
+                    ((Number) ep.get("latencyAvg")).doubleValue());
+        }
+    }
+
+    private void printOutageSummary(List<OutageWindow> windows) {
+        System.out.println("-".repeat(80));
+        System.out.println("Outage Windows:");
+        if (windows.isEmpty()) {
+            System.out.println("  - None detected");
+            return;
+        }
+        System.out.printf("  %-4s %-12s %10s %12s %14s %10s %10s%n",
+                "#", "Trigger", "Start(s)", "Downtime", "FullRecovery", "Lost", "Reconnects");
+        long testStart = perfCounter.getStartTime();
+        for (OutageWindow w : windows) {
+            System.out.printf("  %-4d %-12s %10.2f %12s %14s %,10d %,10d%n",
+                    w.getSequence(), w.getTrigger(),
+                    (w.getStartMs() - testStart) / 1000.0,
+                    formatDuration(w.getDowntimeMs()),
+                    formatDuration(w.getTimeToFullRecoveryMs()),
+                    w.getLostTransactions(), w.getReconnects());
+        }
+    }
+
+    private static String formatDuration(long ms) {
+        return ms < 0 ? "n/a" : String.format("%,dms", ms);
+    }
+
     private void exportResults(String format, String filepath, int threadCount,
                                 int durationSeconds, WorkMode mode) {
         Map<String, Object> stats = perfCounter.getStats();
         Map<String, Double> latencyStats = perfCounter.getLatencyStats();
-        List<Map<String, Object>> timeSeries = perfCounter.getTimeSeries();
+        TimeSeriesStore timeSeries = perfCounter.getTimeSeries();
 
         Map<String, Object> configMap = new LinkedHashMap<>();
         configMap.put("dbType", config.getDbType());
-        configMap.put("host", config.getHost());
+        if (!dbAdapter.isEmbedded()) {
+            configMap.put("host", config.getHost());
+        } else if (config.getDatabase() != null) {
+            configMap.put("databaseFile", config.getDatabase());
+        }
         configMap.put("mode", mode.getValue());
         configMap.put("threadCount", threadCount);
         configMap.put("durationSeconds", durationSeconds);
         configMap.put("minPoolSize", config.getMinPoolSize());
         configMap.put("maxPoolSize", config.getMaxPoolSize());
+        configMap.put("poolType", config.getPoolType().getValue());
+        configMap.put("connectionScope", connectionScope.getValue());
+        configMap.put("commitProfile", config.getCommitProfile());
+        configMap.put("driverProfile", config.getDriverProfile());
+        if (config.getSsl() != null) {
+            configMap.put("ssl", config.getSsl() ? "on" : "off");
+        }
+        if (config.getServiceTime() != null) {
+            configMap.put("serviceTime", config.getServiceTime());
+        }
+        if (config.isMultiEndpoint()) {
+            configMap.put("endpoints", config.getEndpoints().stream().map(Endpoint::toString).toList());
+            configMap.put("endpointStrategy", config.getEndpointStrategy().getValue());
+        }
+        if (faultProxy != null) {
+            configMap.put("faultSchedule", faultSchedule.stream().map(FaultSpec::toString).toList());
+        }
+        if (poolChaos != null) {
+            configMap.put("poolChaos", chaosSchedule.stream().map(ChaosSpec::toString).collect(Collectors.joining(";")));
+            configMap.put("poolChaosWindowMs", chaosImpactWindowMs);
+        }
+        if (config.isReadSplit()) {
+            configMap.put("readEndpoints", config.getReadEndpoints().stream().map(Endpoint::toString).toList());
+            configMap.put("readStrategy", config.getReadEndpointStrategy().getValue());
+        }
+        if (retryPolicy.isEnabled()) {
+            configMap.put("retryPolicy", retryPolicy.toString());
+        }
+        if (warmupDetector != null) {
+            configMap.put("warmupMode", "adaptive");
+            configMap.put("warmupWindowSeconds", warmupWindowSeconds);
+            configMap.put("warmupCvThreshold", warmupCvThreshold);
+        }
+        if (trials != null) {
+            configMap.put("trials", trials.getStepCount());
+            configMap.put("trialWarmupSeconds", trials.getWarmupSeconds());
+            configMap.put("trialReset", trials.getReset().getValue());
+        }
+        if (sweep != null) {
+            configMap.put("sweepStages", sweep.getStages().stream().map(String::valueOf).collect(Collectors.joining(";")));
+            configMap.put("sweepStageWarmupSeconds", sweep.getWarmupSeconds());
+            configMap.put("sweepStageDurationSeconds", sweep.getDurationSeconds());
+        }
+        configMap.put("timeSeriesResolution", timeSeries.getExportResolution().getValue());
+        if (timeSeriesSink != null) {
+            configMap.put("timeSeriesFile", timeSeriesSink.getPath().toString());
+            configMap.put("timeSeriesFsyncSeconds", timeSeriesFsyncSeconds);
+            configMap.put("timeSeriesRows", timeSeriesSink.getRowCount());
+        }
+        if (histogramLog != null) {
+            configMap.put("histogramLog", histogramLog.getPath().toString());
+            configMap.put("histogramLogIntervalMs", histogramLog.getIntervalMs());
+        }
+        if (!variantAdapters.isEmpty()) {
+            configMap.put("variants", variants.stream().map(DriverVariant::toString).collect(Collectors.joining(";")));
+        }
+
+        Map<String, Object> extraSections = new LinkedHashMap<>();
+        if (!dbAdapter.getDriverProperties().isEmpty()) {
+            // CSV 설정 행은 key,value 한 쌍이므로 속성 목록은 별도 섹션으로 기록
+            extraSections.put("driverProperties", dbAdapter.getDriverProperties());
+        }
+        extraSections.put("events", perfCounter.getEvents());
+        if (warmupDetector != null) {
+            extraSections.put("warmup", warmupDetector.getSummary());
+        }
+        List<Map<String, Object>> phaseSummaries = perfCounter.getPhaseSummaries();
+        if (!phaseSummaries.isEmpty()) {
+            extraSections.put("phaseLatency", phaseSummaries);
+        }
+        if (mode == WorkMode.CONNECT_STORM) {
+            extraSections.put("connectStorm", getConnectStormSummary(stats, perfCounter.hasWarmupConfig()));
+        }
+        List<Map<String, Object>> endpointSummaries = dbAdapter.getEndpointSummaries();
+        if (!endpointSummaries.isEmpty()) {
+            extraSections.put("endpointStatistics", endpointSummaries);
+        }
+        if (perfCounter.isRoleStatsEnabled()) {
+            extraSections.put("roleStatistics", perfCounter.getRoleSummaries());
+        }
+        if (perfCounter.isVariantStatsEnabled()) {
+            extraSections.put("variantStatistics", perfCounter.getVariantSummaries());
+            extraSections.put("variantComparison", perfCounter.compareVariants());
+        }
+        if (lagProbe != null) {
+            extraSections.put("replicationLag", lagProbe.getSummary());
+        }
+        if (durabilityResult != null) {
+            extraSections.put("durability", durabilityResult);
+        }
+        if (reconnectCoordinator != null) {
+            extraSections.put("reconnect", reconnectCoordinator.getSummary());
+        }
+        if (poolChaos != null) {
+            extraSections.put("poolChaos", poolChaos.getSummary());
+        }
+        if (trials != null && !trials.getResults().isEmpty()) {
+            extraSections.put("trials", trials.getResults());
+            extraSections.put("trialStatistics", trials.getStatistics());
+        }
+        if (sweep != null && !sweep.getResults().isEmpty()) {
+            UniversalScalabilityLaw model = sweep.fit();
+            extraSections.put("scalability", sweep.getResultsWithModel(model));
+            if (model != null) {
+                extraSections.put("uslFit", model.toMap());
+            }
+        }
+        List<Map<String, Object>> errorCategories = perfCounter.getErrorCategoryStats();
+        if (!errorCategories.isEmpty()) {
+            extraSections.put("errorClassification", errorCategories);
+        }
 
         if ("csv".equalsIgnoreCase(format)) {
-            ResultExporter.exportCsv(filepath, stats, timeSeries, configMap);
+            ResultExporter.exportCsv(filepath, stats, timeSeries, configMap, extraSections);
         } else if ("json".equalsIgnoreCase(format)) {
-            ResultExporter.exportJson(filepath, stats, timeSeries, configMap, latencyStats);
+            ResultExporter.exportJson(filepath, stats, timeSeries, configMap, latencyStats, extraSections);
         }
     }
 
@@ -273,6 +1300,12 @@ public class MultiDBLoadTester {
             logsDir.mkdirs();
         }
 
+        // 히스토그램 로그 병합 서브커맨드 (테스트 실행 없음)
+        if (args.length > 0 && HistogramLogMerger.COMMAND.equals(args[0])) {
+            HistogramLogMerger.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
         Options options = buildOptions();
         CommandLineParser parser = new DefaultParser();
 
@@ -289,19 +1322,43 @@ public class MultiDBLoadTester {
                 return;
             }
 
-            // 필수 옵션 확인
-            if (!cmd.hasOption("db-type") || !cmd.hasOption("host") ||
-                !cmd.hasOption("user") || !cmd.hasOption("password")) {
-                System.err.println("Error: Required options missing: --db-type, --host, --user, --password");
+            // 필수 옵션 확인 (--endpoints 지정 시 --host 생략 가능, 임베디드 SQLite는 --database 파일 경로만, null은 없음)
+            List<Endpoint> endpoints = Endpoint.parseList(cmd.getOptionValue("endpoints"), "node");
+            String dbType = cmd.getOptionValue("db-type");
+            boolean embedded = "sqlite".equalsIgnoreCase(dbType) || "null".equalsIgnoreCase(dbType);
+            if ("sqlite".equalsIgnoreCase(dbType) && !cmd.hasOption("database")) {
+                System.err.println("Error: Required options missing: --database (SQLite database file path)");
+                printHelp(options);
+                System.exit(1);
+            }
+            if (!cmd.hasOption("db-type") || (!embedded && ((!cmd.hasOption("host") && endpoints.isEmpty()) ||
+                !cmd.hasOption("user") || !cmd.hasOption("password")))) {
+                System.err.println("Error: Required options missing: --db-type, --host (or --endpoints), --user, --password");
                 printHelp(options);
                 System.exit(1);
             }
 
-            // 설정 빌드
+            // 설정 빌드 (--endpoints 지정 시 첫 번째 엔드포인트가 기본 host/port)
+            String host = cmd.getOptionValue("host");
+            int port = cmd.hasOption("port") ? Integer.parseInt(cmd.getOptionValue("port")) : 0;
+            if (!endpoints.isEmpty() && host == null) {
+                host = endpoints.get(0).getHost();
+                port = endpoints.get(0).getPort();
+            }
+            Boolean ssl = null;
+            if (cmd.hasOption("ssl")) {
+                try {
+                    ssl = parseOnOff(cmd.getOptionValue("ssl"));
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Error: --ssl " + e.getMessage());
+                    printHelp(options);
+                    System.exit(1);
+                }
+            }
             DatabaseConfig config = DatabaseConfig.builder()
                     .dbType(cmd.getOptionValue("db-type"))
-                    .host(cmd.getOptionValue("host"))
-                    .port(cmd.hasOption("port") ? Integer.parseInt(cmd.getOptionValue("port")) : 0)
+                    .host(host)
+                    .port(port)
                     .database(cmd.getOptionValue("database"))
                     .sid(cmd.getOptionValue("sid"))
                     .user(cmd.getOptionValue("user"))
@@ -313,9 +1370,185 @@ public class MultiDBLoadTester {
                     .idleCheckIntervalSeconds(Integer.parseInt(cmd.getOptionValue("idle-check-interval", "30")))
                     .idleTimeoutSeconds(Integer.parseInt(cmd.getOptionValue("idle-timeout", "30")))
                     .keepaliveTimeSeconds(Integer.parseInt(cmd.getOptionValue("keepalive-time", "30")))
+                    .connectionTimeoutMs(Integer.parseInt(cmd.getOptionValue("connection-timeout", "30000")))
+                    .endpoints(endpoints)
+                    .endpointStrategy(EndpointStrategy.fromString(cmd.getOptionValue("endpoint-strategy", "failover")))
+                    .readEndpoints(Endpoint.parseList(cmd.getOptionValue("read-endpoints"), "read"))
+                    .readEndpointStrategy(EndpointStrategy.fromString(cmd.getOptionValue("read-strategy", "round-robin")))
+                    .commitProfile(cmd.getOptionValue("commit-profile", DatabaseConfig.DEFAULT_COMMIT_PROFILE))
+                    .driverProfile(cmd.getOptionValue("driver-profile", DatabaseConfig.DEFAULT_DRIVER_PROFILE))
+                    .poolType(PoolType.fromString(cmd.getOptionValue("pool", "hikari")))
+                    .ssl(ssl)
+                    .serviceTime(cmd.getOptionValue("service-time"))
                     .build();
 
             MultiDBLoadTester tester = new MultiDBLoadTester(config);
+            String driverProfile = config.getDriverProfile();
+            if (!isValidDriverProfile(driverProfile)) {
+                System.err.println("Error: --driver-profile must be default, tuned or a properties file: " + driverProfile);
+                System.exit(1);
+            }
+            if (config.getSsl() != null && !tester.supportsSsl()) {
+                System.err.println("Error: --ssl is not supported for " + config.getDbType());
+                System.exit(1);
+            }
+            if (config.getServiceTime() != null) {
+                if (!"null".equalsIgnoreCase(config.getDbType())) {
+                    System.err.println("Error: --service-time is only supported for --db-type null");
+                    System.exit(1);
+                }
+                ServiceTimeSpec.parse(config.getServiceTime());
+            }
+            WorkMode mode = WorkMode.fromString(cmd.getOptionValue("mode", "full"));
+            if (mode == WorkMode.CONNECT_STORM && !cmd.hasOption("min-pool-size")) {
+                // 접속 폭주 모드의 풀은 스키마 설정용 - 미리 세션을 만들어 서버 자원을 점유하지 않도록
+                config.setMinPoolSize(1);
+            }
+            if (!tester.getCommitProfiles().contains(config.getCommitProfile())) {
+                System.err.println("Error: Unsupported --commit-profile for " + config.getDbType() + ": "
+                        + config.getCommitProfile() + " (supported: " + String.join(", ", tester.getCommitProfiles()) + ")");
+                System.exit(1);
+            }
+            tester.setOutageDetection(
+                    !cmd.hasOption("no-outage-detection"),
+                    Long.parseLong(cmd.getOptionValue("outage-min-gap", "1000")),
+                    Double.parseDouble(cmd.getOptionValue("outage-error-ratio", "0.5")),
+                    Double.parseDouble(cmd.getOptionValue("outage-recovery-ratio", "0.9")));
+
+            // 복제 지연 측정은 standby(읽기 풀) 필요
+            long lagProbeInterval = Long.parseLong(cmd.getOptionValue("lag-probe-interval", "0"));
+            if (lagProbeInterval > 0 && !config.isReadSplit()) {
+                System.err.println("Error: --lag-probe-interval requires --read-endpoints (standby to poll)");
+                System.exit(1);
+            }
+            tester.setLagProbeInterval(lagProbeInterval);
+            tester.setReconnectPolicy(
+                    Integer.parseInt(cmd.getOptionValue("reconnect-max-concurrent", "8")),
+                    Integer.parseInt(cmd.getOptionValue("breaker-threshold", "5")),
+                    Long.parseLong(cmd.getOptionValue("reconnect-max-backoff", "5000")));
+            // 풀 구현/드라이버 변형 비교는 대여/반환 경로가 매 트랜잭션 실행되도록 트랜잭션 단위 보유가 기본
+            boolean poolComparison = cmd.hasOption("pool") || cmd.hasOption("variants");
+            tester.setConnectionScope(ConnectionScope.fromString(
+                    cmd.getOptionValue("connection-scope", poolComparison ? "transaction" : "worker")));
+            tester.setRetryPolicy(new RetryPolicy(
+                    Integer.parseInt(cmd.getOptionValue("max-retries", "0")),
+                    ErrorCategory.parseSet(cmd.getOptionValue("retry-categories", "transient,deadlock,connection")),
+                    Long.parseLong(cmd.getOptionValue("retry-backoff", "50")),
+                    Long.parseLong(cmd.getOptionValue("retry-max-backoff", "1000"))));
+            if (cmd.hasOption("fault-proxy") || cmd.hasOption("fault-schedule")) {
+                tester.setFaultProxy(Integer.parseInt(cmd.getOptionValue("fault-proxy-port", "0")),
+                        FaultSpec.parseSchedule(cmd.getOptionValue("fault-schedule")));
+            }
+            if (cmd.hasOption("pool-chaos")) {
+                tester.setPoolChaos(ChaosSpec.parseSchedule(cmd.getOptionValue("pool-chaos")),
+                        Long.parseLong(cmd.getOptionValue("pool-chaos-window", "5000")));
+            }
+            if (cmd.hasOption("adaptive-warmup")) {
+                int window = Integer.parseInt(cmd.getOptionValue("warmup-window", "10"));
+                double cv = Double.parseDouble(cmd.getOptionValue("warmup-cv", "0.05"));
+                if (window < 2 || cv <= 0) {
+                    System.err.println("Error: --warmup-window must be >= 2 and --warmup-cv > 0");
+                    System.exit(1);
+                }
+                if (Integer.parseInt(cmd.getOptionValue("warmup", "30")) <= 0) {
+                    System.err.println("Error: --adaptive-warmup requires --warmup > 0 (upper bound)");
+                    System.exit(1);
+                }
+                tester.setAdaptiveWarmup(window, cv);
+            }
+            if (cmd.hasOption("trials")) {
+                int trialCount = Integer.parseInt(cmd.getOptionValue("trials"));
+                int trialWarmup = Integer.parseInt(cmd.getOptionValue("trial-warmup", "10"));
+                RepeatedTrials.Reset reset = RepeatedTrials.Reset.fromString(cmd.getOptionValue("trial-reset", "none"));
+                if (trialCount < 2 || trialWarmup < 0) {
+                    System.err.println("Error: --trials must be >= 2 and --trial-warmup >= 0");
+                    System.exit(1);
+                }
+                if (cmd.hasOption("sweep")) {
+                    System.err.println("Error: --trials and --sweep cannot be combined");
+                    System.exit(1);
+                }
+                if (reset.truncates() && mode != WorkMode.FULL && mode != WorkMode.INSERT_ONLY
+                        && mode != WorkMode.CONNECT_STORM) {
+                    // 조회/수정/삭제 모드는 TRUNCATE 후 대상 행이 없어 대기만 하게 됨
+                    System.err.println("Error: --trial-reset " + reset.getValue() + " requires a mode that inserts rows "
+                            + "(full, insert-only); " + mode.getValue() + " needs existing data");
+                    System.exit(1);
+                }
+                if (reset.truncates() && cmd.hasOption("durability-ledger")) {
+                    System.err.println("Error: --trial-reset " + reset.getValue() + " deletes acknowledged rows "
+                            + "and cannot be combined with --durability-ledger");
+                    System.exit(1);
+                }
+                tester.setTrials(trialCount, trialWarmup,
+                        Integer.parseInt(cmd.getOptionValue("test-duration", "300")), reset);
+            }
+            if (cmd.hasOption("sweep")) {
+                int sweepWarmup = Integer.parseInt(cmd.getOptionValue("sweep-warmup", "10"));
+                int sweepDuration = Integer.parseInt(cmd.getOptionValue("sweep-duration", "30"));
+                if (sweepWarmup < 0 || sweepDuration <= 0) {
+                    System.err.println("Error: --sweep-warmup must be >= 0 and --sweep-duration > 0");
+                    System.exit(1);
+                }
+                List<Integer> stages = ScalabilitySweep.parseStages(cmd.getOptionValue("sweep"));
+                // 풀보다 큰 단계는 남는 워커가 connection-timeout까지 대기 후 실패하므로 풀을 가장 큰 단계에 맞춤
+                int largestStage = stages.stream().mapToInt(Integer::intValue).max().orElse(0);
+                if (largestStage > tester.getMaxPoolSizeLimit()) {
+                    System.err.printf("Error: --sweep stage of %d threads exceeds the %s pool size limit of %d%n",
+                            largestStage, config.getDbType(), tester.getMaxPoolSizeLimit());
+                    System.exit(1);
+                }
+                if (config.getMaxPoolSize() < largestStage) {
+                    if (cmd.hasOption("max-pool-size")) {
+                        System.err.printf("Error: --sweep stage of %d threads exceeds --max-pool-size %d "
+                                + "(extra workers would fail waiting for a connection)%n", largestStage, config.getMaxPoolSize());
+                        System.exit(1);
+                    }
+                    logger.info("[Sweep] max-pool-size raised to {} to fit the largest stage", largestStage);
+                    config.setMaxPoolSize(largestStage);
+                }
+                tester.setSweep(stages, sweepWarmup, sweepDuration);
+            }
+            if (cmd.hasOption("variants")) {
+                List<DriverVariant> variantList = DriverVariant.parseList(cmd.getOptionValue("variants"));
+                if (variantList.size() < 2) {
+                    System.err.println("Error: --variants requires at least two variants");
+                    System.exit(1);
+                }
+                Set<String> variantNames = new HashSet<>();
+                for (DriverVariant variant : variantList) {
+                    if (!isValidDriverProfile(variant.getDriverProfile())) {
+                        System.err.println("Error: --variants profile must be default, tuned or a properties file: "
+                                + variant.getDriverProfile());
+                        System.exit(1);
+                    }
+                    if (!variantNames.add(variant.getName())) {
+                        System.err.println("Error: duplicate variant name in --variants: " + variant.getName());
+                        System.exit(1);
+                    }
+                }
+                tester.setVariants(variantList);
+            }
+            if (cmd.hasOption("timeseries-file")) {
+                int fsyncSeconds = Integer.parseInt(cmd.getOptionValue("timeseries-fsync", "10"));
+                if (fsyncSeconds < 0) {
+                    System.err.println("Error: --timeseries-fsync must be >= 0");
+                    System.exit(1);
+                }
+                tester.setTimeSeriesFile(cmd.getOptionValue("timeseries-file"), fsyncSeconds);
+            }
+            if (cmd.hasOption("histogram-log")) {
+                long histogramInterval = Long.parseLong(cmd.getOptionValue("histogram-interval", "1000"));
+                if (histogramInterval < 100) {
+                    System.err.println("Error: --histogram-interval must be >= 100 ms");
+                    System.exit(1);
+                }
+                tester.setHistogramLog(cmd.getOptionValue("histogram-log"), histogramInterval);
+            }
+            if (cmd.hasOption("durability-ledger")) {
+                tester.setDurabilityLedger(cmd.getOptionValue("durability-ledger"),
+                        Integer.parseInt(cmd.getOptionValue("verify-threads", "8")));
+            }
 
             // DDL 출력 모드
             if (cmd.hasOption("print-ddl")) {
@@ -323,11 +1556,17 @@ public class MultiDBLoadTester {
                 return;
             }
 
+            // 결과 파일 gzip 압축 (.gz 확장자로 판단)
+            String outputFile = cmd.getOptionValue("output-file");
+            if (cmd.hasOption("output-gzip") && outputFile != null && !outputFile.endsWith(".gz")) {
+                outputFile = outputFile + ".gz";
+            }
+
             // 테스트 실행
             tester.runLoadTest(
                     Integer.parseInt(cmd.getOptionValue("thread-count", "100")),
                     Integer.parseInt(cmd.getOptionValue("test-duration", "300")),
-                    WorkMode.fromString(cmd.getOptionValue("mode", "full")),
+                    mode,
                     cmd.hasOption("truncate"),
                     Double.parseDouble(cmd.getOptionValue("monitor-interval", "1.0")),
                     Integer.parseInt(cmd.getOptionValue("sub-second-interval", "100")),
@@ -336,7 +1575,7 @@ public class MultiDBLoadTester {
                     Integer.parseInt(cmd.getOptionValue("target-tps", "0")),
                     Integer.parseInt(cmd.getOptionValue("batch-size", "1")),
                     cmd.getOptionValue("output-format"),
-                    cmd.getOptionValue("output-file")
+                    outputFile
             );
 
         } catch (ParseException e) {
@@ -346,12 +1585,32 @@ public class MultiDBLoadTester {
         }
     }
 
+    /**
+     * 드라이버 속성 프로필 확인 (default, tuned 또는 존재하는 .properties 파일)
+     */
+    private static boolean isValidDriverProfile(String profile) {
+        return DatabaseConfig.DEFAULT_DRIVER_PROFILE.equals(profile)
+                || DatabaseConfig.TUNED_DRIVER_PROFILE.equals(profile)
+                || new File(profile).isFile();
+    }
+
+    /**
+     * on/off 옵션 값 파싱
+     */
+    private static boolean parseOnOff(String value) {
+        return switch (value.toLowerCase()) {
+            case "on", "true", "yes" -> true;
+            case "off", "false", "no" -> false;
+            default -> throw new IllegalArgumentException("Expected on or off: " + value);
+        };
+    }
+
     private static Options buildOptions() {
         Options options = new Options();
 
         // 필수 옵션
         options.addOption(Option.builder().longOpt("db-type")
-                .hasArg().desc("Database type: oracle, postgresql, mysql, sqlserver, tibero, db2").build());
+                .hasArg().desc("Database type: oracle, postgresql, mysql, sqlserver, tibero, db2, sqlite, null (no I/O)").build());
         options.addOption(Option.builder().longOpt("host")
                 .hasArg().desc("Database host").build());
         options.addOption(Option.builder().longOpt("user")
@@ -363,9 +1622,17 @@ public class MultiDBLoadTester {
         options.addOption(Option.builder().longOpt("port")
                 .hasArg().desc("Database port").build());
         options.addOption(Option.builder().longOpt("database")
-                .hasArg().desc("Database name (PostgreSQL, MySQL, SQL Server)").build());
+                .hasArg().desc("Database name (PostgreSQL, MySQL, SQL Server) or database file path (SQLite)").build());
         options.addOption(Option.builder().longOpt("sid")
                 .hasArg().desc("SID/Service name (Oracle, Tibero)").build());
+        options.addOption(Option.builder().longOpt("endpoints")
+                .hasArg().desc("HA endpoints: [name=]host[:port],... (one pool per endpoint)").build());
+        options.addOption(Option.builder().longOpt("endpoint-strategy")
+                .hasArg().desc("Endpoint strategy: failover, round-robin, least-latency (default: failover)").build());
+        options.addOption(Option.builder().longOpt("read-endpoints")
+                .hasArg().desc("Read-only standby endpoints: [name=]host[:port],... (SELECTs routed here)").build());
+        options.addOption(Option.builder().longOpt("read-strategy")
+                .hasArg().desc("Read endpoint strategy: failover, round-robin, least-latency (default: round-robin)").build());
 
         // 테스트 옵션
         options.addOption(Option.builder().longOpt("thread-count")
@@ -373,25 +1640,64 @@ public class MultiDBLoadTester {
         options.addOption(Option.builder().longOpt("test-duration")
                 .hasArg().desc("Test duration in seconds (default: 300)").build());
         options.addOption(Option.builder().longOpt("mode")
-                .hasArg().desc("Work mode: full, insert-only, select-only, update-only, delete-only, mixed (default: full)").build());
+                .hasArg().desc("Work mode: full, insert-only, select-only, update-only, delete-only, mixed, "
+                        + "connect-storm (default: full)").build());
         options.addOption(Option.builder().longOpt("truncate")
                 .desc("Truncate table before test (clears data, resets sequence)").build());
+        options.addOption(Option.builder().longOpt("trials")
+                .hasArg().desc("Repeat the measurement window N times on one pool and report mean, stddev and 95% CI "
+                        + "(each trial: --trial-warmup + --test-duration; replaces --warmup/--ramp-up)").build());
+        options.addOption(Option.builder().longOpt("trial-warmup")
+                .hasArg().desc("Warmup seconds before each trial, excluded from the trial statistics (default: 10)").build());
+        options.addOption(Option.builder().longOpt("trial-reset")
+                .hasArg().desc("Reset between trials: none, truncate (table), pool (soft-evict connections), all (default: none)").build());
+        options.addOption(Option.builder().longOpt("sweep")
+                .hasArg().desc("Scalability sweep thread counts on one pool: 8,16,32 or 8-512 (doubling); "
+                        + "replaces --thread-count/--test-duration/--warmup/--ramp-up").build());
+        options.addOption(Option.builder().longOpt("sweep-warmup")
+                .hasArg().desc("Warmup seconds per sweep stage, excluded from the stage statistics (default: 10)").build());
+        options.addOption(Option.builder().longOpt("sweep-duration")
+                .hasArg().desc("Measurement seconds per sweep stage (default: 30)").build());
 
         // 워밍업 및 부하 제어
         options.addOption(Option.builder().longOpt("warmup")
-                .hasArg().desc("Warmup period in seconds (default: 30)").build());
+                .hasArg().desc("Warmup period in seconds; the upper bound with --adaptive-warmup (default: 30)").build());
+        options.addOption(Option.builder().longOpt("adaptive-warmup")
+                .desc("End warmup once interval TPS and latency are steady (CV over a sliding window), capped by --warmup").build());
+        options.addOption(Option.builder().longOpt("warmup-window")
+                .hasArg().desc("Adaptive warmup sliding window in 1s samples (default: 10)").build());
+        options.addOption(Option.builder().longOpt("warmup-cv")
+                .hasArg().desc("Adaptive warmup coefficient of variation threshold for TPS and latency (default: 0.05)").build());
         options.addOption(Option.builder().longOpt("ramp-up")
                 .hasArg().desc("Ramp-up period in seconds (default: 0)").build());
         options.addOption(Option.builder().longOpt("target-tps")
                 .hasArg().desc("Target TPS limit, 0 for unlimited (default: 0)").build());
         options.addOption(Option.builder().longOpt("batch-size")
                 .hasArg().desc("Batch insert size (default: 1)").build());
+        options.addOption(Option.builder().longOpt("driver-profile")
+                .hasArg().desc("JDBC driver properties: default (driver defaults), tuned (per-adapter tuning) or a .properties file (default: default)").build());
+        options.addOption(Option.builder().longOpt("variants")
+                .hasArg().desc("A/B compare driver settings in one run: [name=]profile[@maxPoolSize],... (one pool per variant, workers interleaved)").build());
+        options.addOption(Option.builder().longOpt("commit-profile")
+                .hasArg().desc("Session commit/durability profile, e.g. PostgreSQL off|local|remote-write|on|remote-apply, "
+                        + "Oracle batch-nowait, MySQL gr-after, SQL Server delayed (default: default)").build());
 
         // 결과 출력
         options.addOption(Option.builder().longOpt("output-format")
                 .hasArg().desc("Output format: csv, json").build());
         options.addOption(Option.builder().longOpt("output-file")
-                .hasArg().desc("Output file path").build());
+                .hasArg().desc("Output file path (gzip-compressed if it ends with .gz)").build());
+        options.addOption(Option.builder().longOpt("output-gzip")
+                .desc("Compress the output file with gzip (appends .gz to --output-file)").build());
+        options.addOption(Option.builder().longOpt("timeseries-file")
+                .hasArg().desc("Stream raw time series rows to this CSV file as they are recorded").build());
+        options.addOption(Option.builder().longOpt("timeseries-fsync")
+                .hasArg().desc("fsync interval for --timeseries-file in seconds, 0 = every row (default: 10)").build());
+        options.addOption(Option.builder().longOpt("histogram-log")
+                .hasArg().desc("Write interval latency histograms to this HdrHistogram log (.hlog, .gz for gzip); "
+                        + "analyze with the " + HistogramLogMerger.COMMAND + " subcommand").build());
+        options.addOption(Option.builder().longOpt("histogram-interval")
+                .hasArg().desc("Interval of --histogram-log histograms in ms (default: 1000)").build());
 
         // 모니터링 옵션
         options.addOption(Option.builder().longOpt("monitor-interval")
@@ -399,7 +1705,68 @@ public class MultiDBLoadTester {
         options.addOption(Option.builder().longOpt("sub-second-interval")
                 .hasArg().desc("Sub-second measurement window in ms (default: 100)").build());
 
+        // 장애 구간 감지 옵션
+        options.addOption(Option.builder().longOpt("no-outage-detection")
+                .desc("Disable outage window detection").build());
+        options.addOption(Option.builder().longOpt("outage-min-gap")
+                .hasArg().desc("Minimum commit gap in ms to declare an outage (default: 1000)").build());
+        options.addOption(Option.builder().longOpt("outage-error-ratio")
+                .hasArg().desc("Error ratio per bucket that counts as an error spike (default: 0.5)").build());
+        options.addOption(Option.builder().longOpt("outage-recovery-ratio")
+                .hasArg().desc("Fraction of baseline TPS that counts as full recovery (default: 0.9)").build());
+
+        // 복제 지연 측정 옵션
+        options.addOption(Option.builder().longOpt("lag-probe-interval")
+                .hasArg().desc("Replication visibility lag probe interval in ms, requires --read-endpoints (default: 0 = off)").build());
+
+        // 재접속 코디네이터 옵션
+        options.addOption(Option.builder().longOpt("reconnect-max-concurrent")
+                .hasArg().desc("Maximum concurrent reconnect validations across workers (default: 8)").build());
+        options.addOption(Option.builder().longOpt("breaker-threshold")
+                .hasArg().desc("Consecutive connect failures that open the circuit breaker (default: 5)").build());
+        options.addOption(Option.builder().longOpt("reconnect-max-backoff")
+                .hasArg().desc("Maximum jittered reconnect backoff in ms (default: 5000)").build());
+
+        // 트랜잭션 재시도 옵션
+        options.addOption(Option.builder().longOpt("max-retries")
+                .hasArg().desc("Maximum retries per transaction for retryable errors (default: 0 = off)").build());
+        options.addOption(Option.builder().longOpt("retry-categories")
+                .hasArg().desc("Retryable error categories: transient, connection, deadlock, constraint, timeout, other (default: transient,deadlock,connection)").build());
+        options.addOption(Option.builder().longOpt("retry-backoff")
+                .hasArg().desc("Base retry backoff in ms, jittered and doubled per retry (default: 50)").build());
+        options.addOption(Option.builder().longOpt("retry-max-backoff")
+                .hasArg().desc("Maximum retry backoff in ms (default: 1000)").build());
+
+        // 장애 주입 프록시 옵션
+        options.addOption(Option.builder().longOpt("fault-proxy")
+                .desc("Route the primary endpoint through an in-process fault injection TCP proxy").build());
+        options.addOption(Option.builder().longOpt("fault-proxy-port")
+                .hasArg().desc("Fault proxy listen port on 127.0.0.1 (default: 0 = ephemeral)").build());
+        options.addOption(Option.builder().longOpt("fault-schedule")
+                .hasArg().desc("Faults as start:type[=param][:duration],... types: latency=ms, bandwidth=bytes/s, reset, blackhole, half-open (implies --fault-proxy)").build());
+
+        // 커밋 원장 및 사후 검증 옵션
+        options.addOption(Option.builder().longOpt("durability-ledger")
+                .hasArg().desc("Directory for the acknowledged-write ledger; verifies the table after the test").build());
+        options.addOption(Option.builder().longOpt("verify-threads")
+                .hasArg().desc("Parallel threads for post-test ledger verification (default: 8)").build());
+
         // 풀 설정
+        options.addOption(Option.builder().longOpt("pool-chaos")
+                .hasArg().desc("Pool churn schedule: start:action[=count][:interval],... "
+                        + "actions: evict (soft-evict all), kill=N (force-close N active connections)").build());
+        options.addOption(Option.builder().longOpt("pool-chaos-window")
+                .hasArg().desc("Window after each pool chaos action counted as churn, in ms (default: 5000)").build());
+        options.addOption(Option.builder().longOpt("pool")
+                .hasArg().desc("Connection pool backend: hikari, direct (no pooling), simple (lock-free minimal pool) (default: hikari)").build());
+        options.addOption(Option.builder().longOpt("connection-scope")
+                .hasArg().desc("How long workers hold a connection: worker (for the whole run), transaction (borrow/return per transaction) "
+                        + "(default: transaction with --pool or --variants, otherwise worker)").build());
+        options.addOption(Option.builder().longOpt("service-time")
+                .hasArg().desc("Simulated statement service time for --db-type null: none, fixed:<ms>, uniform:<min>-<max>, "
+                        + "exp:<mean ms>, lognormal:<median ms>:<sigma> (default: none)").build());
+        options.addOption(Option.builder().longOpt("ssl")
+                .hasArg().desc("SSL/TLS for database connections: on, off (default: adapter URL default; not supported for Tibero)").build());
         options.addOption(Option.builder().longOpt("min-pool-size")
                 .hasArg().desc("Minimum pool size (default: 100)").build());
         options.addOption(Option.builder().longOpt("max-pool-size")
@@ -414,6 +1781,8 @@ public class MultiDBLoadTester {
                 .hasArg().desc("Idle connection timeout in seconds (default: 30)").build());
         options.addOption(Option.builder().longOpt("keepalive-time")
                 .hasArg().desc("Keepalive interval for idle connections in seconds (default: 30, min: 30)").build());
+        options.addOption(Option.builder().longOpt("connection-timeout")
+                .hasArg().desc("Pool connection acquire timeout in ms (default: 30000)").build());
 
         // 기타
         options.addOption(Option.builder().longOpt("print-ddl")
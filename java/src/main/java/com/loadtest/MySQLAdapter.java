@@ -1,16 +1,38 @@
 package com.loadtest;
 
-import com.zaxxer.hikari.HikariConfig;
-
 import java.sql.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * MySQL JDBC 어댑터 (HikariCP 기반)
  */
 public class MySQLAdapter extends AbstractDatabaseAdapter {
 
+    // 세션 범위로 설정 가능한 Group Replication 일관성 수준
+    // (innodb_flush_log_at_trx_commit, sync_binlog는 GLOBAL 전용이므로 프로필 대상 아님)
+    private static final Map<String, String> COMMIT_PROFILES = new LinkedHashMap<>();
+    static {
+        COMMIT_PROFILES.put("gr-eventual", "SET SESSION group_replication_consistency = 'EVENTUAL'");
+        COMMIT_PROFILES.put("gr-before-on-primary-failover",
+                "SET SESSION group_replication_consistency = 'BEFORE_ON_PRIMARY_FAILOVER'");
+        COMMIT_PROFILES.put("gr-before", "SET SESSION group_replication_consistency = 'BEFORE'");
+        COMMIT_PROFILES.put("gr-after", "SET SESSION group_replication_consistency = 'AFTER'");
+        COMMIT_PROFILES.put("gr-before-and-after", "SET SESSION group_replication_consistency = 'BEFORE_AND_AFTER'");
+    }
+
+    @Override
+    protected Map<String, String> getCommitProfileSql() {
+        return COMMIT_PROFILES;
+    }
+
     private static final int MYSQL_MAX_POOL_SIZE = 32;
 
+    @Override
+    public int getMaxPoolSizeLimit() {
+        return MYSQL_MAX_POOL_SIZE;
+    }
+
     @Override
     public void createConnectionPool(DatabaseConfig config) {
         // MySQL 커넥션 풀 크기 제한
@@ -23,43 +45,47 @@ public class MySQLAdapter extends AbstractDatabaseAdapter {
                     MYSQL_MAX_POOL_SIZE, config.getMinPoolSize(), config.getMaxPoolSize());
         }
 
-        DatabaseConfig adjustedConfig = DatabaseConfig.builder()
-                .dbType(config.getDbType())
-                .host(config.getHost())
-                .port(config.getPort())
-                .database(config.getDatabase())
-                .user(config.getUser())
-                .password(config.getPassword())
+        DatabaseConfig adjustedConfig = config.toBuilder()
                 .minPoolSize(effectiveMin)
                 .maxPoolSize(effectiveMax)
-                .maxLifetimeSeconds(config.getMaxLifetimeSeconds())
-                .leakDetectionThresholdSeconds(config.getLeakDetectionThresholdSeconds())
-                .idleCheckIntervalSeconds(config.getIdleCheckIntervalSeconds())
-                .idleTimeoutSeconds(config.getIdleTimeoutSeconds())
-                .keepaliveTimeSeconds(config.getKeepaliveTimeSeconds())
-                .connectionTimeoutMs(config.getConnectionTimeoutMs())
-                .validationTimeoutMs(config.getValidationTimeoutMs())
                 .build();
 
         super.createConnectionPool(adjustedConfig);
     }
 
     @Override
-    protected void configureDataSourceProperties(HikariConfig hikariConfig, DatabaseConfig config) {
-        // MySQL 특수 설정
-        hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
-        hikariConfig.addDataSourceProperty("prepStmtCacheSize", "250");
-        hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
-        hikariConfig.addDataSourceProperty("useServerPrepStmts", "true");
-        hikariConfig.addDataSourceProperty("rewriteBatchedStatements", "true");
+    protected Map<String, String> getTunedDriverProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        // 서버측 prepared statement + 클라이언트 캐시
+        properties.put("cachePrepStmts", "true");
+        properties.put("prepStmtCacheSize", "250");
+        properties.put("prepStmtCacheSqlLimit", "2048");
+        properties.put("useServerPrepStmts", "true");
+        // 배치 INSERT를 multi-row INSERT로 재작성
+        properties.put("rewriteBatchedStatements", "true");
+        // 세션 상태/서버 설정 조회 왕복 제거
+        properties.put("useLocalSessionState", "true");
+        properties.put("elideSetAutoCommits", "true");
+        properties.put("cacheServerConfiguration", "true");
+        properties.put("cacheResultSetMetadata", "true");
+        properties.put("maintainTimeStats", "false");
+        return properties;
     }
 
     @Override
     public String buildJdbcUrl(DatabaseConfig config) {
-        return String.format("jdbc:mysql://%s:%d/%s?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC",
+        // 기본값은 평문 (sslMode=REQUIRED = 암호화만, 인증서 검증 없음)
+        String sslMode = Boolean.TRUE.equals(config.getSsl()) ? "REQUIRED" : "DISABLED";
+        return String.format("jdbc:mysql://%s:%d/%s?sslMode=%s&allowPublicKeyRetrieval=true&serverTimezone=UTC",
                 config.getHost(),
                 config.getDefaultPort(),
-                config.getDatabase());
+                config.getDatabase(),
+                sslMode);
+    }
+
+    @Override
+    public boolean supportsSsl() {
+        return true;
     }
 
     @Override
@@ -115,6 +141,7 @@ public class MySQLAdapter extends AbstractDatabaseAdapter {
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setLong(1, recordId);
             try (ResultSet rs = ps.executeQuery()) {
+                PhaseTimer.markFetchStart();
                 if (rs.next()) {
                     return new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3)};
                 }
@@ -130,10 +157,10 @@ public class MySQLAdapter extends AbstractDatabaseAdapter {
     }
 
     @Override
-    public boolean executeUpdate(Connection conn, long recordId) throws SQLException {
+    public boolean executeUpdate(Connection conn, long recordId, String value) throws SQLException {
         String sql = "UPDATE load_test SET value_col = ?, updated_at = NOW() WHERE id = ?";
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, "UPDATED_" + recordId);
+            ps.setString(1, value);
             ps.setLong(2, recordId);
             return ps.executeUpdate() > 0;
         }
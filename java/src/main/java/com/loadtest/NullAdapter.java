@@ -0,0 +1,131 @@
+package com.loadtest;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * I/O 없는 가상 DB 어댑터 - 하네스(워커, 카운터, rate limiter, 풀) 자체의 처리량 상한 측정용
+ *
+ * 커넥션은 {@link NullDriver}가 만들고 풀은 다른 DB와 같은 경로로 생성된다.
+ * 테이블은 ID 시퀀스 하나로 표현하며 (INITIAL_ROWS개 행으로 시작, --truncate 시 0),
+ * 구문마다 --service-time 분포만큼 대기하여 DB 처리 시간을 흉내 낸다 (기본 none = 대기 없음).
+ */
+public class NullAdapter extends AbstractDatabaseAdapter {
+    static final long INITIAL_ROWS = 100_000;
+
+    private final AtomicLong sequence = new AtomicLong(INITIAL_ROWS);
+    private ServiceTimeSpec serviceTime = ServiceTimeSpec.NONE;
+
+    @Override
+    public void createConnectionPool(DatabaseConfig config) {
+        this.serviceTime = ServiceTimeSpec.parse(config.getServiceTime());
+        logger.info("Null adapter service time: {}", serviceTime);
+        super.createConnectionPool(config);
+    }
+
+    @Override
+    public String buildJdbcUrl(DatabaseConfig config) {
+        return NullDriver.URL_PREFIX + (config.getDatabase() != null ? config.getDatabase() : "loadtest");
+    }
+
+    @Override
+    public String getDriverClassName() {
+        return NullDriver.class.getName();
+    }
+
+    /**
+     * 검증 쿼리 없음 - 풀은 JDBC4 isValid로 검증
+     */
+    @Override
+    protected String getValidationQuery() {
+        return null;
+    }
+
+    @Override
+    public boolean isEmbedded() {
+        return true;
+    }
+
+    @Override
+    public boolean isConnectionValid(Connection conn, int timeoutSeconds) throws SQLException {
+        return conn.isValid(timeoutSeconds);
+    }
+
+    /**
+     * 구문 1회 - 강제 종료된 커넥션이면 드라이버와 같은 단절 에러, 아니면 처리 시간만큼 대기
+     */
+    private void execute(Connection conn) throws SQLException {
+        conn.getAutoCommit();
+        serviceTime.await();
+    }
+
+    @Override
+    public void executePing(Connection conn) throws SQLException {
+        execute(conn);
+        PhaseTimer.markFetchStart();
+    }
+
+    @Override
+    public long executeInsert(Connection conn, String threadId, String randomData) throws SQLException {
+        execute(conn);
+        return sequence.incrementAndGet();
+    }
+
+    @Override
+    public int executeBatchInsert(Connection conn, String threadId, int batchSize) throws SQLException {
+        execute(conn);
+        sequence.addAndGet(batchSize);
+        return batchSize;
+    }
+
+    @Override
+    public Object[] executeSelect(Connection conn, long recordId) throws SQLException {
+        execute(conn);
+        PhaseTimer.markFetchStart();
+        if (recordId < 1 || recordId > sequence.get()) {
+            return null;
+        }
+        return new Object[]{recordId, "null", "TEST_" + recordId};
+    }
+
+    @Override
+    public Object[] executeRandomSelect(Connection conn, long maxId) throws SQLException {
+        if (maxId <= 0) return null;
+        return executeSelect(conn, getRandomId(maxId));
+    }
+
+    @Override
+    public boolean executeUpdate(Connection conn, long recordId, String value) throws SQLException {
+        execute(conn);
+        return recordId >= 1 && recordId <= sequence.get();
+    }
+
+    @Override
+    public boolean executeDelete(Connection conn, long recordId) throws SQLException {
+        execute(conn);
+        return recordId >= 1 && recordId <= sequence.get();
+    }
+
+    @Override
+    public long getMaxId(Connection conn) throws SQLException {
+        conn.getAutoCommit();
+        return sequence.get();
+    }
+
+    @Override
+    public String getDDL() {
+        return "-- Null adapter: in-memory virtual table, no DDL";
+    }
+
+    @Override
+    public void setupSchema(Connection conn) {
+        logger.info("Null adapter - no schema (virtual table with {} rows)", sequence.get());
+    }
+
+    @Override
+    public void truncateTable(Connection conn) {
+        sequence.set(0);
+        logger.info("Null adapter virtual table truncated");
+    }
+}
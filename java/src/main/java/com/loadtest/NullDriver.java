@@ -0,0 +1,157 @@
+package com.loadtest;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * I/O 없는 JDBC 드라이버 (jdbc:null:) - null 어댑터 전용
+ *
+ * 커넥션은 세션 상태(autoCommit, readOnly 등)만 보관하고 SQL은 실행하지 않는다.
+ * 실제 드라이버처럼 DriverManager에 등록되므로 모든 풀 구현(HikariCP, direct, simple)을 그대로 거친다.
+ * abort()/close() 후 호출은 SQLState 08003 에러로 실패하여 풀 장애 주입도 실제 드라이버와 같이 동작한다.
+ */
+public class NullDriver implements Driver {
+    public static final String URL_PREFIX = "jdbc:null:";
+
+    static {
+        try {
+            DriverManager.registerDriver(new NullDriver());
+        } catch (SQLException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) {
+        if (!acceptsURL(url)) {
+            return null;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new NullConnectionHandler(url));
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        return url != null && url.startsWith(URL_PREFIX);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("getParentLogger");
+    }
+
+    /**
+     * 커넥션 1개의 세션 상태
+     */
+    private static class NullConnectionHandler implements InvocationHandler {
+        private final String url;
+        private volatile boolean closed = false;
+        private boolean autoCommit = true;
+        private boolean readOnly = false;
+        private int transactionIsolation = Connection.TRANSACTION_READ_COMMITTED;
+        private int networkTimeout = 0;
+        private String catalog;
+        private String schema;
+
+        NullConnectionHandler(String url) {
+            this.url = url;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close", "abort" -> {
+                    closed = true;
+                    return null;
+                }
+                case "isClosed" -> {
+                    return closed;
+                }
+                case "isValid" -> {
+                    return !closed;
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "NullConnection@" + Integer.toHexString(System.identityHashCode(proxy)) + " " + url;
+                }
+                case "unwrap" -> {
+                    Class<?> iface = (Class<?>) args[0];
+                    if (iface.isInstance(proxy)) return proxy;
+                    throw new SQLException("Not a wrapper for " + iface.getName());
+                }
+                case "isWrapperFor" -> {
+                    return ((Class<?>) args[0]).isInstance(proxy);
+                }
+                default -> { }
+            }
+
+            if (closed) {
+                throw new SQLException("Connection is closed", "08003");
+            }
+            switch (method.getName()) {
+                case "getAutoCommit" -> { return autoCommit; }
+                case "setAutoCommit" -> autoCommit = (Boolean) args[0];
+                case "isReadOnly" -> { return readOnly; }
+                case "setReadOnly" -> readOnly = (Boolean) args[0];
+                case "getTransactionIsolation" -> { return transactionIsolation; }
+                case "setTransactionIsolation" -> transactionIsolation = (Integer) args[0];
+                case "getNetworkTimeout" -> { return networkTimeout; }
+                case "setNetworkTimeout" -> networkTimeout = (Integer) args[1];
+                case "getCatalog" -> { return catalog; }
+                case "setCatalog" -> catalog = (String) args[0];
+                case "getSchema" -> { return schema; }
+                case "setSchema" -> schema = (String) args[0];
+                case "getHoldability" -> { return ResultSet.HOLD_CURSORS_OVER_COMMIT; }
+                case "nativeSQL" -> { return args[0]; }
+                case "createStatement", "prepareStatement", "prepareCall", "getMetaData" ->
+                    throw new SQLFeatureNotSupportedException("Null driver does not execute SQL: " + method.getName());
+                default -> {
+                    // commit, rollback, clearWarnings 등은 할 일 없음
+                }
+            }
+            return defaultValue(method.getReturnType());
+        }
+
+        private static Object defaultValue(Class<?> type) {
+            if (type == boolean.class) return false;
+            if (type == int.class) return 0;
+            if (type == long.class) return 0L;
+            return null;
+        }
+    }
+}
@@ -1,26 +1,71 @@
 package com.loadtest;
 
 import java.sql.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Oracle JDBC 어댑터 (HikariCP 기반)
  */
 public class OracleAdapter extends AbstractDatabaseAdapter {
 
+    // COMMIT WRITE 옵션의 세션 기본값 (COMMIT_LOGGING + COMMIT_WAIT)
+    private static final Map<String, String> COMMIT_PROFILES = new LinkedHashMap<>();
+    static {
+        COMMIT_PROFILES.put("immediate-wait", commitWrite("IMMEDIATE", "WAIT"));
+        COMMIT_PROFILES.put("batch-wait", commitWrite("BATCH", "WAIT"));
+        COMMIT_PROFILES.put("immediate-nowait", commitWrite("IMMEDIATE", "NOWAIT"));
+        COMMIT_PROFILES.put("batch-nowait", commitWrite("BATCH", "NOWAIT"));
+    }
+
+    private static String commitWrite(String logging, String wait) {
+        // connectionInitSql은 단일 구문이므로 PL/SQL 블록으로 묶음
+        return "BEGIN EXECUTE IMMEDIATE 'ALTER SESSION SET COMMIT_LOGGING = " + logging + "'; "
+                + "EXECUTE IMMEDIATE 'ALTER SESSION SET COMMIT_WAIT = " + wait + "'; END;";
+    }
+
+    @Override
+    protected Map<String, String> getCommitProfileSql() {
+        return COMMIT_PROFILES;
+    }
+
     @Override
     public String buildJdbcUrl(DatabaseConfig config) {
         String sid = config.getSid() != null ? config.getSid() : config.getDatabase();
+        if (Boolean.TRUE.equals(config.getSsl())) {
+            // TCPS 리스너 포트를 --port로 지정 (wallet/truststore는 oracle.net.* 드라이버 속성으로 전달)
+            return String.format("jdbc:oracle:thin:@(DESCRIPTION=(ADDRESS=(PROTOCOL=TCPS)(HOST=%s)(PORT=%d))"
+                            + "(CONNECT_DATA=(SID=%s)))",
+                    config.getHost(),
+                    config.getDefaultPort(),
+                    sid);
+        }
         return String.format("jdbc:oracle:thin:@%s:%d:%s",
                 config.getHost(),
                 config.getDefaultPort(),
                 sid);
     }
 
+    @Override
+    public boolean supportsSsl() {
+        return true;
+    }
+
     @Override
     public String getDriverClassName() {
         return "oracle.jdbc.OracleDriver";
     }
 
+    @Override
+    protected Map<String, String> getTunedDriverProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        // 암묵적 statement 캐시 (기본 비활성 → 매 실행마다 parse 왕복)
+        properties.put("oracle.jdbc.implicitStatementCacheSize", "100");
+        // 왕복당 fetch 행 수 (기본 10)
+        properties.put("defaultRowPrefetch", "100");
+        return properties;
+    }
+
     @Override
     protected String getValidationQuery() {
         return "SELECT 1 FROM DUAL";
@@ -76,6 +121,7 @@ public class OracleAdapter extends AbstractDatabaseAdapter {
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setLong(1, recordId);
             try (ResultSet rs = ps.executeQuery()) {
+                PhaseTimer.markFetchStart();
                 if (rs.next()) {
                     return new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3)};
                 }
@@ -91,10 +137,10 @@ public class OracleAdapter extends AbstractDatabaseAdapter {
     }
 
     @Override
-    public boolean executeUpdate(Connection conn, long recordId) throws SQLException {
+    public boolean executeUpdate(Connection conn, long recordId, String value) throws SQLException {
         String sql = "UPDATE LOAD_TEST SET VALUE_COL = ?, UPDATED_AT = SYSTIMESTAMP WHERE ID = ?";
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, "UPDATED_" + recordId);
+            ps.setString(1, value);
             ps.setLong(2, recordId);
             return ps.executeUpdate() > 0;
         }
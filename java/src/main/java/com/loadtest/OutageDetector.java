@@ -0,0 +1,253 @@
+package com.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 장애 구간 감지 스레드 - 커밋 중단(ZERO_COMMIT) 또는 에러 급증(ERROR_SPIKE) 구간 탐지
+ *
+ * 워커는 성공/실패 시각만 기록하고, 판정은 bucket 주기로 이 스레드에서 수행한다.
+ * 구간 경계 시각(마지막 성공, 첫 실패, 첫 성공)은 bucket 해상도가 아닌 실제 발생 시각이다.
+ */
+public class OutageDetector extends Thread {
+    private static final Logger logger = LoggerFactory.getLogger(OutageDetector.class);
+
+    private static final int MIN_SPIKE_ERRORS = 5;        // 에러 급증 판정 최소 에러 수
+    private static final int RECOVERY_WINDOW_BUCKETS = 10; // 회복 판정 이동 평균 bucket 수
+    private static final long MAX_RECOVERY_WAIT_MS = 300_000; // 기준 TPS 미도달 시 구간 종료 대기 (5분)
+    private static final double BASELINE_TIME_CONSTANT_SEC = 10.0;
+
+    private enum State { NORMAL, OUTAGE, RECOVERING }
+
+    private final long bucketMs;
+    private final long minGapMs;
+    private final double errorRatioThreshold;
+    private final double recoveryRatio;
+    private final PerformanceCounter perfCounter;
+
+    // 워커 스레드에서 갱신 (hot path)
+    private final LongAdder bucketSuccesses = new LongAdder();
+    private final LongAdder bucketFailures = new LongAdder();
+    private final LongAdder bucketReconnects = new LongAdder();
+    private final LongAdder bucketRetries = new LongAdder();
+    private final AtomicLong lastSuccessMs = new AtomicLong(0);
+    private final AtomicLong bucketFirstFailureMs = new AtomicLong(0);
+    private final AtomicLong firstSuccessAfterMs = new AtomicLong(0);
+    private volatile State state = State.NORMAL;
+
+    // 감지 스레드 전용
+    private double baselineTps = 0;
+    private long firstFailureMs = 0;  // 실패가 이어진 bucket들 중 첫 실패 (실패 없는 bucket마다 초기화)
+    private final double[] recentTps = new double[RECOVERY_WINDOW_BUCKETS];
+    private int recentIndex = 0;
+    private int recentCount = 0;
+    private OutageWindow current;
+    private long recoveringSinceMs;
+    private final List<OutageWindow> windows = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean running = true;
+
+    public OutageDetector(PerformanceCounter perfCounter, long bucketMs, long minGapMs,
+                          double errorRatioThreshold, double recoveryRatio) {
+        super("OutageDetector");
+        setDaemon(true);
+        this.perfCounter = perfCounter;
+        this.bucketMs = Math.max(10, bucketMs);
+        this.minGapMs = minGapMs;
+        this.errorRatioThreshold = errorRatioThreshold;
+        this.recoveryRatio = recoveryRatio;
+    }
+
+    public void recordSuccess(long nowMs) {
+        bucketSuccesses.increment();
+        lastSuccessMs.set(nowMs);
+        if (state != State.NORMAL && firstSuccessAfterMs.get() == 0) {
+            firstSuccessAfterMs.compareAndSet(0, nowMs);
+        }
+    }
+
+    public void recordFailure(long nowMs) {
+        bucketFailures.increment();
+        if (bucketFirstFailureMs.get() == 0) {
+            bucketFirstFailureMs.compareAndSet(0, nowMs);
+        }
+    }
+
+    public void recordReconnect() {
+        bucketReconnects.increment();
+    }
+
+    public void recordRetry() {
+        bucketRetries.increment();
+    }
+
+    @Override
+    public void run() {
+        logger.info("[Outage] Detector started (bucket: {}ms, min gap: {}ms, error ratio: {}, recovery ratio: {})",
+                bucketMs, minGapMs, errorRatioThreshold, recoveryRatio);
+
+        while (running) {
+            try {
+                Thread.sleep(bucketMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            tick(System.currentTimeMillis());
+        }
+    }
+
+    private void tick(long now) {
+        long successes = bucketSuccesses.sumThenReset();
+        long failures = bucketFailures.sumThenReset();
+        long reconnects = bucketReconnects.sumThenReset();
+        long retries = bucketRetries.sumThenReset();
+        long bucketFirstFailure = bucketFirstFailureMs.getAndSet(0);
+        double bucketTps = successes * 1000.0 / bucketMs;
+
+        // 첫 실패 표시는 실패가 연속된 bucket 안에서만 유지 (이전 일시적 에러의 시각이 이후 구간 시작이 되지 않도록)
+        if (failures == 0) {
+            firstFailureMs = 0;
+        } else if (firstFailureMs == 0) {
+            firstFailureMs = bucketFirstFailure > 0 ? bucketFirstFailure : now - bucketMs;
+        }
+
+        long lastSuccess = lastSuccessMs.get();
+        if (lastSuccess == 0) {
+            // 첫 커밋 이전에는 판정하지 않음 (스키마 설정, 풀 초기화 구간)
+            return;
+        }
+
+        boolean zeroCommit = baselineTps > 0 && now - lastSuccess >= zeroCommitGapMs();
+        boolean errorSpike = failures >= MIN_SPIKE_ERRORS
+                && failures >= errorRatioThreshold * (successes + failures);
+        boolean degraded = zeroCommit || errorSpike;
+
+        switch (state) {
+            case NORMAL -> {
+                if (degraded) {
+                    openWindow(now, zeroCommit ? "ZERO_COMMIT" : "ERROR_SPIKE", lastSuccess);
+                    current.addLostTransactions(failures);
+                    current.addReconnects(reconnects);
+                    current.addRetries(retries);
+                } else {
+                    updateBaseline(bucketTps);
+                }
+            }
+            case OUTAGE -> {
+                current.addLostTransactions(failures);
+                current.addReconnects(reconnects);
+                current.addRetries(retries);
+                if (!degraded && successes > 0) {
+                    current.setFirstSuccessAfterMs(firstSuccessAfterMs.get());
+                    state = State.RECOVERING;
+                    recoveringSinceMs = now;
+                    resetRecent();
+                    logger.info("[Outage] #{} commits resumed after {}ms", current.getSequence(), current.getDowntimeMs());
+                }
+            }
+            case RECOVERING -> {
+                current.addLostTransactions(failures);
+                current.addReconnects(reconnects);
+                current.addRetries(retries);
+                if (degraded) {
+                    // 회복 중 재차 중단 - 같은 구간으로 취급
+                    firstSuccessAfterMs.set(0);
+                    current.setFirstSuccessAfterMs(0);
+                    state = State.OUTAGE;
+                } else {
+                    addRecent(bucketTps);
+                    if (recentCount == RECOVERY_WINDOW_BUCKETS && recentAverage() >= recoveryRatio * baselineTps) {
+                        current.setFullRecoveryMs(now);
+                        closeWindow();
+                    } else if (now - recoveringSinceMs > MAX_RECOVERY_WAIT_MS) {
+                        logger.info("[Outage] #{} throughput did not return to {}% of baseline within {}s",
+                                current.getSequence(), Math.round(recoveryRatio * 100), MAX_RECOVERY_WAIT_MS / 1000);
+                        closeWindow();
+                    }
+                }
+            }
+        }
+    }
+
+    private long zeroCommitGapMs() {
+        // 평균 도착 간격의 10배 이상 커밋이 없으면 중단으로 판정 (저TPS 오탐 방지)
+        long expectedGapMs = baselineTps > 0 ? (long) (10_000.0 / baselineTps) : 0;
+        return Math.max(minGapMs, expectedGapMs);
+    }
+
+    private void updateBaseline(double bucketTps) {
+        if (baselineTps == 0) {
+            baselineTps = bucketTps;
+            return;
+        }
+        double alpha = Math.min(1.0, (bucketMs / 1000.0) / BASELINE_TIME_CONSTANT_SEC);
+        baselineTps += alpha * (bucketTps - baselineTps);
+    }
+
+    private void openWindow(long now, String trigger, long lastSuccess) {
+        firstSuccessAfterMs.set(0);
+        current = new OutageWindow(windows.size() + 1, trigger, now, lastSuccess, firstFailureMs, baselineTps);
+        state = State.OUTAGE;
+        logger.info("[Outage] #{} detected ({}), baseline {} TPS",
+                current.getSequence(), trigger, String.format("%.2f", baselineTps));
+    }
+
+    private void closeWindow() {
+        OutageWindow window = current;
+        windows.add(window);
+        perfCounter.recordEvent("OUTAGE", window.toMap(perfCounter.getStartTime()));
+        logger.info("[Outage] #{} closed: downtime {}ms, full recovery {}ms, lost {}, retries {}, reconnects {}",
+                window.getSequence(), window.getDowntimeMs(), window.getTimeToFullRecoveryMs(),
+                window.getLostTransactions(), window.getRetries(), window.getReconnects());
+        current = null;
+        state = State.NORMAL;
+    }
+
+    private void resetRecent() {
+        recentIndex = 0;
+        recentCount = 0;
+    }
+
+    private void addRecent(double tps) {
+        recentTps[recentIndex] = tps;
+        recentIndex = (recentIndex + 1) % RECOVERY_WINDOW_BUCKETS;
+        if (recentCount < RECOVERY_WINDOW_BUCKETS) recentCount++;
+    }
+
+    private double recentAverage() {
+        double sum = 0;
+        for (int i = 0; i < recentCount; i++) {
+            sum += recentTps[i];
+        }
+        return recentCount > 0 ? sum / recentCount : 0;
+    }
+
+    /**
+     * 감지 종료 - 진행 중인 구간은 미복구 상태로 기록
+     */
+    public void stopDetector() {
+        running = false;
+        interrupt();
+        try {
+            join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (current != null) {
+            if (state == State.RECOVERING) {
+                current.setFirstSuccessAfterMs(firstSuccessAfterMs.get());
+            }
+            closeWindow();
+        }
+    }
+
+    public List<OutageWindow> getWindows() {
+        return new ArrayList<>(windows);
+    }
+}
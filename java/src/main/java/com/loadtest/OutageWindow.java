@@ -0,0 +1,129 @@
+package com.loadtest;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 장애(Outage) 구간 - 커밋 중단 또는 에러 급증 구간 한 건의 기록
+ */
+public class OutageWindow {
+    private final int sequence;
+    private final String trigger;           // ZERO_COMMIT 또는 ERROR_SPIKE
+    private final long detectedAtMs;
+    private final long lastSuccessBeforeMs; // 구간 직전 마지막 성공 커밋 (없으면 0)
+    private final long firstFailureMs;      // 구간 내 첫 실패 (에러 없이 멈춘 경우 0)
+    private long firstSuccessAfterMs;       // 구간 이후 첫 성공 커밋 (0 = 미복구)
+    private long fullRecoveryMs;            // 기준 TPS 회복 시점 (0 = 미도달)
+    private final double baselineTps;
+    private long lostTransactions;          // 재시도 후에도 실패한 트랜잭션
+    private long retries;                   // 구간 내 재시도 횟수
+    private long reconnects;
+
+    public OutageWindow(int sequence, String trigger, long detectedAtMs,
+                        long lastSuccessBeforeMs, long firstFailureMs, double baselineTps) {
+        this.sequence = sequence;
+        this.trigger = trigger;
+        this.detectedAtMs = detectedAtMs;
+        this.lastSuccessBeforeMs = lastSuccessBeforeMs;
+        this.firstFailureMs = firstFailureMs;
+        this.baselineTps = baselineTps;
+    }
+
+    void addLostTransactions(long count) {
+        lostTransactions += count;
+    }
+
+    void addRetries(long count) {
+        retries += count;
+    }
+
+    void addReconnects(long count) {
+        reconnects += count;
+    }
+
+    void setFirstSuccessAfterMs(long firstSuccessAfterMs) {
+        this.firstSuccessAfterMs = firstSuccessAfterMs;
+    }
+
+    void setFullRecoveryMs(long fullRecoveryMs) {
+        this.fullRecoveryMs = fullRecoveryMs;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public String getTrigger() {
+        return trigger;
+    }
+
+    /**
+     * 구간 시작 시점: 첫 실패가 있으면 첫 실패, 없으면 마지막 성공 커밋
+     */
+    public long getStartMs() {
+        if (firstFailureMs > 0) return firstFailureMs;
+        return lastSuccessBeforeMs > 0 ? lastSuccessBeforeMs : detectedAtMs;
+    }
+
+    /**
+     * 커밋 중단 시간: 마지막 성공 ~ 첫 성공 (미복구 시 -1)
+     * 에러 급증 구간은 급증 중에도 일부 커밋이 성공하므로 첫 실패부터 잰다
+     */
+    public long getDowntimeMs() {
+        long downSinceMs = "ERROR_SPIKE".equals(trigger) && firstFailureMs > 0 ? firstFailureMs : lastSuccessBeforeMs;
+        if (firstSuccessAfterMs == 0 || downSinceMs == 0) return -1;
+        return firstSuccessAfterMs - downSinceMs;
+    }
+
+    /**
+     * 전체 처리량 회복 시간: 구간 시작 ~ 기준 TPS 회복 (미도달 시 -1)
+     */
+    public long getTimeToFullRecoveryMs() {
+        if (fullRecoveryMs == 0) return -1;
+        return fullRecoveryMs - getStartMs();
+    }
+
+    public boolean isRecovered() {
+        return firstSuccessAfterMs > 0;
+    }
+
+    public long getLostTransactions() {
+        return lostTransactions;
+    }
+
+    public long getRetries() {
+        return retries;
+    }
+
+    public long getReconnects() {
+        return reconnects;
+    }
+
+    public Map<String, Object> toMap(long testStartMs) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("sequence", sequence);
+        map.put("trigger", trigger);
+        map.put("startElapsedSeconds", elapsed(getStartMs(), testStartMs));
+        map.put("lastSuccessBefore", timestamp(lastSuccessBeforeMs));
+        map.put("firstFailure", timestamp(firstFailureMs));
+        map.put("detectedAt", timestamp(detectedAtMs));
+        map.put("firstSuccessAfter", timestamp(firstSuccessAfterMs));
+        map.put("fullRecoveryAt", timestamp(fullRecoveryMs));
+        map.put("downtimeMs", getDowntimeMs());
+        map.put("timeToFullRecoveryMs", getTimeToFullRecoveryMs());
+        map.put("baselineTps", Math.round(baselineTps * 100.0) / 100.0);
+        map.put("lostTransactions", lostTransactions);
+        map.put("retries", retries);
+        map.put("reconnects", reconnects);
+        return map;
+    }
+
+    private static String timestamp(long epochMs) {
+        return epochMs > 0 ? Instant.ofEpochMilli(epochMs).toString() : null;
+    }
+
+    private static double elapsed(long epochMs, long testStartMs) {
+        return Math.round((epochMs - testStartMs) / 10.0) / 100.0;
+    }
+}
@@ -3,13 +3,18 @@ package com.loadtest;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 스레드 안전 성능 카운터 - 1초 이내 측정 지원
  */
 public class PerformanceCounter {
+    public static final String ROLE_WRITE = "write";
+    public static final String ROLE_READ = "read";
+
     private final AtomicLong totalInserts = new AtomicLong(0);
     private final AtomicLong totalSelects = new AtomicLong(0);
     private final AtomicLong totalUpdates = new AtomicLong(0);
@@ -18,6 +23,13 @@ public class PerformanceCounter {
     private final AtomicLong totalErrors = new AtomicLong(0);
     private final AtomicLong verificationFailures = new AtomicLong(0);
     private final AtomicLong connectionRecreates = new AtomicLong(0);
+    private final AtomicLong totalRetries = new AtomicLong(0);
+    private final AtomicLong retriedTransactions = new AtomicLong(0);  // 재시도 후 성공한 트랜잭션
+    private final DoubleAdder totalLatencyMs = new DoubleAdder();      // 구간 평균 레이턴시 계산용 (워밍업 포함)
+
+    // 에러 분류별 통계 (최종 실패 / 재시도)
+    private final Map<ErrorCategory, AtomicLong> errorsByCategory = new EnumMap<>(ErrorCategory.class);
+    private final Map<ErrorCategory, AtomicLong> retriesByCategory = new EnumMap<>(ErrorCategory.class);
 
     private final long startTime;
 
@@ -44,8 +56,37 @@ public class PerformanceCounter {
     private volatile long lastDeletes;
     private volatile long lastErrors;
 
-    // 시계열 데이터
-    private final List<Map<String, Object>> timeSeries = Collections.synchronizedList(new ArrayList<>());
+    // 시계열 데이터 (컬럼형, 해상도별 용량 고정) 및 파일 스트리밍 sink (선택)
+    private final TimeSeriesStore timeSeries;
+    private volatile TimeSeriesSink timeSeriesSink;
+
+    // 레이턴시 구간 히스토그램 로그 (선택)
+    private volatile HistogramLogRecorder histogramLog;
+
+    // 이벤트 타임라인 (장애 구간 등) - 시계열 행에는 직전 기록 이후 발생한 이벤트 유형이 태그됨
+    private final List<Map<String, Object>> events = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> pendingEventTypes = new ArrayList<>();
+
+    // 장애 구간 감지기 (선택)
+    private volatile OutageDetector outageDetector;
+
+    // 풀 장애 주입 스케줄러 (선택, churn/steady 구간 집계)
+    private volatile PoolChaosScheduler poolChaos;
+
+    // 현재 측정 구간 (선택, sweep 단계/반복 시행 집계)
+    private volatile MeasurementWindow measurementWindow;
+
+    // 역할별 통계 (읽기/쓰기 분리 모드, warmup 이후만 집계)
+    private final Map<String, TrafficStats> roleStats = new LinkedHashMap<>();
+    private volatile boolean roleStatsEnabled = false;
+
+    // 드라이버/풀 변형별 통계 (A/B 비교 모드, warmup 이후만 집계)
+    private final Map<String, TrafficStats> variantStats = new LinkedHashMap<>();
+    private final Map<String, VariantBatches> variantBatches = new LinkedHashMap<>();
+    private volatile boolean variantStatsEnabled = false;
+
+    // 트랜잭션 단계별 소요 시간 (warmup 이후만 집계)
+    private final PhaseTimer phaseTimer = new PhaseTimer();
 
     public PerformanceCounter() {
         this(100);
@@ -55,6 +96,11 @@ public class PerformanceCounter {
         this.subSecondWindowMs = subSecondWindowMs;
         this.startTime = System.currentTimeMillis();
         this.lastCheckTime = startTime;
+        this.timeSeries = new TimeSeriesStore(startTime);
+        for (ErrorCategory category : ErrorCategory.values()) {
+            errorsByCategory.put(category, new AtomicLong(0));
+            retriesByCategory.put(category, new AtomicLong(0));
+        }
     }
 
     public void setWarmupEndTime(long warmupEndTime) {
@@ -66,6 +112,14 @@ public class PerformanceCounter {
         return System.currentTimeMillis() < warmupEndTime;
     }
 
+    /**
+     * 주어진 시각(ms)이 warmup 기간인지 확인
+     */
+    public boolean isWarmupAt(long timeMs) {
+        Long end = warmupEndTime;
+        return end != null && timeMs < end;
+    }
+
     /**
      * warmup 기간이 설정되어 있는지 확인 (warmup > 0)
      */
@@ -73,10 +127,214 @@ public class PerformanceCounter {
         return warmupEndTime != null;
     }
 
+    public void setOutageDetector(OutageDetector outageDetector) {
+        this.outageDetector = outageDetector;
+    }
+
+    public void setPoolChaosScheduler(PoolChaosScheduler poolChaos) {
+        this.poolChaos = poolChaos;
+    }
+
+    /**
+     * 시계열 스트리밍 sink 연결 - 행을 생성 즉시 파일에 기록
+     */
+    public void setTimeSeriesSink(TimeSeriesSink timeSeriesSink) {
+        this.timeSeriesSink = timeSeriesSink;
+    }
+
+    /**
+     * 레이턴시 히스토그램 로그 연결 - 성공 트랜잭션 레이턴시를 구간 히스토그램으로 기록
+     */
+    public void setHistogramLog(HistogramLogRecorder histogramLog) {
+        this.histogramLog = histogramLog;
+    }
+
+    /**
+     * 측정 구간 집계기 연결 (null = 해제)
+     */
+    public void setMeasurementWindow(MeasurementWindow measurementWindow) {
+        this.measurementWindow = measurementWindow;
+    }
+
+    /**
+     * 역할별(write/read) 통계 활성화 - 워커 시작 전에 호출
+     */
+    public void enableRoleStats() {
+        roleStats.put(ROLE_WRITE, new TrafficStats(ROLE_WRITE));
+        roleStats.put(ROLE_READ, new TrafficStats(ROLE_READ));
+        roleStatsEnabled = true;
+    }
+
+    public boolean isRoleStatsEnabled() {
+        return roleStatsEnabled;
+    }
+
+    public void recordRoleSuccess(String role, double latencyMs) {
+        if (!roleStatsEnabled || isWarmupPeriod()) return;
+        roleStats.get(role).recordSuccess(latencyMs);
+    }
+
+    public void recordRoleError(String role) {
+        if (!roleStatsEnabled || isWarmupPeriod()) return;
+        roleStats.get(role).recordError();
+    }
+
+    /**
+     * 역할별 구간 통계 (모니터 주기마다 1회 호출)
+     */
+    public Map<String, Map<String, Object>> snapshotRoleStats() {
+        Map<String, Map<String, Object>> snapshot = new LinkedHashMap<>();
+        if (roleStatsEnabled) {
+            roleStats.forEach((role, stats) -> snapshot.put(role, stats.snapshotInterval()));
+        }
+        return snapshot;
+    }
+
+    /**
+     * 역할별 누적 통계 (최종 결과용)
+     */
+    public List<Map<String, Object>> getRoleSummaries() {
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        if (roleStatsEnabled) {
+            roleStats.values().forEach(stats -> summaries.add(stats.getSummary()));
+        }
+        return summaries;
+    }
+
+    /**
+     * 변형별 통계 활성화 - 워커 시작 전에 호출
+     */
+    public void enableVariantStats(List<String> variantNames) {
+        for (String name : variantNames) {
+            variantStats.put(name, new TrafficStats(name));
+            variantBatches.put(name, new VariantBatches());
+        }
+        variantStatsEnabled = true;
+    }
+
+    /**
+     * 변형에 배정된 워커 1개 등록 - 처리량 비교를 워커당 처리량으로 정규화 (변형 수로 나누어떨어지지 않는 워커 수 대응)
+     */
+    public void registerVariantWorker(String variant) {
+        variantBatches.get(variant).workers.incrementAndGet();
+    }
+
+    public boolean isVariantStatsEnabled() {
+        return variantStatsEnabled;
+    }
+
+    public void recordVariantSuccess(String variant, double latencyMs) {
+        if (!variantStatsEnabled || isWarmupPeriod()) return;
+        variantStats.get(variant).recordSuccess(latencyMs);
+    }
+
+    public void recordVariantError(String variant) {
+        if (!variantStatsEnabled || isWarmupPeriod()) return;
+        variantStats.get(variant).recordError();
+    }
+
+    /**
+     * 변형별 구간 통계 (모니터 주기마다 1회 호출)
+     */
+    public Map<String, Map<String, Object>> snapshotVariantStats() {
+        Map<String, Map<String, Object>> snapshot = new LinkedHashMap<>();
+        if (variantStatsEnabled) {
+            variantStats.forEach((name, stats) -> {
+                variantBatches.get(name).record(stats);
+                snapshot.put(name, stats.snapshotInterval());
+            });
+        }
+        return snapshot;
+    }
+
+    public List<Map<String, Object>> getVariantSummaries() {
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        if (variantStatsEnabled) {
+            variantStats.values().forEach(stats -> summaries.add(stats.getSummary()));
+        }
+        return summaries;
+    }
+
+    /**
+     * 첫 번째 변형(기준) 대비 각 변형의 평균 레이턴시 차이, 워커당 처리량 비율, Welch t-검정 결과
+     * 연속 트랜잭션 레이턴시는 자기상관이 있어 검정은 모니터 구간별 평균(batch means)을 표본으로 수행
+     */
+    public List<Map<String, Object>> compareVariants() {
+        List<Map<String, Object>> comparisons = new ArrayList<>();
+        if (!variantStatsEnabled || variantStats.size() < 2) {
+            return comparisons;
+        }
+        List<TrafficStats> all = new ArrayList<>(variantStats.values());
+        TrafficStats baseline = all.get(0);
+        double[] base = baseline.getLatencyMoments();
+        double[] baseBatches = variantBatches.get(baseline.getName()).means();
+        double basePerWorker = variantBatches.get(baseline.getName()).perWorker(baseline.getTransactions());
+        for (TrafficStats variant : all.subList(1, all.size())) {
+            double[] other = variant.getLatencyMoments();
+            double[] otherBatches = variantBatches.get(variant.getName()).means();
+            double otherPerWorker = variantBatches.get(variant.getName()).perWorker(variant.getTransactions());
+            double[] test = Statistics.welchTTest(
+                    Statistics.mean(baseBatches), Statistics.stdDev(baseBatches), baseBatches.length,
+                    Statistics.mean(otherBatches), Statistics.stdDev(otherBatches), otherBatches.length);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("baseline", baseline.getName());
+            row.put("variant", variant.getName());
+            row.put("baselineMeanMs", Math.round(base[1] * 1000.0) / 1000.0);
+            row.put("variantMeanMs", Math.round(other[1] * 1000.0) / 1000.0);
+            row.put("meanDiffPct", base[1] > 0 ? Math.round((other[1] - base[1]) / base[1] * 10000.0) / 100.0 : 0.0);
+            row.put("throughputRatio", basePerWorker > 0
+                    ? Math.round(otherPerWorker / basePerWorker * 1000.0) / 1000.0 : 0.0);
+            row.put("batches", Math.min(baseBatches.length, otherBatches.length));
+            row.put("tStatistic", Math.round(test[0] * 100.0) / 100.0);
+            row.put("degreesOfFreedom", Math.round(test[1]));
+            row.put("pValue", test[2] < 1e-6 ? 0.0 : Math.round(test[2] * 1_000_000.0) / 1_000_000.0);
+            row.put("significant", test[2] < 0.05);
+            comparisons.add(row);
+        }
+        return comparisons;
+    }
+
+    /**
+     * 단계 소요 시간 기록 (커넥션 획득, 커밋)
+     */
+    public void recordPhase(PhaseTimer.Phase phase, long nanos) {
+        MeasurementWindow window = measurementWindow;
+        if (window != null && phase == PhaseTimer.Phase.ACQUIRE) {
+            window.recordAcquire(nanos);
+        }
+        if (isWarmupPeriod()) return;
+        phaseTimer.record(phase, nanos);
+    }
+
+    /**
+     * 구문 실행 종료 기록 (실행/fetch 단계로 분리)
+     */
+    public void recordStatement(long startNanos) {
+        if (isWarmupPeriod()) return;
+        phaseTimer.endStatement(startNanos);
+    }
+
+    /**
+     * 단계별 구간 통계 (모니터 주기마다 1회 호출)
+     */
+    public Map<String, Object> snapshotPhaseStats() {
+        return phaseTimer.snapshotInterval();
+    }
+
+    public List<Map<String, Object>> getPhaseSummaries() {
+        return phaseTimer.getSummaries();
+    }
+
     public void recordTransaction(double latencyMs) {
         long currentTime = System.currentTimeMillis();
 
         totalTransactions.incrementAndGet();
+        totalLatencyMs.add(latencyMs);
+
+        OutageDetector detector = outageDetector;
+        if (detector != null) {
+            detector.recordSuccess(currentTime);
+        }
 
         // 워밍업 이후 통계
         if (warmupEndTime != null && currentTime >= warmupEndTime) {
@@ -98,6 +356,21 @@ public class PerformanceCounter {
             }
         }
 
+        PoolChaosScheduler chaos = poolChaos;
+        if (chaos != null && !isWarmupPeriod()) {
+            chaos.recordSuccess(latencyMs);
+        }
+
+        MeasurementWindow window = measurementWindow;
+        if (window != null) {
+            window.recordSuccess(latencyMs);
+        }
+
+        HistogramLogRecorder log = histogramLog;
+        if (log != null) {
+            log.recordValue(latencyMs);
+        }
+
         // 레이턴시 기록 (warmup 중이면 제외)
         if (latencyMs > 0 && (warmupEndTime == null || currentTime >= warmupEndTime)) {
             latencyLock.lock();
@@ -134,6 +407,62 @@ public class PerformanceCounter {
 
     public void incrementError() {
         totalErrors.incrementAndGet();
+        OutageDetector detector = outageDetector;
+        if (detector != null) {
+            detector.recordFailure(System.currentTimeMillis());
+        }
+        PoolChaosScheduler chaos = poolChaos;
+        if (chaos != null && !isWarmupPeriod()) {
+            chaos.recordError();
+        }
+        MeasurementWindow window = measurementWindow;
+        if (window != null) {
+            window.recordError();
+        }
+    }
+
+    /**
+     * 최종 실패한 트랜잭션의 에러 분류 기록 (incrementError와 함께 호출)
+     */
+    public void recordErrorCategory(ErrorCategory category) {
+        errorsByCategory.get(category).incrementAndGet();
+    }
+
+    /**
+     * 재시도 1회 기록
+     */
+    public void recordRetry(ErrorCategory category) {
+        totalRetries.incrementAndGet();
+        retriesByCategory.get(category).incrementAndGet();
+        OutageDetector detector = outageDetector;
+        if (detector != null) {
+            detector.recordRetry();
+        }
+    }
+
+    /**
+     * 재시도 끝에 성공한 트랜잭션 기록
+     */
+    public void incrementRetriedTransaction() {
+        retriedTransactions.incrementAndGet();
+    }
+
+    /**
+     * 에러 분류별 최종 실패/재시도 횟수
+     */
+    public List<Map<String, Object>> getErrorCategoryStats() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (ErrorCategory category : ErrorCategory.values()) {
+            long errors = errorsByCategory.get(category).get();
+            long retries = retriesByCategory.get(category).get();
+            if (errors == 0 && retries == 0) continue;
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("category", category.getValue());
+            row.put("errors", errors);
+            row.put("retries", retries);
+            rows.add(row);
+        }
+        return rows;
     }
 
     public void incrementVerificationFailure() {
@@ -142,6 +471,38 @@ public class PerformanceCounter {
 
     public void incrementConnectionRecreate() {
         connectionRecreates.incrementAndGet();
+        OutageDetector detector = outageDetector;
+        if (detector != null) {
+            detector.recordReconnect();
+        }
+        PoolChaosScheduler chaos = poolChaos;
+        if (chaos != null && !isWarmupPeriod()) {
+            chaos.recordReconnect();
+        }
+    }
+
+    /**
+     * 타임라인 이벤트 기록 (장애 구간 등)
+     */
+    public void recordEvent(String type, Map<String, Object> details) {
+        long currentTime = System.currentTimeMillis();
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("timestamp", Instant.ofEpochMilli(currentTime).toString());
+        event.put("elapsedSeconds", Math.round((currentTime - startTime) / 10.0) / 100.0);
+        event.put("type", type);
+        if (details != null) {
+            event.putAll(details);
+        }
+        events.add(event);
+        synchronized (pendingEventTypes) {
+            pendingEventTypes.add(type);
+        }
+    }
+
+    public List<Map<String, Object>> getEvents() {
+        synchronized (events) {
+            return new ArrayList<>(events);
+        }
     }
 
     public double getSubSecondTps() {
@@ -253,27 +614,45 @@ public class PerformanceCounter {
         Map<String, Object> stats = getStats();
         Map<String, Double> latencyStats = getLatencyStats();
 
-        Map<String, Object> record = new HashMap<>();
-        record.put("timestamp", Instant.now().toString());
-        record.put("elapsedSeconds", Math.round((currentTime - startTime) / 10.0) / 100.0);
+        Map<String, Object> record = new LinkedHashMap<>();
         record.put("totalTransactions", stats.get("totalTransactions"));
         record.put("totalInserts", stats.get("totalInserts"));
         record.put("totalSelects", stats.get("totalSelects"));
         record.put("totalUpdates", stats.get("totalUpdates"));
         record.put("totalDeletes", stats.get("totalDeletes"));
         record.put("totalErrors", stats.get("totalErrors"));
+        record.put("totalRetries", stats.get("totalRetries"));
         record.put("realtimeTps", stats.get("realtimeTps"));
         record.put("avgTps", stats.get("avgTps"));
         record.put("latencyAvg", Math.round(latencyStats.get("avg") * 100.0) / 100.0);
         record.put("latencyP95", Math.round(latencyStats.get("p95") * 100.0) / 100.0);
         record.put("latencyP99", Math.round(latencyStats.get("p99") * 100.0) / 100.0);
-        record.put("isWarmup", isWarmupPeriod());
+        boolean warmup = isWarmupPeriod();
+        String eventTypes;
+        synchronized (pendingEventTypes) {
+            // CSV 호환을 위해 ';' 구분
+            eventTypes = String.join(";", pendingEventTypes);
+            pendingEventTypes.clear();
+        }
 
         if (poolStats != null) {
             record.putAll(poolStats);
+            MeasurementWindow window = measurementWindow;
+            if (window != null && poolStats.get("poolPending") instanceof Number pending) {
+                window.recordPoolPending(pending.longValue());
+            }
         }
 
-        timeSeries.add(record);
+        timeSeries.append(currentTime, warmup, eventTypes, record);
+
+        TimeSeriesSink sink = timeSeriesSink;
+        if (sink != null) {
+            record.put("timestamp", Instant.ofEpochMilli(currentTime).toString());
+            record.put("elapsedSeconds", Math.round((currentTime - startTime) / 10.0) / 100.0);
+            record.put("isWarmup", warmup);
+            record.put("events", eventTypes);
+            sink.append(record, timeSeries.getColumns());
+        }
     }
 
     public Map<String, Object> getStats() {
@@ -297,6 +676,8 @@ public class PerformanceCounter {
         stats.put("totalErrors", totalErrors.get());
         stats.put("verificationFailures", verificationFailures.get());
         stats.put("connectionRecreates", connectionRecreates.get());
+        stats.put("totalRetries", totalRetries.get());
+        stats.put("retriedTransactions", retriedTransactions.get());
         stats.put("elapsedSeconds", Math.round(elapsedTime * 100.0) / 100.0);
         stats.put("avgTps", Math.round(avgTps * 100.0) / 100.0);
         stats.put("realtimeTps", Math.round(getSubSecondTps() * 100.0) / 100.0);
@@ -305,8 +686,8 @@ public class PerformanceCounter {
         return stats;
     }
 
-    public List<Map<String, Object>> getTimeSeries() {
-        return new ArrayList<>(timeSeries);
+    public TimeSeriesStore getTimeSeries() {
+        return timeSeries;
     }
 
     // Getters for direct access
@@ -334,7 +715,40 @@ public class PerformanceCounter {
         return totalErrors.get();
     }
 
+    public double getTotalLatencyMs() {
+        return totalLatencyMs.sum();
+    }
+
     public long getStartTime() {
         return startTime;
     }
+
+    /**
+     * 변형별 배정 워커 수와 모니터 구간별 평균 레이턴시 (batch means)
+     */
+    private static final class VariantBatches {
+        private final AtomicInteger workers = new AtomicInteger();
+        private final List<Double> means = new ArrayList<>();
+        private long lastTransactions;
+        private double lastLatencySumMs;
+
+        synchronized void record(TrafficStats stats) {
+            long transactions = stats.getTransactions();
+            double latencySumMs = stats.getLatencySumMs();
+            if (transactions > lastTransactions) {
+                means.add((latencySumMs - lastLatencySumMs) / (transactions - lastTransactions));
+            }
+            lastTransactions = transactions;
+            lastLatencySumMs = latencySumMs;
+        }
+
+        synchronized double[] means() {
+            return means.stream().mapToDouble(Double::doubleValue).toArray();
+        }
+
+        double perWorker(long transactions) {
+            int count = workers.get();
+            return count > 0 ? (double) transactions / count : 0.0;
+        }
+    }
 }
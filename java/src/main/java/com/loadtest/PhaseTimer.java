@@ -0,0 +1,163 @@
+package com.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 트랜잭션 단계별 소요 시간 집계 - 커넥션 획득, 실행, 결과 fetch, 커밋
+ * (접속 폭주 모드에서는 물리 접속/종료 시간도 단계로 기록)
+ *
+ * 단일 트랜잭션 레이턴시로는 회귀 원인이 풀 대기인지, 구문 실행인지, 커밋(redo/WAL sync, 동기 복제)인지
+ * 구분할 수 없으므로 워커가 단계마다 nanoTime으로 측정하여 단계별 히스토그램에 기록한다.
+ * 실행/fetch 경계는 어댑터가 executeQuery 반환 직후 {@link #markFetchStart()}로 표시한다.
+ */
+public class PhaseTimer {
+
+    public enum Phase {
+        CONNECT("connect"),       // 물리 접속 + 인증 + 세션 초기화 (접속 폭주 모드)
+        ACQUIRE("acquire"),
+        EXECUTE("execute"),
+        FETCH("fetch"),
+        COMMIT("commit"),
+        DISCONNECT("disconnect"); // 물리 접속 종료 (접속 폭주 모드)
+
+        private final String value;
+
+        Phase(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    // 스레드별 fetch 시작 시각 (0 = 표시 없음)
+    private static final ThreadLocal<long[]> FETCH_MARK = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final Map<Phase, PhaseHistogram> histograms = new EnumMap<>(Phase.class);
+
+    public PhaseTimer() {
+        for (Phase phase : Phase.values()) {
+            histograms.put(phase, new PhaseHistogram());
+        }
+    }
+
+    /**
+     * 결과셋 fetch 시작 표시 (어댑터에서 executeQuery 반환 직후 호출)
+     */
+    public static void markFetchStart() {
+        FETCH_MARK.get()[0] = System.nanoTime();
+    }
+
+    /**
+     * 구문 실행 시작 - 이전 fetch 표시 초기화
+     */
+    public static long startStatement() {
+        FETCH_MARK.get()[0] = 0;
+        return System.nanoTime();
+    }
+
+    /**
+     * 구문 실행 종료 - fetch 표시가 있으면 실행/fetch로 나누어 기록
+     */
+    public void endStatement(long startNanos) {
+        long end = System.nanoTime();
+        long fetchStart = FETCH_MARK.get()[0];
+        if (fetchStart >= startNanos && fetchStart <= end) {
+            record(Phase.EXECUTE, fetchStart - startNanos);
+            record(Phase.FETCH, end - fetchStart);
+        } else {
+            record(Phase.EXECUTE, end - startNanos);
+        }
+    }
+
+    public void record(Phase phase, long nanos) {
+        histograms.get(phase).record(nanos);
+    }
+
+    /**
+     * 직전 호출 이후 단계별 구간 통계 (모니터 주기마다 1회 호출)
+     * 키 형식: phase.<단계>.avg / .p99 / .count (시계열 컬럼)
+     */
+    public Map<String, Object> snapshotInterval() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        histograms.forEach((phase, histogram) -> {
+            Histogram interval = histogram.snapshotInterval();
+            String prefix = "phase." + phase.getValue();
+            stats.put(prefix + ".count", interval.getTotalCount());
+            stats.put(prefix + ".avg", interval.getTotalCount() > 0 ? round(interval.getMean() / 1000.0) : 0.0);
+            stats.put(prefix + ".p99", percentileMs(interval, 99.0));
+        });
+        return stats;
+    }
+
+    /**
+     * 단계별 누적 통계 (최종 결과용, 기록이 없는 단계 제외)
+     */
+    public List<Map<String, Object>> getSummaries() {
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        histograms.forEach((phase, histogram) -> {
+            Histogram cumulative = histogram.cumulative();
+            if (cumulative.getTotalCount() == 0) return;
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("phase", phase.getValue());
+            summary.put("count", cumulative.getTotalCount());
+            summary.put("avgMs", round(cumulative.getMean() / 1000.0));
+            summary.put("p50Ms", percentileMs(cumulative, 50.0));
+            summary.put("p95Ms", percentileMs(cumulative, 95.0));
+            summary.put("p99Ms", percentileMs(cumulative, 99.0));
+            summary.put("p999Ms", percentileMs(cumulative, 99.9));
+            summary.put("maxMs", round(cumulative.getMaxValue() / 1000.0));
+            summaries.add(summary);
+        });
+        return summaries;
+    }
+
+    private static double percentileMs(Histogram histogram, double percentile) {
+        if (histogram.getTotalCount() == 0) return 0.0;
+        return round(histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * 단계 하나의 히스토그램 (마이크로초, 유효숫자 2자리)
+     */
+    private static class PhaseHistogram {
+        private final Recorder recorder = new Recorder(2);
+        private final Histogram cumulative = new Histogram(2);
+        private final Histogram sinceLastSnapshot = new Histogram(2);
+        private Histogram recycled;
+
+        void record(long nanos) {
+            recorder.recordValue(Math.max(1, nanos / 1000));
+        }
+
+        private void drain() {
+            recycled = recorder.getIntervalHistogram(recycled);
+            cumulative.add(recycled);
+            sinceLastSnapshot.add(recycled);
+        }
+
+        synchronized Histogram snapshotInterval() {
+            drain();
+            Histogram copy = sinceLastSnapshot.copy();
+            sinceLastSnapshot.reset();
+            return copy;
+        }
+
+        synchronized Histogram cumulative() {
+            drain();
+            return cumulative.copy();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커넥션 풀 장애 주입 스케줄러 - 일괄 교체(soft evict)와 사용 중 커넥션 강제 종료
+ *
+ * 운영 환경의 maxLifetime 만료나 failover 후 풀 리셋으로 생기는 레이턴시 튐을 재현한다.
+ * 실행마다 CHAOS 이벤트를 타임라인/시계열에 남기고, 실행 후 impactWindowMs 동안을 churn 구간으로
+ * 보아 churn/steady 구간의 레이턴시와 재접속 수를 나누어 집계한다 (구간 종료 시 CHAOS end 이벤트에 증분 기록).
+ */
+public class PoolChaosScheduler implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(PoolChaosScheduler.class);
+
+    private final List<DatabaseAdapter> adapters;
+    private final PerformanceCounter perfCounter;
+    private final long impactWindowMs;
+    private ScheduledExecutorService scheduler;
+
+    private final TrafficStats steadyStats = new TrafficStats("steady");
+    private final TrafficStats churnStats = new TrafficStats("churn");
+    private final AtomicLong steadyReconnects = new AtomicLong();
+    private final AtomicLong churnReconnects = new AtomicLong();
+    private final AtomicLong softEvictions = new AtomicLong();
+    private final AtomicLong forcedCloses = new AtomicLong();
+    private volatile long churnUntilMs = 0;
+
+    public PoolChaosScheduler(List<DatabaseAdapter> adapters, PerformanceCounter perfCounter, long impactWindowMs) {
+        this.adapters = adapters;
+        this.perfCounter = perfCounter;
+        this.impactWindowMs = Math.max(1, impactWindowMs);
+    }
+
+    /**
+     * 장애 일정 등록 (호출 시점 기준 상대 시간)
+     */
+    public void schedule(List<ChaosSpec> specs) {
+        if (specs.isEmpty()) return;
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "PoolChaos-scheduler");
+            t.setDaemon(true);
+            return t;
+        });
+        for (ChaosSpec spec : specs) {
+            long startMs = (long) (spec.getStartSeconds() * 1000);
+            if (spec.getIntervalSeconds() > 0) {
+                scheduler.scheduleAtFixedRate(() -> fire(spec), startMs,
+                        (long) (spec.getIntervalSeconds() * 1000), TimeUnit.MILLISECONDS);
+            } else {
+                scheduler.schedule(() -> fire(spec), startMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        logger.info("[PoolChaos] Scheduled {} actions: {}", specs.size(), specs);
+    }
+
+    /**
+     * 장애 1회 실행
+     */
+    public void fire(ChaosSpec spec) {
+        int poolTotal = 0;
+        int poolActive = 0;
+        for (DatabaseAdapter adapter : adapters) {
+            Map<String, Object> poolStats = adapter.getPoolStats();
+            poolTotal += ((Number) poolStats.getOrDefault("poolTotal", 0)).intValue();
+            poolActive += ((Number) poolStats.getOrDefault("poolActive", 0)).intValue();
+        }
+
+        int affected = 0;
+        switch (spec.getAction()) {
+            case EVICT -> {
+                adapters.forEach(DatabaseAdapter::softEvictConnections);
+                softEvictions.incrementAndGet();
+                affected = poolTotal;
+            }
+            case KILL -> {
+                for (DatabaseAdapter adapter : adapters) {
+                    if (affected >= spec.getCount()) break;
+                    affected += adapter.forceCloseConnections(spec.getCount() - affected);
+                }
+                forcedCloses.addAndGet(affected);
+            }
+        }
+        churnUntilMs = System.currentTimeMillis() + impactWindowMs;
+
+        logger.info("[PoolChaos] {} ({} of {} connections affected, {} active)",
+                spec.getAction().getValue(), affected, poolTotal, poolActive);
+        Map<String, Object> details = spec.toMap();
+        details.put("phase", "start");
+        details.put("connections", affected);
+        details.put("poolTotal", poolTotal);
+        details.put("poolActive", poolActive);
+        perfCounter.recordEvent("CHAOS", details);
+
+        // 영향 구간 종료 시 재접속/에러 증분 기록
+        Map<String, Object> before = perfCounter.getStats();
+        scheduler.schedule(() -> {
+            Map<String, Object> after = perfCounter.getStats();
+            Map<String, Object> end = spec.toMap();
+            end.put("phase", "end");
+            end.put("windowMs", impactWindowMs);
+            end.put("transactions", delta(before, after, "totalTransactions"));
+            end.put("errors", delta(before, after, "totalErrors"));
+            end.put("reconnects", delta(before, after, "connectionRecreates"));
+            perfCounter.recordEvent("CHAOS", end);
+        }, impactWindowMs, TimeUnit.MILLISECONDS);
+    }
+
+    private static long delta(Map<String, Object> before, Map<String, Object> after, String key) {
+        return ((Number) after.get(key)).longValue() - ((Number) before.get(key)).longValue();
+    }
+
+    private boolean inChurnWindow() {
+        return System.currentTimeMillis() < churnUntilMs;
+    }
+
+    /**
+     * 트랜잭션 성공 기록 (PerformanceCounter에서 warmup 이후만 호출)
+     */
+    public void recordSuccess(double latencyMs) {
+        (inChurnWindow() ? churnStats : steadyStats).recordSuccess(latencyMs);
+    }
+
+    public void recordError() {
+        (inChurnWindow() ? churnStats : steadyStats).recordError();
+    }
+
+    public void recordReconnect() {
+        (inChurnWindow() ? churnReconnects : steadyReconnects).incrementAndGet();
+    }
+
+    /**
+     * steady/churn 구간별 집계 + churn 구간 평균 레이턴시 차이의 Welch t-검정
+     */
+    public List<Map<String, Object>> getSummary() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        Map<String, Object> steady = new LinkedHashMap<>(steadyStats.getSummary());
+        steady.put("reconnects", steadyReconnects.get());
+        rows.add(steady);
+
+        Map<String, Object> churn = new LinkedHashMap<>(churnStats.getSummary());
+        churn.put("reconnects", churnReconnects.get());
+        churn.put("softEvictions", softEvictions.get());
+        churn.put("forcedCloses", forcedCloses.get());
+        double[] s = steadyStats.getLatencyMoments();
+        double[] c = churnStats.getLatencyMoments();
+        double[] test = Statistics.welchTTest(s[1], s[2], (long) s[0], c[1], c[2], (long) c[0]);
+        double steadyP99 = ((Number) steady.get("latencyP99")).doubleValue();
+        churn.put("p99Ratio", steadyP99 > 0
+                ? Math.round(((Number) churn.get("latencyP99")).doubleValue() / steadyP99 * 1000.0) / 1000.0 : 0.0);
+        churn.put("pValue", Math.round(test[2] * 10000.0) / 10000.0);
+        rows.add(churn);
+        return rows;
+    }
+
+    public long getImpactWindowMs() {
+        return impactWindowMs;
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
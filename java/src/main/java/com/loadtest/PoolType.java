@@ -0,0 +1,35 @@
+package com.loadtest;
+
+/**
+ * 커넥션 풀 구현 종류
+ */
+public enum PoolType {
+    HIKARI("hikari", "HikariCP"),                // HikariCP (기본)
+    DIRECT("direct", "DriverManager, no pool"),  // 풀 없음 - 요청마다 DriverManager로 물리 커넥션 생성/종료
+    SIMPLE("simple", "simple pool");             // 최소 기능 lock-free 풀 (풀 구현 오버헤드 비교용)
+
+    private final String value;
+    private final String displayName;  // 배너/결과 출력용 이름
+
+    PoolType(String value, String displayName) {
+        this.value = value;
+        this.displayName = displayName;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public static PoolType fromString(String text) {
+        for (PoolType type : PoolType.values()) {
+            if (type.value.equalsIgnoreCase(text)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown pool type: " + text);
+    }
+}
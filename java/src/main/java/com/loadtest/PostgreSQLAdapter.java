@@ -1,18 +1,45 @@
 package com.loadtest;
 
 import java.sql.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * PostgreSQL JDBC 어댑터 (HikariCP 기반)
  */
 public class PostgreSQLAdapter extends AbstractDatabaseAdapter {
 
+    // synchronous_commit 수준 (동기 복제 구성에서 커밋이 기다리는 standby 단계)
+    private static final Map<String, String> COMMIT_PROFILES = new LinkedHashMap<>();
+    static {
+        COMMIT_PROFILES.put("off", "SET synchronous_commit = off");
+        COMMIT_PROFILES.put("local", "SET synchronous_commit = local");
+        COMMIT_PROFILES.put("remote-write", "SET synchronous_commit = remote_write");
+        COMMIT_PROFILES.put("on", "SET synchronous_commit = on");
+        COMMIT_PROFILES.put("remote-apply", "SET synchronous_commit = remote_apply");
+    }
+
+    @Override
+    protected Map<String, String> getCommitProfileSql() {
+        return COMMIT_PROFILES;
+    }
+
     @Override
     public String buildJdbcUrl(DatabaseConfig config) {
-        return String.format("jdbc:postgresql://%s:%d/%s",
+        String url = String.format("jdbc:postgresql://%s:%d/%s",
                 config.getHost(),
                 config.getDefaultPort(),
                 config.getDatabase());
+        if (config.getSsl() != null) {
+            // require = 암호화만 (인증서 검증 없음), disable = 평문
+            url += config.getSsl() ? "?sslmode=require" : "?sslmode=disable";
+        }
+        return url;
+    }
+
+    @Override
+    public boolean supportsSsl() {
+        return true;
     }
 
     @Override
@@ -20,6 +47,19 @@ public class PostgreSQLAdapter extends AbstractDatabaseAdapter {
         return "org.postgresql.Driver";
     }
 
+    @Override
+    protected Map<String, String> getTunedDriverProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        // 첫 실행부터 서버측 prepared statement 사용 (기본 5회째부터)
+        properties.put("prepareThreshold", "1");
+        properties.put("preparedStatementCacheQueries", "256");
+        // 배치 INSERT를 multi-row INSERT로 재작성
+        properties.put("reWriteBatchedInserts", "true");
+        properties.put("binaryTransfer", "true");
+        properties.put("defaultRowFetchSize", "1000");
+        return properties;
+    }
+
     @Override
     public long executeInsert(Connection conn, String threadId, String randomData) throws SQLException {
         String sql = """
@@ -66,6 +106,7 @@ public class PostgreSQLAdapter extends AbstractDatabaseAdapter {
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setLong(1, recordId);
             try (ResultSet rs = ps.executeQuery()) {
+                PhaseTimer.markFetchStart();
                 if (rs.next()) {
                     return new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3)};
                 }
@@ -81,10 +122,10 @@ public class PostgreSQLAdapter extends AbstractDatabaseAdapter {
     }
 
     @Override
-    public boolean executeUpdate(Connection conn, long recordId) throws SQLException {
+    public boolean executeUpdate(Connection conn, long recordId, String value) throws SQLException {
         String sql = "UPDATE load_test SET value_col = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, "UPDATED_" + recordId);
+            ps.setString(1, value);
             ps.setLong(2, recordId);
             return ps.executeUpdate() > 0;
         }
@@ -0,0 +1,241 @@
+package com.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 워커 공용 재접속 코디네이터 - circuit breaker + jitter 백오프 + 동시 접속 시도 제한
+ *
+ * DB 다운 시 수백 개 워커가 같은 주기로 재접속하면 standby 기동 직후 logon storm이 발생하여 복구가 지연된다.
+ * 연속 실패가 임계값에 도달하면 breaker가 OPEN 되어 모든 워커가 대기하고, 대기 시간이 지나면
+ * HALF_OPEN 상태에서 한 워커만 probe 접속을 시도한다. probe 성공 시 CLOSED로 전환된다.
+ * 커넥션을 잃은 워커의 재접속 검증(서버 왕복)은 permit 수로 동시 실행이 제한되며, permit은 풀 대기가 끝난 뒤에만 잡는다.
+ * 풀 고갈로 인한 획득 타임아웃은 엔드포인트 장애가 아니므로 breaker 실패로 집계하지 않는다.
+ */
+public class ReconnectCoordinator {
+    private static final Logger logger = LoggerFactory.getLogger(ReconnectCoordinator.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * 커넥션 획득 시도 1회 (풀에서 획득 + 유효성 검증)
+     */
+    @FunctionalInterface
+    public interface ConnectionAttempt {
+        Connection attempt() throws SQLException;
+    }
+
+    /**
+     * 커넥션 유효성 검사 (서버 왕복)
+     */
+    @FunctionalInterface
+    public interface ConnectionCheck {
+        boolean isValid(Connection conn) throws SQLException;
+    }
+
+    private final PerformanceCounter perfCounter;
+    private final Semaphore permits;
+    private final int maxConcurrentAttempts;
+    private final int failureThreshold;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    // breaker 상태 (this 모니터로 보호, state/consecutiveFailures는 CLOSED 빠른 경로용으로 volatile)
+    private volatile State state = State.CLOSED;
+    private volatile int consecutiveFailures = 0;
+    private int openCount = 0;
+    private long openUntilMs = 0;
+    private boolean probeInFlight = false;
+
+    private final AtomicLong attempts = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+    private final AtomicLong deferredAttempts = new AtomicLong();  // breaker 대기로 시도하지 못한 횟수
+    private final AtomicLong poolTimeouts = new AtomicLong();      // 풀 고갈 타임아웃 (breaker 미집계)
+    private final AtomicLong reconnectChecks = new AtomicLong();
+    private final AtomicLong breakerOpens = new AtomicLong();
+
+    public ReconnectCoordinator(PerformanceCounter perfCounter, int maxConcurrentAttempts, int failureThreshold,
+                                long baseBackoffMs, long maxBackoffMs) {
+        this.perfCounter = perfCounter;
+        this.maxConcurrentAttempts = Math.max(1, maxConcurrentAttempts);
+        this.permits = new Semaphore(this.maxConcurrentAttempts, true);
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.baseBackoffMs = Math.max(1, baseBackoffMs);
+        this.maxBackoffMs = Math.max(this.baseBackoffMs, maxBackoffMs);
+    }
+
+    /**
+     * breaker를 거쳐 커넥션 획득
+     *
+     * @param maxWaitMs breaker OPEN 대기 최대 시간
+     * @return 커넥션, 대기 시간 내 시도하지 못한 경우 null (에러 아님)
+     * @throws SQLException 실제 시도가 실패한 경우 (풀 고갈 타임아웃이 아니면 breaker 실패로 집계)
+     */
+    public Connection acquire(ConnectionAttempt attempt, long maxWaitMs) throws SQLException, InterruptedException {
+        long deadline = System.currentTimeMillis() + maxWaitMs;
+        boolean probe = false;
+
+        // 정상 상태에서는 모니터를 잡지 않음 (트랜잭션마다 커넥션을 빌리는 경우 워커 간 직렬화 방지)
+        if (state != State.CLOSED) {
+            synchronized (this) {
+                while (true) {
+                    long now = System.currentTimeMillis();
+                    if (state == State.CLOSED) {
+                        break;
+                    }
+                    if (state == State.OPEN && now >= openUntilMs) {
+                        transition(State.HALF_OPEN);
+                    }
+                    if (state == State.HALF_OPEN && !probeInFlight) {
+                        probeInFlight = true;
+                        probe = true;
+                        break;
+                    }
+                    long remaining = deadline - now;
+                    if (remaining <= 0) {
+                        deferredAttempts.incrementAndGet();
+                        return null;
+                    }
+                    long waitMs = state == State.OPEN ? openUntilMs - now : remaining;
+                    wait(Math.max(1, Math.min(waitMs, remaining)));
+                }
+            }
+        }
+
+        try {
+            attempts.incrementAndGet();
+            Connection conn = attempt.attempt();
+            onSuccess();
+            return conn;
+        } catch (SQLException e) {
+            if (isPoolTimeout(e)) {
+                // 풀이 가득 차서 기다리다 끝난 경우 - 엔드포인트는 정상이므로 breaker 상태 유지
+                poolTimeouts.incrementAndGet();
+                onPoolTimeout(probe);
+            } else {
+                failedAttempts.incrementAndGet();
+                onFailure(probe);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 재접속 검증 - 커넥션을 잃은 워커가 새로 얻은 커넥션의 서버 왕복을 permit 수로 제한
+     * 풀에서 커넥션을 받은 뒤에 호출하므로 permit을 잡은 채 풀을 기다리지 않는다
+     */
+    public boolean checkReconnect(Connection conn, ConnectionCheck check) throws SQLException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for reconnect permit");
+        }
+        try {
+            reconnectChecks.incrementAndGet();
+            return check.isValid(conn);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 풀 고갈 타임아웃 여부 - 원인 예외가 없는 획득 타임아웃
+     * (HikariCP는 직전 물리 접속 실패가 있으면 원인으로 붙이므로 그 경우는 엔드포인트 장애로 본다)
+     */
+    static boolean isPoolTimeout(SQLException e) {
+        return e instanceof SQLTransientConnectionException && e.getCause() == null
+                && e.getMessage() != null && e.getMessage().contains("request timed out");
+    }
+
+    private void onSuccess() {
+        if (state == State.CLOSED && consecutiveFailures == 0) {
+            return;
+        }
+        onSuccessLocked();
+    }
+
+    private synchronized void onSuccessLocked() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        if (state != State.CLOSED) {
+            openCount = 0;
+            transition(State.CLOSED);
+        }
+        notifyAll();
+    }
+
+    private synchronized void onPoolTimeout(boolean probe) {
+        if (probe) {
+            probeInFlight = false;  // 다른 워커가 probe를 다시 시도
+            notifyAll();
+        }
+    }
+
+    private synchronized void onFailure(boolean probe) {
+        consecutiveFailures++;
+        if (probe) {
+            probeInFlight = false;
+            open();
+        } else if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            open();
+        }
+        notifyAll();
+    }
+
+    private void open() {
+        openCount++;
+        breakerOpens.incrementAndGet();
+        openUntilMs = System.currentTimeMillis() + backoffMs(openCount - 1);
+        transition(State.OPEN);
+    }
+
+    private void transition(State next) {
+        if (state == next) return;
+        state = next;
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("state", next.name());
+        details.put("consecutiveFailures", consecutiveFailures);
+        if (next == State.OPEN) {
+            details.put("openForMs", Math.max(0, openUntilMs - System.currentTimeMillis()));
+        }
+        perfCounter.recordEvent("BREAKER", details);
+        logger.info("[Reconnect] Circuit breaker {} (consecutive failures: {})", next, consecutiveFailures);
+    }
+
+    /**
+     * jitter 백오프 (full jitter: [base, min(max, base * 2^attempt)] 균등 분포)
+     */
+    public long backoffMs(int attempt) {
+        long cap = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt, 20));
+        return baseBackoffMs + ThreadLocalRandom.current().nextLong(Math.max(1, cap - baseBackoffMs + 1));
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public Map<String, Object> getSummary() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxConcurrentAttempts", maxConcurrentAttempts);
+        stats.put("failureThreshold", failureThreshold);
+        stats.put("maxBackoffMs", maxBackoffMs);
+        stats.put("attempts", attempts.get());
+        stats.put("failedAttempts", failedAttempts.get());
+        stats.put("deferredAttempts", deferredAttempts.get());
+        stats.put("poolTimeouts", poolTimeouts.get());
+        stats.put("reconnectChecks", reconnectChecks.get());
+        stats.put("breakerOpens", breakerOpens.get());
+        stats.put("finalState", getState().name());
+        return stats;
+    }
+}
@@ -0,0 +1,143 @@
+package com.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 반복 시행 - 같은 측정 구간을 N번 실행하여 시행 간 분산과 95% 신뢰구간 산출
+ *
+ * 단일 실행의 평균 TPS로는 HA 구성 간 작은 차이를 믿기 어려우므로, 풀을 유지한 채 시행마다
+ * (시행 워밍업 + 측정)을 반복하고({@link StagedMeasurement}) 측정 구간 통계를 지표별로 요약한다.
+ * 신뢰구간은 시행 값을 표본으로 한 Student t 구간 (mean ± t(0.975, n-1) · s / √n).
+ */
+public class RepeatedTrials extends StagedMeasurement {
+
+    /**
+     * 시행 사이 초기화 방식
+     */
+    public enum Reset {
+        NONE("none"),           // 초기화 없음 (데이터 누적)
+        TRUNCATE("truncate"),   // 테이블 TRUNCATE (시행마다 같은 데이터 상태에서 시작)
+        POOL("pool"),           // 풀 soft evict (시행마다 새 물리 커넥션)
+        ALL("all");             // TRUNCATE + 풀 soft evict
+
+        private final String value;
+
+        Reset(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public boolean truncates() {
+            return this == TRUNCATE || this == ALL;
+        }
+
+        public boolean evictsPool() {
+            return this == POOL || this == ALL;
+        }
+
+        public static Reset fromString(String text) {
+            for (Reset reset : values()) {
+                if (reset.value.equalsIgnoreCase(text)) {
+                    return reset;
+                }
+            }
+            throw new IllegalArgumentException("Unknown trial reset: " + text);
+        }
+    }
+
+    // 요약 대상 지표 (MeasurementWindow 결과 키)
+    private static final String[] METRICS = {
+        "tps", "latencyAvg", "latencyP50", "latencyP95", "latencyP99", "latencyP999", "errors"
+    };
+
+    private final int trials;
+    private final Reset reset;
+
+    public RepeatedTrials(int trials, int trialWarmupSeconds, int trialDurationSeconds, Reset reset) {
+        super("Trials", "Trial", trialWarmupSeconds, trialDurationSeconds);
+        this.trials = trials;
+        this.reset = reset;
+    }
+
+    public Reset getReset() {
+        return reset;
+    }
+
+    @Override
+    public int getStepCount() {
+        return trials;
+    }
+
+    @Override
+    public int getThreads(int step, int threadCount) {
+        return threadCount;
+    }
+
+    @Override
+    protected Map<String, Object> getStepKeys(int step, int threads) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("trial", step);
+        return keys;
+    }
+
+    @Override
+    public String getEventType() {
+        return "TRIAL";
+    }
+
+    @Override
+    public Map<String, Object> getEventDetails(int step, int threads) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("trial", step);
+        details.put("reset", step > 1 ? reset.getValue() : "none");
+        return details;
+    }
+
+    @Override
+    public String describeResult(Map<String, Object> row) {
+        return String.format("%s TPS, p50 %sms, p99 %sms, errors %s",
+                row.get("tps"), row.get("latencyP50"), row.get("latencyP99"), row.get("errors"));
+    }
+
+    /**
+     * 지표별 시행 간 통계: 평균, 표준편차(n-1), 분산, 95% 신뢰구간, 변동계수
+     * 시행이 2회 미만이면 표준편차/신뢰구간은 0
+     */
+    public List<Map<String, Object>> getStatistics() {
+        List<Map<String, Object>> rows = getResults();
+        List<Map<String, Object>> statistics = new ArrayList<>();
+        for (String metric : METRICS) {
+            double[] values = new double[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                values[i] = ((Number) rows.get(i).get(metric)).doubleValue();
+            }
+            int n = values.length;
+            double mean = Statistics.mean(values);
+            double stdDev = Statistics.stdDev(values);
+            double halfWidth = n >= 2 ? Statistics.tQuantile(0.975, n - 1) * stdDev / Math.sqrt(n) : 0.0;
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("metric", metric);
+            row.put("trials", n);
+            row.put("mean", round(mean));
+            row.put("stdDev", round(stdDev));
+            row.put("variance", round(stdDev * stdDev));
+            row.put("ci95Low", round(mean - halfWidth));
+            row.put("ci95High", round(mean + halfWidth));
+            row.put("ci95HalfWidth", round(halfWidth));
+            row.put("cvPct", mean != 0 ? round(stdDev / mean * 100.0) : 0.0);
+            row.put("min", round(n > 0 ? Arrays.stream(values).min().getAsDouble() : 0));
+            row.put("max", round(n > 0 ? Arrays.stream(values).max().getAsDouble() : 0));
+            statistics.add(row);
+        }
+        return statistics;
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 복제 가시성 지연 측정 스레드
+ *
+ * primary에 마커 행을 INSERT + COMMIT 한 뒤 standby(읽기 풀) 커넥션에서 해당 행이 조회될 때까지 폴링한다.
+ * 서버가 보고하는 복제 지연이 아닌, 부하 상태에서 커밋 완료 ~ standby 조회 가능 시점까지의 실제 지연을 측정한다.
+ * DatabaseAdapter 공통 메서드만 사용하므로 모든 어댑터에서 동작한다.
+ */
+public class ReplicationLagProbe extends Thread {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicationLagProbe.class);
+
+    private static final String MARKER_THREAD_ID = "LagProbe";
+    private static final long MIN_POLL_INTERVAL_MS = 1;   // 첫 폴링 간격 (짧은 지연의 해상도)
+    private static final long MAX_POLL_INTERVAL_MS = 50;  // 폴링 간격 상한 (지연이 길 때 standby 부하 제한)
+    private static final long MAX_WAIT_MS = 30_000;  // 이 시간 내 조회되지 않으면 timeout 처리
+
+    private final DatabaseAdapter dbAdapter;
+    private final long probeIntervalMs;
+
+    // 지연 히스토그램 (마이크로초, 유효숫자 2자리)
+    private final Recorder recorder = new Recorder(2);
+    private final Histogram cumulative = new Histogram(2);
+    private final Histogram sinceLastSnapshot = new Histogram(2);
+    private Histogram recycled;
+
+    private final AtomicLong timeouts = new AtomicLong(0);
+    private final AtomicLong probeErrors = new AtomicLong(0);
+    private long lastTimeouts = 0;
+
+    private Connection primaryConnection;
+    private Connection standbyConnection;
+    private volatile boolean running = true;
+
+    public ReplicationLagProbe(DatabaseAdapter dbAdapter, long probeIntervalMs) {
+        super("ReplicationLagProbe");
+        setDaemon(true);
+        this.dbAdapter = dbAdapter;
+        this.probeIntervalMs = Math.max(10, probeIntervalMs);
+    }
+
+    @Override
+    public void run() {
+        logger.info("[LagProbe] Started (interval: {}ms, standby: {})",
+                probeIntervalMs, dbAdapter.hasReadPool() ? "read pool" : "primary pool");
+
+        while (running) {
+            try {
+                probeOnce();
+            } catch (SQLException e) {
+                probeErrors.incrementAndGet();
+                logger.debug("[LagProbe] Probe failed: {}", e.getMessage());
+                releaseConnections(true);
+            }
+
+            try {
+                Thread.sleep(probeIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        releaseConnections(false);
+        logger.info("[LagProbe] Stopped");
+    }
+
+    private void probeOnce() throws SQLException {
+        if (primaryConnection == null) {
+            primaryConnection = dbAdapter.getConnection();
+        }
+        if (standbyConnection == null) {
+            standbyConnection = dbAdapter.getReadConnection();
+        }
+
+        long markerId = dbAdapter.executeInsert(primaryConnection, MARKER_THREAD_ID,
+                dbAdapter.generateRandomData(32));
+        dbAdapter.commit(primaryConnection);
+        long committedAt = System.nanoTime();
+
+        boolean visible = false;
+        long pollIntervalMs = MIN_POLL_INTERVAL_MS;
+        long deadline = committedAt + MAX_WAIT_MS * 1_000_000L;
+        while (running && System.nanoTime() < deadline) {
+            Object[] row = dbAdapter.executeSelect(standbyConnection, markerId);
+            if (!standbyConnection.getAutoCommit()) {
+                // 다음 폴링에서 새 스냅샷을 보도록 트랜잭션 종료
+                standbyConnection.rollback();
+            }
+            if (row != null) {
+                visible = true;
+                break;
+            }
+            try {
+                // 지수 백오프 (1, 2, 4, ... 50ms) - 측정 해상도는 대기 간격만큼 거칠어짐
+                Thread.sleep(pollIntervalMs);
+                pollIntervalMs = Math.min(MAX_POLL_INTERVAL_MS, pollIntervalMs * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+        }
+
+        if (visible) {
+            long lagMicros = (System.nanoTime() - committedAt) / 1000;
+            recorder.recordValue(Math.max(1, lagMicros));
+        } else if (running) {
+            timeouts.incrementAndGet();
+            logger.info("[LagProbe] Marker {} not visible on standby within {}ms", markerId, MAX_WAIT_MS);
+        }
+
+        // 마커 행 정리 (부하 테이블 크기에 영향 주지 않도록)
+        dbAdapter.executeDelete(primaryConnection, markerId);
+        dbAdapter.commit(primaryConnection);
+    }
+
+    private void releaseConnections(boolean isError) {
+        if (primaryConnection != null) {
+            dbAdapter.releaseConnection(primaryConnection, isError);
+            primaryConnection = null;
+        }
+        if (standbyConnection != null) {
+            dbAdapter.releaseConnection(standbyConnection, isError);
+            standbyConnection = null;
+        }
+    }
+
+    private void drain() {
+        recycled = recorder.getIntervalHistogram(recycled);
+        cumulative.add(recycled);
+        sinceLastSnapshot.add(recycled);
+    }
+
+    /**
+     * 직전 호출 이후 구간 지연 통계 (모니터 주기마다 1회 호출)
+     */
+    public synchronized Map<String, Object> snapshotInterval() {
+        drain();
+        long currentTimeouts = timeouts.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("replLagSamples", sinceLastSnapshot.getTotalCount());
+        stats.put("replLagP50", percentileMs(sinceLastSnapshot, 50.0));
+        stats.put("replLagP99", percentileMs(sinceLastSnapshot, 99.0));
+        stats.put("replLagMax", maxMs(sinceLastSnapshot));
+        stats.put("replLagTimeouts", currentTimeouts - lastTimeouts);
+        lastTimeouts = currentTimeouts;
+        sinceLastSnapshot.reset();
+        return stats;
+    }
+
+    /**
+     * 전체 지연 분포 요약 (최종 결과용)
+     */
+    public synchronized Map<String, Object> getSummary() {
+        drain();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("probeIntervalMs", probeIntervalMs);
+        stats.put("samples", cumulative.getTotalCount());
+        stats.put("timeouts", timeouts.get());
+        stats.put("probeErrors", probeErrors.get());
+        stats.put("lagMeanMs", cumulative.getTotalCount() > 0 ? round(cumulative.getMean() / 1000.0) : 0.0);
+        stats.put("lagMinMs", cumulative.getTotalCount() > 0 ? round(cumulative.getMinValue() / 1000.0) : 0.0);
+        stats.put("lagP50Ms", percentileMs(cumulative, 50.0));
+        stats.put("lagP95Ms", percentileMs(cumulative, 95.0));
+        stats.put("lagP99Ms", percentileMs(cumulative, 99.0));
+        stats.put("lagP999Ms", percentileMs(cumulative, 99.9));
+        stats.put("lagMaxMs", maxMs(cumulative));
+        return stats;
+    }
+
+    public void stopProbe() {
+        running = false;
+        interrupt();
+        try {
+            join(MAX_WAIT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static double percentileMs(Histogram histogram, double percentile) {
+        if (histogram.getTotalCount() == 0) return 0.0;
+        return round(histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    private static double maxMs(Histogram histogram) {
+        if (histogram.getTotalCount() == 0) return 0.0;
+        return round(histogram.getMaxValue() / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
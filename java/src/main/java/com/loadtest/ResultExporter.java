@@ -2,93 +2,208 @@ package com.loadtest;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.FileWriter;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 테스트 결과 내보내기
+ *
+ * 결과 트리를 메모리에 만들지 않고 섹션/행 단위로 파일에 바로 쓴다 (시계열 행 수와 무관하게 메모리 일정).
+ * 시계열 열 순서는 저장소의 열 선언 순서로 고정되며, 경로가 .gz로 끝나면 gzip으로 압축하며 기록한다.
  */
 public class ResultExporter {
     private static final Logger logger = LoggerFactory.getLogger(ResultExporter.class);
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final Gson gson = new GsonBuilder().create();
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    /**
+     * 출력 파일 열기 (.gz 경로는 gzip 스트림)
+     */
+    private static Writer openWriter(String filepath) throws IOException {
+        OutputStream out = new FileOutputStream(filepath);
+        if (filepath.endsWith(".gz")) {
+            out = new GZIPOutputStream(out, BUFFER_BYTES);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_BYTES);
+    }
 
     /**
      * CSV 형식으로 내보내기
      */
     public static void exportCsv(String filepath, Map<String, Object> stats,
-                                  List<Map<String, Object>> timeSeries,
-                                  Map<String, Object> config) {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filepath))) {
+                                  TimeSeriesStore timeSeries,
+                                  Map<String, Object> config,
+                                  Map<String, Object> extraSections) {
+        try (PrintWriter writer = new PrintWriter(openWriter(filepath))) {
             // 설정 정보
             writer.println("# Configuration");
             for (Map.Entry<String, Object> entry : config.entrySet()) {
-                writer.println("# " + entry.getKey() + "," + entry.getValue());
+                writer.println("# " + entry.getKey() + "," + escapeCsv(String.valueOf(entry.getValue())));
             }
             writer.println();
 
-            // 최종 통계
+            // 최종 통계 (키 이름순)
             writer.println("# Final Statistics");
-            for (Map.Entry<String, Object> entry : stats.entrySet()) {
-                writer.println("# " + entry.getKey() + "," + entry.getValue());
+            for (Map.Entry<String, Object> entry : new TreeMap<>(stats).entrySet()) {
+                writer.println("# " + entry.getKey() + "," + escapeCsv(String.valueOf(entry.getValue())));
             }
             writer.println();
 
-            // 시계열 데이터
-            if (!timeSeries.isEmpty()) {
-                writer.println("# Time Series Data");
-                // 헤더
-                Map<String, Object> first = timeSeries.get(0);
-                writer.println(String.join(",", first.keySet()));
+            // 시계열 데이터 (실행 전체를 담은 가장 세밀한 해상도, 저장소에서 한 행씩 직접 기록)
+            TimeSeriesStore.Resolution resolution = timeSeries.getExportResolution();
+            if (timeSeries.size(resolution) > 0) {
+                writer.println("# Time Series Data (" + resolution.getValue() + ")");
+                // 헤더 (선언된 열 순서 고정, 행에 없는 열은 빈 값)
+                List<String> columns = timeSeries.getColumns();
+                writer.println(String.join(",", columns));
 
                 // 데이터
-                for (Map<String, Object> record : timeSeries) {
-                    StringBuilder sb = new StringBuilder();
-                    for (Object value : record.values()) {
-                        if (sb.length() > 0) sb.append(",");
-                        sb.append(value != null ? value.toString() : "");
+                StringBuilder sb = new StringBuilder(512);
+                timeSeries.forEachRow(resolution, record -> {
+                    sb.setLength(0);
+                    for (int i = 0; i < columns.size(); i++) {
+                        if (i > 0) sb.append(",");
+                        Object value = record.get(columns.get(i));
+                        if (value != null) sb.append(escapeCsv(value.toString()));
                     }
                     writer.println(sb);
-                }
+                });
+            }
+
+            // 추가 섹션 (이벤트 등)
+            for (Map.Entry<String, Object> section : extraSections.entrySet()) {
+                writeCsvSection(writer, section.getKey(), section.getValue());
             }
 
+            if (writer.checkError()) {
+                throw new IOException("write error");
+            }
             logger.info("Results exported to CSV: {}", filepath);
         } catch (IOException e) {
             logger.error("Failed to export CSV: {}", e.getMessage());
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static void writeCsvSection(PrintWriter writer, String name, Object value) {
+        writer.println();
+        writer.println("# " + name);
+        if (value instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writer.println("# " + entry.getKey() + "," + escapeCsv(String.valueOf(entry.getValue())));
+            }
+        } else if (value instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof Map) {
+            // 행마다 키가 다를 수 있으므로 전체 키 합집합을 헤더로 사용
+            Set<String> header = new LinkedHashSet<>();
+            for (Object row : list) {
+                header.addAll(((Map<String, Object>) row).keySet());
+            }
+            writer.println(String.join(",", header));
+            for (Object row : list) {
+                Map<String, Object> record = (Map<String, Object>) row;
+                StringBuilder sb = new StringBuilder();
+                for (String key : header) {
+                    if (sb.length() > 0) sb.append(",");
+                    Object cell = record.get(key);
+                    if (cell != null) sb.append(escapeCsv(cell.toString()));
+                }
+                writer.println(sb);
+            }
+        }
+    }
+
     /**
-     * JSON 형식으로 내보내기
+     * CSV 값 이스케이프 - 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다 (RFC 4180)
+     */
+    static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * JSON 형식으로 내보내기 - JsonWriter로 섹션 순서대로 스트리밍 기록
+     * 순서: testInfo, configuration, finalStatistics, latencyStatistics, timeSeriesSchema, timeSeries, 추가 섹션
      */
     public static void exportJson(String filepath, Map<String, Object> stats,
-                                   List<Map<String, Object>> timeSeries,
+                                   TimeSeriesStore timeSeries,
                                    Map<String, Object> config,
-                                   Map<String, Double> latencyStats) {
-        Map<String, Object> result = new LinkedHashMap<>();
+                                   Map<String, Double> latencyStats,
+                                   Map<String, Object> extraSections) {
+        try (JsonWriter json = new JsonWriter(openWriter(filepath))) {
+            json.setIndent("  ");
+            json.setHtmlSafe(true);
+            json.beginObject();
 
-        Map<String, Object> testInfo = new LinkedHashMap<>();
-        testInfo.put("timestamp", Instant.now().toString());
-        testInfo.put("version", "0.2.2");
-        result.put("testInfo", testInfo);
+            json.name("testInfo").beginObject();
+            json.name("timestamp").value(Instant.now().toString());
+            json.name("version").value(MultiDBLoadTester.VERSION);
+            json.endObject();
 
-        result.put("configuration", config);
-        result.put("finalStatistics", stats);
-        result.put("latencyStatistics", latencyStats);
-        result.put("timeSeries", timeSeries);
+            writeJsonValue(json, "configuration", config);
+            writeJsonValue(json, "finalStatistics", new TreeMap<>(stats));
+            writeJsonValue(json, "latencyStatistics", latencyStats);
+
+            // 시계열: 열 선언과 해상도를 먼저 기록 (값이 없는 열은 행 객체에서 생략됨)
+            TimeSeriesStore.Resolution resolution = timeSeries.getExportResolution();
+            json.name("timeSeriesSchema").beginObject();
+            json.name("resolution").value(resolution.getValue());
+            json.name("rows").value(timeSeries.size(resolution));
+            writeJsonValue(json, "columns", timeSeries.getColumns());
+            json.endObject();
+
+            json.name("timeSeries").beginArray();
+            timeSeries.forEachRow(resolution, record -> gson.toJson(record, Map.class, json));
+            json.endArray();
+
+            for (Map.Entry<String, Object> section : extraSections.entrySet()) {
+                writeJsonValue(json, section.getKey(), section.getValue());
+            }
 
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filepath))) {
-            writer.println(gson.toJson(result));
+            json.endObject();
             logger.info("Results exported to JSON: {}", filepath);
-        } catch (IOException e) {
+        } catch (IOException | RuntimeException e) {
             logger.error("Failed to export JSON: {}", e.getMessage());
         }
     }
+
+    /**
+     * 섹션 하나 기록 - 목록은 원소 단위로 직렬화하여 전체 문자열을 만들지 않음
+     */
+    private static void writeJsonValue(JsonWriter json, String name, Object value) throws IOException {
+        json.name(name);
+        if (value instanceof List<?> list) {
+            json.beginArray();
+            for (Object element : list) {
+                if (element == null) {
+                    json.nullValue();
+                } else {
+                    gson.toJson(element, element.getClass(), json);
+                }
+            }
+            json.endArray();
+        } else if (value == null) {
+            json.nullValue();
+        } else {
+            gson.toJson(value, value.getClass(), json);
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package com.loadtest;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 트랜잭션 재시도 정책 - 재시도 대상 에러 분류, 최대 재시도 횟수, jitter 백오프
+ */
+public class RetryPolicy {
+    private final int maxRetries;
+    private final Set<ErrorCategory> retryableCategories;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    public RetryPolicy(int maxRetries, Set<ErrorCategory> retryableCategories, long baseBackoffMs, long maxBackoffMs) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryableCategories = retryableCategories.isEmpty()
+                ? EnumSet.noneOf(ErrorCategory.class) : EnumSet.copyOf(retryableCategories);
+        this.baseBackoffMs = Math.max(0, baseBackoffMs);
+        this.maxBackoffMs = Math.max(this.baseBackoffMs, maxBackoffMs);
+    }
+
+    /**
+     * 재시도 비활성 정책 (기존 동작)
+     */
+    public static RetryPolicy none() {
+        return new RetryPolicy(0, EnumSet.noneOf(ErrorCategory.class), 0, 0);
+    }
+
+    /**
+     * @param retriesSoFar 이미 수행한 재시도 횟수
+     */
+    public boolean shouldRetry(ErrorCategory category, int retriesSoFar) {
+        return retriesSoFar < maxRetries && retryableCategories.contains(category);
+    }
+
+    /**
+     * 재시도 전 대기 시간 (full jitter)
+     */
+    public long backoffMs(int retriesSoFar) {
+        if (baseBackoffMs == 0) return 0;
+        long cap = Math.min(maxBackoffMs, baseBackoffMs << Math.min(retriesSoFar, 20));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public boolean isEnabled() {
+        return maxRetries > 0 && !retryableCategories.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "maxRetries=" + maxRetries + ", categories="
+                + retryableCategories.stream().map(ErrorCategory::getValue).collect(Collectors.joining(","))
+                + ", backoff=" + baseBackoffMs + "-" + maxBackoffMs + "ms";
+    }
+}
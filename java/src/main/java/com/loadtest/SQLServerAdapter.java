@@ -1,18 +1,52 @@
 package com.loadtest;
 
 import java.sql.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map;
 
 /**
  * SQL Server JDBC 어댑터 (HikariCP 기반)
  */
 public class SQLServerAdapter extends AbstractDatabaseAdapter {
 
+    // 지연 내구성은 세션 설정이 없으므로 커밋 구문에서 지정 (DB의 DELAYED_DURABILITY = ALLOWED 필요)
+    private static final Map<String, String> COMMIT_PROFILES = Map.of("delayed", "");
+
+    @Override
+    protected Map<String, String> getCommitProfileSql() {
+        return COMMIT_PROFILES;
+    }
+
+    @Override
+    protected String describeCommitProfile(String profile) {
+        return "COMMIT TRANSACTION WITH (DELAYED_DURABILITY = ON), requires ALTER DATABASE ... SET DELAYED_DURABILITY = ALLOWED";
+    }
+
+    @Override
+    public void commit(Connection conn) throws SQLException {
+        if (!"delayed".equals(commitProfile)) {
+            conn.commit();
+            return;
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("IF @@TRANCOUNT > 0 COMMIT TRANSACTION WITH (DELAYED_DURABILITY = ON)");
+        }
+    }
+
     @Override
     public String buildJdbcUrl(DatabaseConfig config) {
-        return String.format("jdbc:sqlserver://%s:%d;databaseName=%s;encrypt=false;trustServerCertificate=true",
+        // 기본값은 평문 (encrypt=true는 trustServerCertificate로 인증서 검증 생략)
+        return String.format("jdbc:sqlserver://%s:%d;databaseName=%s;encrypt=%s;trustServerCertificate=true",
                 config.getHost(),
                 config.getDefaultPort(),
-                config.getDatabase());
+                config.getDatabase(),
+                Boolean.TRUE.equals(config.getSsl()));
+    }
+
+    @Override
+    public boolean supportsSsl() {
+        return true;
     }
 
     @Override
@@ -20,6 +54,17 @@ public class SQLServerAdapter extends AbstractDatabaseAdapter {
         return "com.microsoft.sqlserver.jdbc.SQLServerDriver";
     }
 
+    @Override
+    protected Map<String, String> getTunedDriverProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        // 드라이버 statement 풀링 (기본 비활성 → 매 실행마다 sp_prepexec)
+        properties.put("disableStatementPooling", "false");
+        properties.put("statementPoolingCacheSize", "256");
+        properties.put("packetSize", "32767");
+        // sendStringParametersAsUnicode=false는 NVARCHAR 컬럼에서 암묵 변환을 일으키므로 기본값(true) 유지
+        return properties;
+    }
+
     @Override
     public long executeInsert(Connection conn, String threadId, String randomData) throws SQLException {
         String sql = """
@@ -68,6 +113,7 @@ public class SQLServerAdapter extends AbstractDatabaseAdapter {
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setLong(1, recordId);
             try (ResultSet rs = ps.executeQuery()) {
+                PhaseTimer.markFetchStart();
                 if (rs.next()) {
                     return new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3)};
                 }
@@ -83,10 +129,10 @@ public class SQLServerAdapter extends AbstractDatabaseAdapter {
     }
 
     @Override
-    public boolean executeUpdate(Connection conn, long recordId) throws SQLException {
+    public boolean executeUpdate(Connection conn, long recordId, String value) throws SQLException {
         String sql = "UPDATE load_test SET value_col = ?, updated_at = GETDATE() WHERE id = ?";
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, "UPDATED_" + recordId);
+            ps.setString(1, value);
             ps.setLong(2, recordId);
             return ps.executeUpdate() > 0;
         }
@@ -0,0 +1,389 @@
+package com.loadtest;
+
+import com.zaxxer.hikari.HikariConfig;
+
+import java.sql.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * SQLite JDBC 어댑터 (임베디드, DB 서버 없이 오프라인 실행 및 하네스 자가 검증용)
+ *
+ * --database 값이 DB 파일 경로이며 host/port/계정은 사용하지 않는다.
+ * SQLite는 DB 파일당 쓰기 트랜잭션이 하나뿐이므로 쓰기 구문은 어댑터 공용 writer 락을 잡고
+ * commit/rollback/반환 시 해제한다 (락 충돌 시 busy handler 대기 후 SQLITE_BUSY 에러가 나는 대신 공정 대기열로 직렬화).
+ * 읽기 구문은 완료 즉시 트랜잭션을 종료하여 SHARED 락이 writer의 커밋을 막지 않도록 한다.
+ * WAL을 쓸 수 없는 rollback journal 모드에서는 커밋 중 읽기도 SQLITE_BUSY가 되므로 읽기도 같은 락의 공유 모드를 잡는다.
+ */
+public class SQLiteAdapter extends AbstractDatabaseAdapter {
+
+    // synchronous 수준 (DB 기본값 FULL)
+    private static final Map<String, String> COMMIT_PROFILES = new LinkedHashMap<>();
+    static {
+        COMMIT_PROFILES.put("off", "PRAGMA synchronous = OFF");
+        COMMIT_PROFILES.put("normal", "PRAGMA synchronous = NORMAL");
+        COMMIT_PROFILES.put("full", "PRAGMA synchronous = FULL");
+    }
+
+    private static final int SQLITE_MIN_IDLE = 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(true);
+    private long lockTimeoutMs = 30000;
+    private volatile boolean walEnabled = false;
+
+    @Override
+    protected Map<String, String> getCommitProfileSql() {
+        return COMMIT_PROFILES;
+    }
+
+    @Override
+    public void createConnectionPool(DatabaseConfig config) {
+        this.lockTimeoutMs = config.getConnectionTimeoutMs();
+        // 쓰기는 writer 락으로 직렬화되므로 유휴 커넥션을 미리 많이 열어 둘 필요 없음 (읽기 동시성만 풀 크기의 영향을 받음)
+        // 풀 설정 로그가 실제 값을 보이도록 설정 자체를 조정
+        int effectiveMin = Math.min(config.getMinPoolSize(), SQLITE_MIN_IDLE);
+        if (effectiveMin != config.getMinPoolSize()) {
+            logger.info("[SQLite] Min pool size limited to {} (requested: {}) - writes are serialized by the adapter",
+                    effectiveMin, config.getMinPoolSize());
+        }
+        super.createConnectionPool(config.toBuilder().minPoolSize(effectiveMin).build());
+        enableWal();
+    }
+
+    /**
+     * WAL 모드 전환 (DB 파일에 영구 저장, 읽기와 쓰기가 서로 막지 않음)
+     * SQLite 3.7.0 미만 드라이버는 WAL을 지원하지 않으며 rollback journal(delete)을 그대로 사용한다.
+     */
+    private void enableWal() {
+        Connection conn = null;
+        try {
+            conn = getConnection();
+            // journal_mode는 트랜잭션 밖에서만 변경 가능
+            conn.setAutoCommit(true);
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("PRAGMA journal_mode = WAL")) {
+                String mode = rs.next() ? rs.getString(1) : "unknown";
+                walEnabled = "wal".equalsIgnoreCase(mode);
+                if (walEnabled) {
+                    logger.info("SQLite journal mode: wal");
+                } else {
+                    logger.info("SQLite journal mode: {} (WAL not supported by SQLite {} - reads are serialized "
+                            + "with write transactions)", mode, conn.getMetaData().getDatabaseProductVersion());
+                }
+            }
+            conn.setAutoCommit(false);
+        } catch (SQLException e) {
+            logger.info("SQLite journal mode unchanged: {}", e.getMessage());
+        } finally {
+            releaseConnection(conn, false);
+        }
+    }
+
+    @Override
+    public String buildJdbcUrl(DatabaseConfig config) {
+        String path = config.getDatabase();
+        return "jdbc:sqlite:" + (path == null || path.isEmpty() ? "loadtest.db" : path);
+    }
+
+    @Override
+    public String getDriverClassName() {
+        return "org.sqlite.JDBC";
+    }
+
+    @Override
+    protected HikariConfig buildHikariConfig(DatabaseConfig config, String jdbcUrl, String poolName) {
+        HikariConfig hikariConfig = super.buildHikariConfig(config, jdbcUrl, poolName);
+        // 파일 DB에는 계정이 없음
+        hikariConfig.setUsername(null);
+        hikariConfig.setPassword(null);
+        return hikariConfig;
+    }
+
+    @Override
+    protected Map<String, String> getTunedDriverProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        // 드라이버가 커넥션 생성 시 PRAGMA로 적용 (커밋 프로필 지정 시 synchronous는 프로필 값 우선)
+        properties.put("synchronous", "NORMAL");
+        properties.put("cache_size", "10000");
+        properties.put("temp_store", "MEMORY");
+        return properties;
+    }
+
+    @Override
+    public boolean isEmbedded() {
+        return true;
+    }
+
+    /**
+     * JDBC3 드라이버는 isValid를 구현하지 않으므로 검증 쿼리로 대체
+     */
+    @Override
+    public boolean isConnectionValid(Connection conn, int timeoutSeconds) {
+        try {
+            if (conn.isClosed()) return false;
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(getValidationQuery());
+            }
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * writer 락 획득 (현재 스레드가 이미 보유 중이면 그대로 사용)
+     */
+    private void acquireWriteLock() throws SQLException {
+        if (lock.isWriteLockedByCurrentThread()) return;
+        try {
+            if (!lock.writeLock().tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException("Timed out waiting for SQLite write lock (" + lockTimeoutMs + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for SQLite write lock");
+        }
+    }
+
+    private void releaseWriteLock() {
+        while (lock.isWriteLockedByCurrentThread()) {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 읽기 시작 (rollback journal 모드에서만 공유 락 획득, 쓰기 트랜잭션 중이면 불필요)
+     *
+     * @return 공유 락 획득 여부
+     */
+    private boolean beginRead() throws SQLException {
+        if (walEnabled || lock.isWriteLockedByCurrentThread()) return false;
+        try {
+            if (!lock.readLock().tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException("Timed out waiting for SQLite read lock (" + lockTimeoutMs + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for SQLite read lock");
+        }
+        return true;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션 종료 (쓰기 트랜잭션 중이면 커밋 시점까지 유지)
+     */
+    private void endRead(Connection conn, boolean locked) throws SQLException {
+        try {
+            if (!lock.isWriteLockedByCurrentThread() && !conn.getAutoCommit()) {
+                conn.commit();
+            }
+        } finally {
+            if (locked) {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public void commit(Connection conn) throws SQLException {
+        try {
+            super.commit(conn);
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public void rollback(Connection conn) {
+        try {
+            super.rollback(conn);
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public void releaseConnection(Connection connection, boolean isError) {
+        try {
+            super.releaseConnection(connection, isError);
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public long executeInsert(Connection conn, String threadId, String randomData) throws SQLException {
+        String sql = """
+            INSERT INTO load_test (thread_id, value_col, random_data, created_at)
+            VALUES (?, ?, ?, CURRENT_TIMESTAMP)
+            """;
+
+        acquireWriteLock();
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, threadId);
+            ps.setString(2, "TEST_" + threadId);
+            ps.setString(3, randomData);
+            ps.executeUpdate();
+
+            // 드라이버가 last_insert_rowid()로 반환
+            try (ResultSet rs = ps.getGeneratedKeys()) {
+                if (rs.next()) {
+                    return rs.getLong(1);
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int executeBatchInsert(Connection conn, String threadId, int batchSize) throws SQLException {
+        String sql = """
+            INSERT INTO load_test (thread_id, value_col, random_data, created_at)
+            VALUES (?, ?, ?, CURRENT_TIMESTAMP)
+            """;
+        String randomData = generateRandomData(500);
+
+        acquireWriteLock();
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < batchSize; i++) {
+                ps.setString(1, threadId);
+                ps.setString(2, "TEST_" + threadId);
+                ps.setString(3, randomData);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        return batchSize;
+    }
+
+    @Override
+    public Object[] executeSelect(Connection conn, long recordId) throws SQLException {
+        String sql = "SELECT id, thread_id, value_col FROM load_test WHERE id = ?";
+        boolean locked = beginRead();
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, recordId);
+            try (ResultSet rs = ps.executeQuery()) {
+                PhaseTimer.markFetchStart();
+                if (rs.next()) {
+                    return new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3)};
+                }
+            }
+        } finally {
+            endRead(conn, locked);
+        }
+        return null;
+    }
+
+    @Override
+    public Object[] executeRandomSelect(Connection conn, long maxId) throws SQLException {
+        if (maxId <= 0) return null;
+        return executeSelect(conn, getRandomId(maxId));
+    }
+
+    @Override
+    public boolean executeUpdate(Connection conn, long recordId, String value) throws SQLException {
+        String sql = "UPDATE load_test SET value_col = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+        acquireWriteLock();
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, value);
+            ps.setLong(2, recordId);
+            return ps.executeUpdate() > 0;
+        }
+    }
+
+    @Override
+    public boolean executeDelete(Connection conn, long recordId) throws SQLException {
+        String sql = "DELETE FROM load_test WHERE id = ?";
+        acquireWriteLock();
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, recordId);
+            return ps.executeUpdate() > 0;
+        }
+    }
+
+    @Override
+    public long getMaxId(Connection conn) throws SQLException {
+        String sql = "SELECT COALESCE(MAX(id), 0) FROM load_test";
+        boolean locked = beginRead();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            if (rs.next()) {
+                return rs.getLong(1);
+            }
+        } finally {
+            endRead(conn, locked);
+        }
+        return 0;
+    }
+
+    @Override
+    public String getDDL() {
+        return """
+            -- SQLite DDL
+            CREATE TABLE load_test (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                thread_id VARCHAR(50) NOT NULL,
+                value_col VARCHAR(200),
+                random_data VARCHAR(1000),
+                status VARCHAR(20) DEFAULT 'ACTIVE',
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            );
+
+            CREATE INDEX idx_load_test_thread ON load_test(thread_id, created_at);
+            """;
+    }
+
+    @Override
+    public void setupSchema(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            // 테이블 존재 여부 확인
+            boolean tableExists = false;
+            try (ResultSet rs = stmt.executeQuery(
+                    "SELECT COUNT(*) FROM sqlite_master WHERE type = 'table' AND name = 'load_test'")) {
+                if (rs.next() && rs.getInt(1) > 0) {
+                    tableExists = true;
+                }
+            }
+
+            if (tableExists) {
+                conn.commit();
+                logger.info("SQLite schema already exists - reusing existing schema");
+                logger.info("  (delete the database file to recreate, or use --truncate to clear data only)");
+                return;
+            }
+
+            // AUTOINCREMENT = 삭제된 ID 재사용 방지 (다른 DB의 시퀀스와 동일한 동작)
+            stmt.execute("""
+                CREATE TABLE load_test (
+                    id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    thread_id VARCHAR(50) NOT NULL,
+                    value_col VARCHAR(200),
+                    random_data VARCHAR(1000),
+                    status VARCHAR(20) DEFAULT 'ACTIVE',
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+
+            // 인덱스 생성
+            stmt.execute("CREATE INDEX idx_load_test_thread ON load_test(thread_id, created_at)");
+
+            conn.commit();
+            logger.info("SQLite schema created successfully");
+        }
+    }
+
+    @Override
+    public void truncateTable(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            // TRUNCATE 없음 - DELETE 후 AUTOINCREMENT 시퀀스 초기화
+            stmt.execute("DELETE FROM load_test");
+            stmt.execute("DELETE FROM sqlite_sequence WHERE name = 'load_test'");
+            conn.commit();
+            logger.info("Table load_test truncated and sequence reset to 1");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 동시성 확장성 sweep - 한 번의 실행에서 스레드 수를 단계별로 늘려 가며 측정
+ *
+ * 단계마다 워커 N개를 (단계 워밍업 + 측정) 동안 돌리고({@link StagedMeasurement}), 단계 측정 구간의 트랜잭션만
+ * 집계하여 TPS, p50/p99, 에러, 풀 대기를 표로 남기고,
+ * 단계별 TPS에 Universal Scalability Law를 적합하여 경합(σ)/일관성(κ) 계수를 구한다.
+ */
+public class ScalabilitySweep extends StagedMeasurement {
+    private final List<Integer> stages;
+
+    public ScalabilitySweep(List<Integer> stages, int stageWarmupSeconds, int stageDurationSeconds) {
+        super("Sweep", "Stage", stageWarmupSeconds, stageDurationSeconds);
+        this.stages = stages;
+    }
+
+    /**
+     * 단계 목록 파싱
+     * 형식: 8,16,32,64 (나열) | 8-512 (시작값부터 2배씩 끝값까지)
+     */
+    public static List<Integer> parseStages(String spec) {
+        List<Integer> stages = new ArrayList<>();
+        try {
+            String trimmed = spec.trim();
+            if (trimmed.matches("\\d+-\\d+")) {
+                String[] range = trimmed.split("-");
+                int from = Integer.parseInt(range[0]);
+                int to = Integer.parseInt(range[1]);
+                if (from <= 0 || to < from) {
+                    throw new IllegalArgumentException("Invalid sweep range (<from>-<to>, 0 < from <= to): " + spec);
+                }
+                for (long n = from; n <= to; n *= 2) {
+                    stages.add((int) n);
+                }
+            } else {
+                for (String part : trimmed.split(",")) {
+                    int n = Integer.parseInt(part.trim());
+                    if (n <= 0) {
+                        throw new IllegalArgumentException("Sweep thread count must be positive: " + spec);
+                    }
+                    stages.add(n);
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid sweep stages (8,16,32 or 8-512): " + spec);
+        }
+        return stages;
+    }
+
+    public List<Integer> getStages() {
+        return stages;
+    }
+
+    public int getMaxThreads() {
+        return stages.stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    @Override
+    public int getStepCount() {
+        return stages.size();
+    }
+
+    @Override
+    public int getThreads(int step, int threadCount) {
+        return stages.get(step - 1);
+    }
+
+    @Override
+    protected Map<String, Object> getStepKeys(int step, int threads) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("threads", threads);
+        return keys;
+    }
+
+    @Override
+    public String getEventType() {
+        return "SWEEP";
+    }
+
+    @Override
+    public Map<String, Object> getEventDetails(int step, int threads) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("stage", step);
+        details.put("threads", threads);
+        return details;
+    }
+
+    @Override
+    public String describeResult(Map<String, Object> row) {
+        return String.format("%s threads, %s TPS, p99 %sms, errors %s, pool pending avg %s",
+                row.get("threads"), row.get("tps"), row.get("latencyP99"), row.get("errors"), row.get("poolPendingAvg"));
+    }
+
+    /**
+     * 단계별 TPS에 USL 적합 (단계 3개 미만이면 null)
+     */
+    public UniversalScalabilityLaw fit() {
+        List<Map<String, Object>> rows = getResults();
+        int[] threads = new int[rows.size()];
+        double[] tps = new double[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            threads[i] = ((Number) rows.get(i).get("threads")).intValue();
+            tps[i] = ((Number) rows.get(i).get("tps")).doubleValue();
+        }
+        return UniversalScalabilityLaw.fit(threads, tps);
+    }
+
+    /**
+     * 결과 표에 USL 예측 TPS와 상대 오차 추가 (내보내기/출력용)
+     */
+    public List<Map<String, Object>> getResultsWithModel(UniversalScalabilityLaw model) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Map<String, Object> result : getResults()) {
+            Map<String, Object> row = new LinkedHashMap<>(result);
+            if (model != null) {
+                double predicted = model.predict(((Number) row.get("threads")).intValue());
+                double actual = ((Number) row.get("tps")).doubleValue();
+                row.put("uslTps", round(predicted));
+                row.put("uslErrorPct", actual > 0 ? round((predicted - actual) / actual * 100.0) : 0.0);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 가상 DB 구문 처리 시간 분포 (null 어댑터용)
+ */
+public class ServiceTimeSpec {
+
+    public enum Distribution {
+        NONE("none"),               // 대기 없음 (하네스 처리량 상한 측정)
+        FIXED("fixed"),             // 고정값
+        UNIFORM("uniform"),         // [min, max] 균등 분포
+        EXPONENTIAL("exp"),         // 평균 지정 지수 분포 (M/M/c 서버 모델)
+        LOGNORMAL("lognormal");     // 중앙값 + sigma 로그정규 분포 (긴 꼬리)
+
+        private final String value;
+
+        Distribution(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public static Distribution fromString(String value) {
+            for (Distribution distribution : values()) {
+                if (distribution.value.equalsIgnoreCase(value)) {
+                    return distribution;
+                }
+            }
+            throw new IllegalArgumentException("Unknown service time distribution: " + value);
+        }
+    }
+
+    public static final ServiceTimeSpec NONE = new ServiceTimeSpec(Distribution.NONE, 0, 0);
+
+    private final Distribution distribution;
+    private final double param1;  // fixed: ms, uniform: min ms, exp: 평균 ms, lognormal: 중앙값 ms
+    private final double param2;  // uniform: max ms, lognormal: sigma
+
+    public ServiceTimeSpec(Distribution distribution, double param1, double param2) {
+        this.distribution = distribution;
+        this.param1 = param1;
+        this.param2 = param2;
+    }
+
+    /**
+     * 분포 파싱
+     * 형식: none | fixed:<ms> | uniform:<min>-<max> | exp:<평균ms> | lognormal:<중앙값ms>:<sigma>
+     */
+    public static ServiceTimeSpec parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return NONE;
+        }
+        String[] parts = spec.trim().split(":");
+        Distribution distribution = Distribution.fromString(parts[0]);
+        try {
+            return switch (distribution) {
+                case NONE -> NONE;
+                case FIXED, EXPONENTIAL -> {
+                    requireParts(spec, parts, 2);
+                    yield new ServiceTimeSpec(distribution, nonNegative(spec, parts[1]), 0);
+                }
+                case UNIFORM -> {
+                    requireParts(spec, parts, 2);
+                    String[] range = parts[1].split("-");
+                    if (range.length != 2) {
+                        throw new IllegalArgumentException("Invalid uniform service time (uniform:<min>-<max>): " + spec);
+                    }
+                    double min = nonNegative(spec, range[0]);
+                    double max = nonNegative(spec, range[1]);
+                    if (max < min) {
+                        throw new IllegalArgumentException("Invalid uniform service time (max < min): " + spec);
+                    }
+                    yield new ServiceTimeSpec(distribution, min, max);
+                }
+                case LOGNORMAL -> {
+                    requireParts(spec, parts, 3);
+                    yield new ServiceTimeSpec(distribution, nonNegative(spec, parts[1]), nonNegative(spec, parts[2]));
+                }
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in service time: " + spec);
+        }
+    }
+
+    private static void requireParts(String spec, String[] parts, int expected) {
+        if (parts.length != expected) {
+            throw new IllegalArgumentException("Invalid service time (none, fixed:<ms>, uniform:<min>-<max>, "
+                    + "exp:<mean>, lognormal:<median>:<sigma>): " + spec);
+        }
+    }
+
+    private static double nonNegative(String spec, String value) {
+        double parsed = Double.parseDouble(value.trim());
+        if (parsed < 0) {
+            throw new IllegalArgumentException("Service time must not be negative: " + spec);
+        }
+        return parsed;
+    }
+
+    /**
+     * 처리 시간 1회 샘플 (나노초)
+     */
+    public long sampleNanos() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double ms = switch (distribution) {
+            case NONE -> 0;
+            case FIXED -> param1;
+            case UNIFORM -> param1 + random.nextDouble() * (param2 - param1);
+            case EXPONENTIAL -> -param1 * Math.log(1.0 - random.nextDouble());
+            case LOGNORMAL -> param1 * Math.exp(param2 * random.nextGaussian());
+        };
+        return (long) (ms * 1_000_000);
+    }
+
+    /**
+     * 샘플 시간만큼 대기 (parkNanos는 일찍 깨어날 수 있으므로 마감 시각까지 반복)
+     */
+    public void await() {
+        if (distribution == Distribution.NONE) return;
+        long deadline = System.nanoTime() + sampleNanos();
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    public Distribution getDistribution() {
+        return distribution;
+    }
+
+    @Override
+    public String toString() {
+        return switch (distribution) {
+            case NONE -> "none";
+            case FIXED, EXPONENTIAL -> distribution.getValue() + ":" + param1;
+            case UNIFORM -> "uniform:" + param1 + "-" + param2;
+            case LOGNORMAL -> "lognormal:" + param1 + ":" + param2;
+        };
+    }
+}
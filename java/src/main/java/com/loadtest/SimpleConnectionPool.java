@@ -0,0 +1,252 @@
+package com.loadtest;
+
+import com.zaxxer.hikari.HikariConfig;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최소 기능 lock-free 풀 - 유휴 커넥션 큐 + CAS 카운터
+ *
+ * HikariCP의 ConcurrentBag/하우스키핑 없이 대여/반환 경로만 남긴 구현으로,
+ * 풀 구현 자체의 오버헤드와 경합을 HikariCP와 비교하기 위해 사용한다.
+ * 대여/반환은 lock-free이며, 풀이 가득 찬 경우에만 Condition으로 반환/폐기 신호를 기다린다 (대기자가 있을 때만 lock).
+ * 커넥션은 필요 시 생성하며(prefill 없음) maxLifetime/idleTimeout 회수는 하지 않는다.
+ */
+public class SimpleConnectionPool extends DriverConnectionPool {
+    private static final long VALIDATE_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final ConcurrentLinkedQueue<IdleConnection> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition available = waitLock.newCondition();  // 유휴 커넥션 반환 또는 슬롯 해제
+    private final int maxPoolSize;
+    private final long timeoutNanos;
+    private volatile long evictBeforeNanos;  // 이 시각 이전에 생성된 커넥션은 반환/대여 시 폐기
+    private volatile boolean closed = false;
+
+    public SimpleConnectionPool(HikariConfig config) {
+        super(config);
+        this.maxPoolSize = Math.max(1, config.getMaximumPoolSize());
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getConnectionTimeout());
+        this.evictBeforeNanos = System.nanoTime() - 1;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        boolean counted = false;
+        try {
+            while (true) {
+                if (closed) {
+                    throw new SQLException("Pool is closed", "08003");
+                }
+                IdleConnection entry = pollIdle();
+                if (entry != null) {
+                    return wrap(entry.connection, entry.createdAt);
+                }
+                int current = total.get();
+                if (current < maxPoolSize && total.compareAndSet(current, current + 1)) {
+                    try {
+                        Connection physical = openPhysical();
+                        return wrap(physical, System.nanoTime());
+                    } catch (SQLException | RuntimeException e) {
+                        total.decrementAndGet();
+                        signalWaiter();
+                        throw e;
+                    }
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new SQLTransientConnectionException("Connection is not available, request timed out after "
+                            + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms (total=" + total.get() + ")", "08001");
+                }
+                if (!counted) {
+                    // 대기자 등록 후 다시 확인 - 등록 전의 반환은 재확인에서, 이후의 반환은 신호로 감지
+                    waiting.incrementAndGet();
+                    counted = true;
+                    continue;
+                }
+                awaitAvailable(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", "08001");
+        } finally {
+            if (counted) {
+                waiting.decrementAndGet();
+            }
+        }
+    }
+
+    private void awaitAvailable(long remainingNanos) throws InterruptedException {
+        waitLock.lock();
+        try {
+            if (!closed && idleCount.get() == 0 && total.get() >= maxPoolSize) {
+                available.awaitNanos(remainingNanos);
+            }
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * 반환/폐기 후 대기자 하나 깨움 (대기자가 없으면 lock 없이 통과)
+     */
+    private void signalWaiter() {
+        if (waiting.get() == 0) return;
+        waitLock.lock();
+        try {
+            available.signal();
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * 유휴 커넥션 대여 (오래 쉬었던 커넥션은 isValid로 검증, 실패 시 폐기)
+     */
+    private IdleConnection pollIdle() {
+        IdleConnection entry;
+        while ((entry = idle.poll()) != null) {
+            idleCount.decrementAndGet();
+            if (!isEvicted(entry.createdAt)
+                    && (System.nanoTime() - entry.returnedAt < VALIDATE_IDLE_NANOS || isValid(entry.connection))) {
+                return entry;
+            }
+            discard(entry.connection);
+        }
+        return null;
+    }
+
+    private boolean isEvicted(long createdNanos) {
+        return createdNanos - evictBeforeNanos <= 0;
+    }
+
+    private boolean isValid(Connection conn) {
+        try {
+            return conn.isValid((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(config.getValidationTimeout())));
+        } catch (SQLException e) {
+            return false;
+        } catch (AbstractMethodError e) {
+            // JDBC3 드라이버 (isValid 미구현) - 테스트 쿼리로 대체
+            return isValidByQuery(conn);
+        }
+    }
+
+    private boolean isValidByQuery(Connection conn) {
+        String query = config.getConnectionTestQuery();
+        try {
+            if (query == null || query.isEmpty()) {
+                return !conn.isClosed();
+            }
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(query);
+            }
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected void onReturn(Connection physical, long createdNanos, boolean broken) {
+        if (closed || broken || isEvicted(createdNanos)) {
+            discard(physical);
+            return;
+        }
+        try {
+            if (physical.isClosed()) {
+                total.decrementAndGet();
+                signalWaiter();
+                return;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+            }
+        } catch (SQLException e) {
+            discard(physical);
+            return;
+        }
+        idle.offer(new IdleConnection(physical, createdNanos, System.nanoTime()));
+        idleCount.incrementAndGet();
+        signalWaiter();
+        if (closed) {
+            drainIdle();  // close()와 경합한 반환분 정리
+        }
+    }
+
+    private void discard(Connection conn) {
+        total.decrementAndGet();
+        closeQuietly(conn);
+        signalWaiter();
+    }
+
+    private void drainIdle() {
+        IdleConnection entry;
+        while ((entry = idle.poll()) != null) {
+            idleCount.decrementAndGet();
+            discard(entry.connection);
+        }
+    }
+
+    @Override
+    public PoolType getType() {
+        return PoolType.SIMPLE;
+    }
+
+    @Override
+    public int getTotalConnections() {
+        return total.get();
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return Math.max(0, total.get() - idleCount.get());
+    }
+
+    @Override
+    public int getIdleConnections() {
+        return idleCount.get();
+    }
+
+    @Override
+    public int getThreadsAwaitingConnection() {
+        return waiting.get();
+    }
+
+    @Override
+    public void softEvictConnections() {
+        evictBeforeNanos = System.nanoTime();
+        drainIdle();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        drainIdle();  // 대여 중 커넥션은 반환 시 닫힘
+        waitLock.lock();
+        try {
+            available.signalAll();
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    private record IdleConnection(Connection connection, long createdAt, long returnedAt) {
+    }
+}
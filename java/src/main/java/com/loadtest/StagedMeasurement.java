@@ -0,0 +1,122 @@
+package com.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단계별 측정 실행의 공통 부분 (확장성 sweep, 반복 시행)
+ *
+ * 풀은 실행 내내 유지하고 단계마다 워커를 (단계 워밍업 + 측정) 동안 돌려 측정 구간({@link MeasurementWindow})
+ * 통계를 결과 행으로 남긴다. 하위 클래스는 단계 수, 단계별 스레드 수, 결과 행 식별 열, 단계 이벤트 내용만 정하고
+ * 결과 요약은 각자 제공한다.
+ */
+public abstract class StagedMeasurement {
+    private final String logTag;
+    private final String stepName;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+
+    private final List<Map<String, Object>> results = new ArrayList<>();
+    private Map<String, Object> currentKeys;
+    private MeasurementWindow current;
+
+    protected StagedMeasurement(String logTag, String stepName, int warmupSeconds, int durationSeconds) {
+        this.logTag = logTag;
+        this.stepName = stepName;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+    }
+
+    /**
+     * 단계 수
+     */
+    public abstract int getStepCount();
+
+    /**
+     * 단계(1부터)의 워커 스레드 수 - threadCount는 --thread-count 값
+     */
+    public abstract int getThreads(int step, int threadCount);
+
+    /**
+     * 결과 행 앞에 붙는 단계 식별 열 (예: threads, trial)
+     */
+    protected abstract Map<String, Object> getStepKeys(int step, int threads);
+
+    /**
+     * 단계 시작 시 기록할 이벤트 유형과 내용
+     */
+    public abstract String getEventType();
+
+    public abstract Map<String, Object> getEventDetails(int step, int threads);
+
+    /**
+     * 단계 종료 로그에 붙일 결과 요약
+     */
+    public abstract String describeResult(Map<String, Object> row);
+
+    public String getLogTag() {
+        return logTag;
+    }
+
+    public String getStepName() {
+        return stepName;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    /**
+     * 전체 예정 시간 (단계 워밍업 + 측정의 합)
+     */
+    public int getTotalSeconds() {
+        return getStepCount() * (warmupSeconds + durationSeconds);
+    }
+
+    /**
+     * 단계 시작 - 측정 구간(시각, ms) 집계기를 반환 (PerformanceCounter에 연결)
+     */
+    public MeasurementWindow begin(int step, int threads, long measureStartMs, long measureEndMs) {
+        currentKeys = getStepKeys(step, threads);
+        current = new MeasurementWindow(measureStartMs, measureEndMs);
+        return current;
+    }
+
+    /**
+     * 단계 종료 - 측정 구간 통계를 결과에 추가하고 반환
+     */
+    public Map<String, Object> end() {
+        MeasurementWindow window = current;
+        current = null;
+        if (window == null) return Map.of();
+        Map<String, Object> row = new LinkedHashMap<>(currentKeys);
+        row.putAll(window.summarize());
+        synchronized (results) {
+            results.add(row);
+        }
+        return row;
+    }
+
+    /**
+     * 단계 폐기 (종료 요청으로 측정 구간을 다 채우지 못한 경우 - 요약을 왜곡하지 않도록 결과에서 제외)
+     */
+    public void discard() {
+        current = null;
+    }
+
+    public List<Map<String, Object>> getResults() {
+        synchronized (results) {
+            return new ArrayList<>(results);
+        }
+    }
+
+    protected static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,188 @@
+package com.loadtest;
+
+/**
+ * 결과 비교용 통계 함수 (외부 의존성 없이 구현)
+ */
+public final class Statistics {
+    private static final int MAX_ITERATIONS = 300;
+    private static final double EPSILON = 1e-12;
+
+    private Statistics() {
+    }
+
+    /**
+     * Welch t-검정 (등분산 가정 없음, 양측)
+     *
+     * @return {t, 자유도, p-value}
+     */
+    public static double[] welchTTest(double mean1, double stdDev1, long n1,
+                                      double mean2, double stdDev2, long n2) {
+        if (n1 < 2 || n2 < 2) {
+            return new double[]{0.0, 0.0, 1.0};
+        }
+        double v1 = stdDev1 * stdDev1 / n1;
+        double v2 = stdDev2 * stdDev2 / n2;
+        double se = Math.sqrt(v1 + v2);
+        if (se == 0) {
+            return new double[]{0.0, n1 + n2 - 2, mean1 == mean2 ? 1.0 : 0.0};
+        }
+        double t = (mean2 - mean1) / se;
+        double df = (v1 + v2) * (v1 + v2) / (v1 * v1 / (n1 - 1) + v2 * v2 / (n2 - 1));
+        return new double[]{t, df, twoSidedP(t, df)};
+    }
+
+    /**
+     * Student t 분포 양측 p-value
+     */
+    public static double twoSidedP(double t, double df) {
+        if (df <= 0) return 1.0;
+        double x = df / (df + t * t);
+        return Math.min(1.0, regularizedIncompleteBeta(x, df / 2.0, 0.5));
+    }
+
+    /**
+     * Student t 분포 분위수 (이분법, 예: 95% 양측 신뢰구간은 tQuantile(0.975, df))
+     */
+    public static double tQuantile(double probability, double df) {
+        if (df <= 0) return Double.NaN;
+        double lo = 0.0;
+        double hi = 1000.0;
+        double targetTail = 2 * (1 - probability);  // 양측 p-value 기준
+        for (int i = 0; i < 200; i++) {
+            double mid = (lo + hi) / 2;
+            if (twoSidedP(mid, df) > targetTail) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        return (lo + hi) / 2;
+    }
+
+    public static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) sum += value;
+        return values.length > 0 ? sum / values.length : 0.0;
+    }
+
+    /**
+     * 표본 표준편차 (n - 1)
+     */
+    public static double stdDev(double[] values) {
+        if (values.length < 2) return 0.0;
+        double mean = mean(values);
+        double sum = 0;
+        for (double value : values) sum += (value - mean) * (value - mean);
+        return Math.sqrt(sum / (values.length - 1));
+    }
+
+    /**
+     * 선형 최소제곱 y ≈ X·β (정규방정식 + 부분 피벗 가우스 소거)
+     * 특이 판정은 정규방정식 행렬의 최대 대각 원소에 비례하는 상대 허용오차 사용 (설명변수 단위와 무관)
+     *
+     * @param design 행마다 설명변수 값 (상수항이 필요하면 1.0 열 포함)
+     * @return 계수 β, 특이 행렬이면 null
+     */
+    public static double[] leastSquares(double[][] design, double[] y) {
+        int p = design[0].length;
+        double[][] a = new double[p][p + 1];
+        for (int row = 0; row < design.length; row++) {
+            for (int i = 0; i < p; i++) {
+                for (int j = 0; j < p; j++) {
+                    a[i][j] += design[row][i] * design[row][j];
+                }
+                a[i][p] += design[row][i] * y[row];
+            }
+        }
+        double scale = 0;
+        for (int i = 0; i < p; i++) {
+            scale = Math.max(scale, Math.abs(a[i][i]));
+        }
+        double tolerance = scale * EPSILON;
+        for (int col = 0; col < p; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < p; row++) {
+                if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) pivot = row;
+            }
+            if (Math.abs(a[pivot][col]) <= tolerance) return null;
+            double[] tmp = a[col];
+            a[col] = a[pivot];
+            a[pivot] = tmp;
+            for (int row = 0; row < p; row++) {
+                if (row == col) continue;
+                double factor = a[row][col] / a[col][col];
+                for (int k = col; k <= p; k++) {
+                    a[row][k] -= factor * a[col][k];
+                }
+            }
+        }
+        double[] beta = new double[p];
+        for (int i = 0; i < p; i++) {
+            beta[i] = a[i][p] / a[i][i];
+        }
+        return beta;
+    }
+
+    /**
+     * 정규화 불완전 베타 함수 I_x(a, b) (연분수 전개)
+     */
+    static double regularizedIncompleteBeta(double x, double a, double b) {
+        if (x <= 0) return 0.0;
+        if (x >= 1) return 1.0;
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b)
+                + a * Math.log(x) + b * Math.log(1 - x));
+        if (x < (a + 1) / (a + b + 2)) {
+            return front * betaContinuedFraction(x, a, b) / a;
+        }
+        return 1.0 - front * betaContinuedFraction(1 - x, b, a) / b;
+    }
+
+    private static double betaContinuedFraction(double x, double a, double b) {
+        double qab = a + b;
+        double qap = a + 1;
+        double qam = a - 1;
+        double c = 1.0;
+        double d = 1.0 - qab * x / qap;
+        if (Math.abs(d) < 1e-300) d = 1e-300;
+        d = 1.0 / d;
+        double h = d;
+        for (int m = 1; m <= MAX_ITERATIONS; m++) {
+            int m2 = 2 * m;
+            double aa = m * (b - m) * x / ((qam + m2) * (a + m2));
+            d = 1.0 + aa * d;
+            if (Math.abs(d) < 1e-300) d = 1e-300;
+            c = 1.0 + aa / c;
+            if (Math.abs(c) < 1e-300) c = 1e-300;
+            d = 1.0 / d;
+            h *= d * c;
+            aa = -(a + m) * (qab + m) * x / ((a + m2) * (qap + m2));
+            d = 1.0 + aa * d;
+            if (Math.abs(d) < 1e-300) d = 1e-300;
+            c = 1.0 + aa / c;
+            if (Math.abs(c) < 1e-300) c = 1e-300;
+            d = 1.0 / d;
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1.0) < EPSILON) break;
+        }
+        return h;
+    }
+
+    /**
+     * log Γ(x) (Lanczos 근사)
+     */
+    static double logGamma(double x) {
+        double[] coefficients = {
+            76.18009172947146, -86.50532032941677, 24.01409824083091,
+            -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5
+        };
+        double y = x;
+        double tmp = x + 5.5;
+        tmp -= (x + 0.5) * Math.log(tmp);
+        double series = 1.000000000190015;
+        for (double coefficient : coefficients) {
+            series += coefficient / ++y;
+        }
+        return -tmp + Math.log(2.5066282746310005 * series / x);
+    }
+}
@@ -0,0 +1,200 @@
+package com.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * 적응형 워밍업 - 처리량/레이턴시가 정상 상태에 들어서면 워밍업 종료
+ *
+ * 1초마다 구간 TPS와 평균 레이턴시를 샘플링하고, 최근 windowSeconds개 샘플의 변동계수(CV = 표준편차/평균)가
+ * 둘 다 임계값 이하가 되면 그 시각을 워밍업 종료로 확정한다. 캡(--warmup) 시각까지 정상 상태에 도달하지 못하면
+ * 캡에서 워밍업을 끝낸다. 트랜잭션이 없는 구간이 있으면 창을 비우고 다시 채운다 (접속 실패, 데이터 대기 등).
+ */
+public class SteadyStateDetector extends Thread {
+    private static final Logger logger = LoggerFactory.getLogger(SteadyStateDetector.class);
+    private static final long SAMPLE_INTERVAL_MS = 1000;
+
+    private final PerformanceCounter perfCounter;
+    private final long startMs;
+    private final long capEndMs;
+    private final int windowSeconds;
+    private final double cvThreshold;
+    private final LongConsumer onWarmupEnd;
+
+    // 감지 스레드 전용 (최근 샘플 링 버퍼)
+    private final double[] tpsWindow;
+    private final double[] latencyWindow;
+    private int windowIndex = 0;
+    private int windowCount = 0;
+    private long lastSampleMs;
+    private long lastTransactions;
+    private double lastLatencySumMs;
+
+    // 결과
+    private volatile boolean finished = false;
+    private volatile boolean steadyStateReached = false;
+    private volatile long warmupEndMs = 0;
+    private volatile double tpsCv = Double.NaN;
+    private volatile double latencyCv = Double.NaN;
+    private volatile boolean running = true;
+
+    /**
+     * @param capSeconds   워밍업 최대 시간 (정상 상태 미도달 시 종료 시각)
+     * @param onWarmupEnd  워밍업 종료 시각(ms)을 받는 콜백 - 측정 종료 시각 재계산용
+     */
+    public SteadyStateDetector(PerformanceCounter perfCounter, int capSeconds, int windowSeconds,
+                               double cvThreshold, LongConsumer onWarmupEnd) {
+        super("SteadyStateDetector");
+        setDaemon(true);
+        this.perfCounter = perfCounter;
+        this.startMs = System.currentTimeMillis();
+        this.capEndMs = startMs + capSeconds * 1000L;
+        this.windowSeconds = Math.max(2, windowSeconds);
+        this.cvThreshold = cvThreshold;
+        this.onWarmupEnd = onWarmupEnd;
+        this.tpsWindow = new double[this.windowSeconds];
+        this.latencyWindow = new double[this.windowSeconds];
+        this.lastSampleMs = startMs;
+        this.lastTransactions = perfCounter.getTotalTransactions();
+        this.lastLatencySumMs = perfCounter.getTotalLatencyMs();
+    }
+
+    @Override
+    public void run() {
+        logger.info("[Warmup] Adaptive warmup started (window: {}s, CV threshold: {}, cap: {}s)",
+                windowSeconds, cvThreshold, (capEndMs - startMs) / 1000);
+
+        while (running && !finished) {
+            try {
+                Thread.sleep(SAMPLE_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            sample(System.currentTimeMillis());
+        }
+    }
+
+    private void sample(long now) {
+        long transactions = perfCounter.getTotalTransactions();
+        double latencySumMs = perfCounter.getTotalLatencyMs();
+        long intervalTransactions = transactions - lastTransactions;
+        double intervalSec = (now - lastSampleMs) / 1000.0;
+        double intervalLatencyMs = latencySumMs - lastLatencySumMs;
+        lastSampleMs = now;
+        lastTransactions = transactions;
+        lastLatencySumMs = latencySumMs;
+
+        if (intervalTransactions > 0 && intervalSec > 0) {
+            tpsWindow[windowIndex] = intervalTransactions / intervalSec;
+            latencyWindow[windowIndex] = intervalLatencyMs / intervalTransactions;
+            windowIndex = (windowIndex + 1) % windowSeconds;
+            windowCount = Math.min(windowCount + 1, windowSeconds);
+        } else {
+            windowIndex = 0;
+            windowCount = 0;
+        }
+
+        if (windowCount == windowSeconds) {
+            double currentTpsCv = coefficientOfVariation(tpsWindow);
+            double currentLatencyCv = coefficientOfVariation(latencyWindow);
+            tpsCv = currentTpsCv;
+            latencyCv = currentLatencyCv;
+            if (currentTpsCv <= cvThreshold && currentLatencyCv <= cvThreshold) {
+                finish(now, true);
+                return;
+            }
+        }
+        if (now >= capEndMs) {
+            finish(capEndMs, false);
+        }
+    }
+
+    private void finish(long endMs, boolean steady) {
+        warmupEndMs = endMs;
+        steadyStateReached = steady;
+        finished = true;
+        perfCounter.setWarmupEndTime(endMs);
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("warmupSeconds", round((endMs - startMs) / 1000.0));
+        details.put("steadyState", steady);
+        details.put("tpsCv", cvValue(tpsCv));
+        details.put("latencyCv", cvValue(latencyCv));
+        perfCounter.recordEvent("WARMUP", details);
+
+        if (steady) {
+            logger.info("[Warmup] Steady state after {}s (TPS CV {}, latency CV {} <= {}) - warmup ended",
+                    round((endMs - startMs) / 1000.0), cvText(tpsCv), cvText(latencyCv), cvThreshold);
+        } else {
+            logger.info("[Warmup] No steady state within {}s cap (TPS CV {}, latency CV {}) - warmup ended at cap",
+                    (capEndMs - startMs) / 1000, cvText(tpsCv), cvText(latencyCv));
+        }
+        onWarmupEnd.accept(endMs);
+    }
+
+    private static double coefficientOfVariation(double[] values) {
+        double mean = Statistics.mean(values);
+        return mean > 0 ? Statistics.stdDev(values) / mean : Double.POSITIVE_INFINITY;
+    }
+
+    public void stopDetector() {
+        running = false;
+        interrupt();
+        try {
+            join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isSteadyStateReached() {
+        return steadyStateReached;
+    }
+
+    /**
+     * 확정된 워밍업 길이 (초, 종료 전 중단 시 -1)
+     */
+    public double getWarmupSeconds() {
+        return finished ? round((warmupEndMs - startMs) / 1000.0) : -1;
+    }
+
+    public Map<String, Object> getSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("mode", "adaptive");
+        summary.put("capSeconds", (capEndMs - startMs) / 1000);
+        summary.put("windowSeconds", windowSeconds);
+        summary.put("cvThreshold", cvThreshold);
+        summary.put("steadyStateReached", steadyStateReached);
+        summary.put("detectedWarmupSeconds", getWarmupSeconds());
+        summary.put("tpsCv", cvValue(tpsCv));
+        summary.put("latencyCv", cvValue(latencyCv));
+        return summary;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    private static double round4(double value) {
+        return Math.round(value * 10000.0) / 10000.0;
+    }
+
+    /**
+     * 출력용 CV (창이 채워지기 전이면 n/a)
+     */
+    static String cvText(double cv) {
+        return Double.isFinite(cv) && cv >= 0 ? String.valueOf(round4(cv)) : "n/a";
+    }
+
+    /**
+     * 결과 기록용 CV (창이 채워지지 않았거나 평균 0이면 -1, JSON은 NaN/무한대를 표현할 수 없음)
+     */
+    private static double cvValue(double cv) {
+        return Double.isFinite(cv) ? round4(cv) : -1.0;
+    }
+}
@@ -1,6 +1,7 @@
 package com.loadtest;
 
 import java.sql.*;
+import java.util.Map;
 
 /**
  * Tibero JDBC 어댑터 (HikariCP 기반)
@@ -24,6 +25,15 @@ public class TiberoAdapter extends AbstractDatabaseAdapter {
         return "com.tmax.tibero.jdbc.TbDriver";
     }
 
+    /**
+     * Tibero 드라이버는 공개된 성능 속성 문서가 부족하여 tuned 프로필이 비어 있음
+     * (필요 시 --driver-profile에 .properties 파일 지정)
+     */
+    @Override
+    protected Map<String, String> getTunedDriverProperties() {
+        return Map.of();
+    }
+
     @Override
     protected String getValidationQuery() {
         return "SELECT 1 FROM DUAL";
@@ -79,6 +89,7 @@ public class TiberoAdapter extends AbstractDatabaseAdapter {
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setLong(1, recordId);
             try (ResultSet rs = ps.executeQuery()) {
+                PhaseTimer.markFetchStart();
                 if (rs.next()) {
                     return new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3)};
                 }
@@ -94,10 +105,10 @@ public class TiberoAdapter extends AbstractDatabaseAdapter {
     }
 
     @Override
-    public boolean executeUpdate(Connection conn, long recordId) throws SQLException {
+    public boolean executeUpdate(Connection conn, long recordId, String value) throws SQLException {
         String sql = "UPDATE LOAD_TEST SET VALUE_COL = ?, UPDATED_AT = SYSTIMESTAMP WHERE ID = ?";
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, "UPDATED_" + recordId);
+            ps.setString(1, value);
             ps.setLong(2, recordId);
             return ps.executeUpdate() > 0;
         }
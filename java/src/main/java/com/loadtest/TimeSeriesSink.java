@@ -0,0 +1,141 @@
+package com.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 시계열 행을 생성 즉시 append-only CSV 파일에 기록 (장시간 soak 테스트용)
+ *
+ * 첫 행을 기록할 때의 저장소 열 순서({@link TimeSeriesStore#getColumns()})로 열 구성을 고정하므로 결과 파일의 시계열과 열 순서가 같다.
+ * 이후 행에 없는 열은 빈 값, 스키마에 없는 새 키는 버리되 처음 나타날 때와 종료 시 버린 열 이름을 로그로 남긴다
+ * (해당 값은 메모리 저장소와 결과 내보내기에는 남는다).
+ * 행마다 OS로 flush하므로 프로세스가 죽어도 기록된 행은 남고, fsync는 fsyncIntervalSeconds마다 (0 = 매 행) 수행한다.
+ */
+public class TimeSeriesSink implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(TimeSeriesSink.class);
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Writer writer;
+    private final long fsyncIntervalMs;
+
+    private List<String> columns;
+    private Set<String> columnSet;
+    private long rowCount = 0;
+    private final Set<String> droppedColumns = new LinkedHashSet<>();
+    private long lastSyncMs;
+    private boolean failed = false;
+    private boolean closed = false;
+
+    private TimeSeriesSink(Path path, FileChannel channel, int fsyncIntervalSeconds) {
+        this.path = path;
+        this.channel = channel;
+        this.writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+        this.fsyncIntervalMs = fsyncIntervalSeconds * 1000L;
+        this.lastSyncMs = System.currentTimeMillis();
+    }
+
+    /**
+     * 시계열 파일 생성 (기존 파일은 덮어씀)
+     */
+    public static TimeSeriesSink open(Path path, int fsyncIntervalSeconds) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        logger.info("[TimeSeries] Streaming time series to {} (fsync every {})", path.toAbsolutePath(),
+                fsyncIntervalSeconds > 0 ? fsyncIntervalSeconds + "s" : "row");
+        return new TimeSeriesSink(path, channel, fsyncIntervalSeconds);
+    }
+
+    /**
+     * 시계열 행 기록 (모니터 스레드에서 호출) - storeColumns는 이 행을 추가한 직후의 저장소 열 순서
+     */
+    public synchronized void append(Map<String, Object> row, List<String> storeColumns) {
+        if (closed || failed) return;
+        try {
+            if (columns == null) {
+                columns = new ArrayList<>(storeColumns);
+                columnSet = new HashSet<>(columns);
+                writer.write(String.join(",", columns));
+                writer.write('\n');
+            }
+            StringBuilder sb = new StringBuilder(256);
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) sb.append(',');
+                Object value = row.get(columns.get(i));
+                if (value != null) sb.append(ResultExporter.escapeCsv(value.toString()));
+            }
+            sb.append('\n');
+            writer.write(sb.toString());
+            writer.flush();
+            rowCount++;
+
+            if (!columnSet.containsAll(row.keySet())) {
+                List<String> dropped = new ArrayList<>();
+                for (String key : row.keySet()) {
+                    if (!columnSet.contains(key) && droppedColumns.add(key)) dropped.add(key);
+                }
+                if (!dropped.isEmpty()) {
+                    logger.info("[TimeSeries] Columns not in the schema fixed by the first row are dropped from {}: {}",
+                            path, dropped);
+                }
+            }
+
+            long now = System.currentTimeMillis();
+            if (now - lastSyncMs >= fsyncIntervalMs) {
+                channel.force(false);
+                lastSyncMs = now;
+            }
+        } catch (IOException e) {
+            failed = true;
+            logger.error("[TimeSeries] Write to {} failed, streaming disabled: {}", path, e.getMessage());
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public synchronized long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 기록 종료 및 디스크 반영 - 모니터 종료 후 호출
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            writer.flush();
+            channel.force(true);
+            writer.close();
+        } catch (IOException e) {
+            logger.error("[TimeSeries] Failed to close {}: {}", path, e.getMessage());
+        }
+        if (!droppedColumns.isEmpty()) {
+            logger.info("[TimeSeries] {} columns were not streamed (kept in the exported results): {}",
+                    droppedColumns.size(), droppedColumns);
+        }
+        logger.info("[TimeSeries] Closed: {} rows written to {}", String.format("%,d", rowCount), path.toAbsolutePath());
+    }
+}
@@ -0,0 +1,395 @@
+package com.loadtest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 시계열 컬럼형 저장소 - 지표마다 원시 타입 배열(double/String)로 보관하고 상위 해상도로 자동 롤업 (스레드 안전)
+ *
+ * 해상도: 모니터 주기 원본(raw, 기본 1초) → 10초 → 1분. 해상도마다 링 버퍼 용량이 정해져 있어 메모리는 실행 시간과 무관하다
+ * (raw 1시간, 10초 24시간, 1분 7일분 @ 기본 주기).
+ * 롤업 규칙: 누적 값(total*, avgTps)과 문자열(노드 상태 등)은 구간 마지막 값, 최대/상위 백분위(Max, P99, P999)는 구간 최대값,
+ * 나머지는 구간 평균. 구간 경계는 실행 시작 시각 기준이다. 워밍업 여부는 구간 내 하나라도 워밍업이면 true, 이벤트는 구간 내 유형 합집합.
+ *
+ * 열은 행에 새 키가 나타날 때 추가되며, 그 이전 행의 값은 비어 있다 (숫자 NaN, 내보낼 때 빈 값).
+ */
+public class TimeSeriesStore {
+
+    /**
+     * 저장 해상도
+     */
+    public enum Resolution {
+        RAW("raw", 0, 3600),
+        TEN_SECONDS("10s", 10_000, 8640),
+        ONE_MINUTE("1m", 60_000, 10080);
+
+        private final String value;
+        private final long bucketMs;
+        private final int capacity;
+
+        Resolution(String value, long bucketMs, int capacity) {
+            this.value = value;
+            this.bucketMs = bucketMs;
+            this.capacity = capacity;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public long getBucketMs() {
+            return bucketMs;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+    }
+
+    private enum Rollup {
+        LAST, MEAN, MAX
+    }
+
+    // 고정 열 (행마다 항상 존재)
+    private static final List<String> FIXED_COLUMNS = List.of("timestamp", "elapsedSeconds", "isWarmup", "events");
+    private static final Set<String> LAST_VALUE_COLUMNS = Set.of("avgTps");
+    private static final int INITIAL_ROWS = 64;
+
+    private final long startMs;
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> indexByName = new HashMap<>();
+    private boolean[] text = new boolean[0];
+    private boolean[] integral = new boolean[0];
+    private Rollup[] rollups = new Rollup[0];
+
+    private final Tier[] tiers;
+
+    public TimeSeriesStore(long startMs) {
+        this.startMs = startMs;
+        Resolution[] resolutions = Resolution.values();
+        this.tiers = new Tier[resolutions.length];
+        for (int i = 0; i < resolutions.length; i++) {
+            tiers[i] = new Tier(resolutions[i]);
+        }
+    }
+
+    /**
+     * 시계열 행 추가 (모니터 주기마다) - 숫자 값은 double, 그 외 값은 문자열 열로 저장
+     */
+    public synchronized void append(long timeMs, boolean warmup, String events, Map<String, Object> values) {
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) continue;
+            int column = columnFor(entry.getKey(), !(value instanceof Number));
+            if (value instanceof Double || value instanceof Float) {
+                integral[column] = false;
+            }
+        }
+
+        int columns = names.size();
+        double[] numbers = new double[columns];
+        String[] texts = new String[columns];
+        Arrays.fill(numbers, Double.NaN);
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) continue;
+            int column = indexByName.get(entry.getKey());
+            if (text[column]) {
+                texts[column] = value.toString();
+            } else if (value instanceof Number number) {
+                numbers[column] = number.doubleValue();
+            }
+        }
+
+        String eventText = events != null && !events.isEmpty() ? events : null;
+        tiers[0].add(timeMs, warmup, eventText, numbers, texts);
+        for (int i = 1; i < tiers.length; i++) {
+            tiers[i].accumulate(timeMs, warmup, eventText, numbers, texts);
+        }
+    }
+
+    private int columnFor(String name, boolean isText) {
+        Integer index = indexByName.get(name);
+        if (index != null) {
+            return index;
+        }
+        int column = names.size();
+        names.add(name);
+        indexByName.put(name, column);
+        text = Arrays.copyOf(text, column + 1);
+        integral = Arrays.copyOf(integral, column + 1);
+        rollups = Arrays.copyOf(rollups, column + 1);
+        text[column] = isText;
+        integral[column] = !isText;
+        rollups[column] = rollupOf(name, isText);
+        for (Tier tier : tiers) {
+            tier.addColumn();
+        }
+        return column;
+    }
+
+    private static Rollup rollupOf(String name, boolean isText) {
+        if (isText || name.startsWith("total") || LAST_VALUE_COLUMNS.contains(name)) {
+            return Rollup.LAST;
+        }
+        String lower = name.toLowerCase();
+        if (lower.endsWith("max") || lower.endsWith("p99") || lower.endsWith("p999")) {
+            return Rollup.MAX;
+        }
+        return Rollup.MEAN;
+    }
+
+    /**
+     * 진행 중인 롤업 구간을 행으로 확정 (실행 종료 후 내보내기 전 호출)
+     */
+    public synchronized void flush() {
+        for (int i = 1; i < tiers.length; i++) {
+            tiers[i].emit();
+        }
+    }
+
+    /**
+     * 열 이름 (고정 열 + 지표 열, 추가된 순서)
+     */
+    public synchronized List<String> getColumns() {
+        List<String> columns = new ArrayList<>(FIXED_COLUMNS);
+        columns.addAll(names);
+        return columns;
+    }
+
+    /**
+     * 해당 해상도에 보관 중인 행 수
+     */
+    public synchronized int size(Resolution resolution) {
+        return tiers[resolution.ordinal()].size;
+    }
+
+    /**
+     * 해당 해상도에 지금까지 추가된 전체 행 수 (링 버퍼에서 밀려난 행 포함)
+     */
+    public synchronized long getTotalRows(Resolution resolution) {
+        return tiers[resolution.ordinal()].totalRows;
+    }
+
+    /**
+     * 실행 전체를 담고 있는 가장 세밀한 해상도 (모두 밀려났으면 가장 거친 해상도)
+     */
+    public synchronized Resolution getExportResolution() {
+        for (Tier tier : tiers) {
+            if (tier.totalRows <= tier.resolution.capacity) {
+                return tier.resolution;
+            }
+        }
+        return tiers[tiers.length - 1].resolution;
+    }
+
+    /**
+     * 가장 최근 행 (없으면 null)
+     */
+    public synchronized Map<String, Object> latestRow(Resolution resolution) {
+        Tier tier = tiers[resolution.ordinal()];
+        return tier.size > 0 ? tier.row(tier.size - 1) : null;
+    }
+
+    /**
+     * 오래된 행부터 순서대로 전달 - 행 Map은 호출마다 새로 만들어지며 보관하지 않는다
+     */
+    public synchronized void forEachRow(Resolution resolution, Consumer<Map<String, Object>> consumer) {
+        Tier tier = tiers[resolution.ordinal()];
+        for (int i = 0; i < tier.size; i++) {
+            consumer.accept(tier.row(i));
+        }
+    }
+
+    /**
+     * 행 목록으로 변환 (JSON 내보내기 등)
+     */
+    public synchronized List<Map<String, Object>> toRows(Resolution resolution) {
+        List<Map<String, Object>> rows = new ArrayList<>(tiers[resolution.ordinal()].size);
+        forEachRow(resolution, rows::add);
+        return rows;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * 해상도 하나의 링 버퍼 (용량까지는 2배씩 증가, 이후 가장 오래된 행을 덮어씀)
+     */
+    private final class Tier {
+        private final Resolution resolution;
+        private long[] times = new long[INITIAL_ROWS];
+        private boolean[] warmups = new boolean[INITIAL_ROWS];
+        private String[] events = new String[INITIAL_ROWS];
+        private double[][] numbers = new double[0][];
+        private String[][] texts = new String[0][];
+        private int start = 0;
+        private int size = 0;
+        private long totalRows = 0;
+
+        // 롤업 진행 구간 (raw 제외)
+        private long bucketStartMs = -1;
+        private int bucketRows;
+        private boolean bucketWarmup;
+        private final Set<String> bucketEvents = new LinkedHashSet<>();
+        private double[] sums = new double[0];
+        private int[] counts = new int[0];
+        private double[] lasts = new double[0];
+        private double[] maxes = new double[0];
+        private String[] lastTexts = new String[0];
+
+        Tier(Resolution resolution) {
+            this.resolution = resolution;
+        }
+
+        void addColumn() {
+            int column = numbers.length;
+            numbers = Arrays.copyOf(numbers, column + 1);
+            texts = Arrays.copyOf(texts, column + 1);
+            if (text[column]) {
+                texts[column] = new String[times.length];
+            } else {
+                numbers[column] = new double[times.length];
+                Arrays.fill(numbers[column], Double.NaN);
+            }
+            sums = Arrays.copyOf(sums, column + 1);
+            counts = Arrays.copyOf(counts, column + 1);
+            lasts = Arrays.copyOf(lasts, column + 1);
+            maxes = Arrays.copyOf(maxes, column + 1);
+            lastTexts = Arrays.copyOf(lastTexts, column + 1);
+            lasts[column] = Double.NaN;
+            maxes[column] = Double.NaN;
+        }
+
+        void add(long timeMs, boolean warmup, String event, double[] rowNumbers, String[] rowTexts) {
+            int slot;
+            if (size < resolution.capacity) {
+                if (size == times.length) {
+                    grow(Math.min(times.length * 2, resolution.capacity));
+                }
+                slot = size++;
+            } else {
+                slot = start;
+                start = (start + 1) % times.length;
+            }
+            times[slot] = timeMs;
+            warmups[slot] = warmup;
+            events[slot] = event;
+            for (int c = 0; c < numbers.length; c++) {
+                if (text[c]) {
+                    texts[c][slot] = c < rowTexts.length ? rowTexts[c] : null;
+                } else {
+                    numbers[c][slot] = c < rowNumbers.length ? rowNumbers[c] : Double.NaN;
+                }
+            }
+            totalRows++;
+        }
+
+        private void grow(int length) {
+            times = Arrays.copyOf(times, length);
+            warmups = Arrays.copyOf(warmups, length);
+            events = Arrays.copyOf(events, length);
+            for (int c = 0; c < numbers.length; c++) {
+                if (text[c]) {
+                    texts[c] = Arrays.copyOf(texts[c], length);
+                } else {
+                    int old = numbers[c].length;
+                    numbers[c] = Arrays.copyOf(numbers[c], length);
+                    Arrays.fill(numbers[c], old, length, Double.NaN);
+                }
+            }
+        }
+
+        void accumulate(long timeMs, boolean warmup, String event, double[] rowNumbers, String[] rowTexts) {
+            // 구간 경계는 실행 시작 기준 (epoch 기준이면 첫 구간이 시작 이전이 되어 elapsedSeconds가 음수)
+            long bucket = timeMs - Math.floorMod(timeMs - startMs, resolution.bucketMs);
+            if (bucketStartMs >= 0 && bucket != bucketStartMs) {
+                emit();
+            }
+            bucketStartMs = bucket;
+            bucketRows++;
+            bucketWarmup |= warmup;
+            if (event != null) {
+                bucketEvents.addAll(Arrays.asList(event.split(";")));
+            }
+            for (int c = 0; c < rowNumbers.length; c++) {
+                if (text[c]) {
+                    if (rowTexts[c] != null) lastTexts[c] = rowTexts[c];
+                    continue;
+                }
+                double value = rowNumbers[c];
+                if (Double.isNaN(value)) continue;
+                sums[c] += value;
+                counts[c]++;
+                lasts[c] = value;
+                maxes[c] = Double.isNaN(maxes[c]) ? value : Math.max(maxes[c], value);
+            }
+        }
+
+        void emit() {
+            if (bucketRows == 0) return;
+            int columns = numbers.length;
+            double[] rowNumbers = new double[columns];
+            String[] rowTexts = new String[columns];
+            for (int c = 0; c < columns; c++) {
+                if (text[c]) {
+                    rowTexts[c] = lastTexts[c];
+                    continue;
+                }
+                rowNumbers[c] = switch (rollups[c]) {
+                    case LAST -> lasts[c];
+                    case MAX -> maxes[c];
+                    case MEAN -> counts[c] > 0 ? sums[c] / counts[c] : Double.NaN;
+                };
+            }
+            add(bucketStartMs, bucketWarmup,
+                    bucketEvents.isEmpty() ? null : String.join(";", bucketEvents), rowNumbers, rowTexts);
+
+            bucketRows = 0;
+            bucketWarmup = false;
+            bucketEvents.clear();
+            Arrays.fill(sums, 0);
+            Arrays.fill(counts, 0);
+            Arrays.fill(lasts, Double.NaN);
+            Arrays.fill(maxes, Double.NaN);
+            Arrays.fill(lastTexts, null);
+        }
+
+        /**
+         * 논리 위치(0 = 가장 오래된 행)의 행 - 내보내기 형식 (정수 지표는 long, 롤업 평균은 소수 둘째 자리)
+         */
+        Map<String, Object> row(int index) {
+            int slot = (start + index) % times.length;
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("timestamp", Instant.ofEpochMilli(times[slot]).toString());
+            row.put("elapsedSeconds", round((times[slot] - startMs) / 1000.0));
+            row.put("isWarmup", warmups[slot]);
+            row.put("events", events[slot] != null ? events[slot] : "");
+            for (int c = 0; c < numbers.length; c++) {
+                String name = names.get(c);
+                if (text[c]) {
+                    row.put(name, texts[c][slot]);
+                    continue;
+                }
+                double value = numbers[c][slot];
+                if (Double.isNaN(value)) {
+                    row.put(name, null);
+                } else if (integral[c] && (resolution == Resolution.RAW || rollups[c] != Rollup.MEAN)) {
+                    row.put(name, (long) value);
+                } else {
+                    row.put(name, resolution == Resolution.RAW ? value : round(value));
+                }
+            }
+            return row;
+        }
+    }
+}
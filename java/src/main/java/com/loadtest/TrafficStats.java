@@ -0,0 +1,163 @@
+package com.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 트래픽 통계 - 노드/역할 단위 처리량, 레이턴시, 에러 집계 (스레드 안전)
+ */
+public class TrafficStats {
+    private static final double EWMA_ALPHA = 0.05;
+    private static final long EWMA_HALF_LIFE_MS = 5000;  // 샘플이 없는 동안 라우팅용 레이턴시가 절반으로 줄어드는 시간
+
+    private final String name;
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final DoubleAdder latencySumMs = new DoubleAdder();
+    private volatile double ewmaLatencyMs = 0;
+    private volatile long lastSampleMs = 0;
+
+    // 레이턴시 히스토그램 (마이크로초, 유효숫자 2자리)
+    private final Recorder recorder = new Recorder(2);
+    private final Histogram cumulative = new Histogram(2);
+    private final Histogram sinceLastSnapshot = new Histogram(2);
+    private Histogram recycled;
+
+    // 구간별 통계 (snapshotInterval 호출 시 갱신)
+    private long lastCheckTime;
+    private long lastTransactions;
+    private long lastErrors;
+    private double lastLatencySumMs;
+
+    public TrafficStats(String name) {
+        this.name = name;
+        this.lastCheckTime = System.currentTimeMillis();
+    }
+
+    public void recordSuccess(double latencyMs) {
+        transactions.increment();
+        latencySumMs.add(latencyMs);
+        recorder.recordValue(Math.max(1, (long) (latencyMs * 1000)));
+        // 경합 시 일부 샘플 유실 허용 (라우팅 힌트 용도)
+        double current = ewmaLatencyMs;
+        ewmaLatencyMs = current == 0 ? latencyMs : current + EWMA_ALPHA * (latencyMs - current);
+        lastSampleMs = System.currentTimeMillis();
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getTransactions() {
+        return transactions.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public double getEwmaLatencyMs() {
+        return ewmaLatencyMs;
+    }
+
+    /**
+     * 라우팅용 레이턴시 - 마지막 샘플 이후 반감기마다 절반으로 감쇠
+     * 한 번 느렸던 노드도 선택되지 않는 동안 점수가 낮아져 결국 다시 선택(재측정)된다
+     */
+    public double getRoutingLatencyMs(long nowMs) {
+        double current = ewmaLatencyMs;
+        long idleMs = nowMs - lastSampleMs;
+        if (current == 0 || idleMs <= 0) {
+            return current;
+        }
+        return current * Math.pow(0.5, (double) idleMs / EWMA_HALF_LIFE_MS);
+    }
+
+    public double getLatencySumMs() {
+        return latencySumMs.sum();
+    }
+
+    public double getAvgLatencyMs() {
+        long count = transactions.sum();
+        return count > 0 ? latencySumMs.sum() / count : 0.0;
+    }
+
+    /**
+     * Recorder에 쌓인 값을 누적/구간 히스토그램으로 이동
+     */
+    private void drain() {
+        recycled = recorder.getIntervalHistogram(recycled);
+        cumulative.add(recycled);
+        sinceLastSnapshot.add(recycled);
+    }
+
+    /**
+     * 직전 호출 이후 구간 통계 (모니터 주기마다 1회 호출)
+     */
+    public synchronized Map<String, Object> snapshotInterval() {
+        drain();
+        long now = System.currentTimeMillis();
+        long currentTransactions = transactions.sum();
+        long currentErrors = errors.sum();
+        double currentLatencySum = latencySumMs.sum();
+
+        double intervalSec = (now - lastCheckTime) / 1000.0;
+        long intervalTransactions = currentTransactions - lastTransactions;
+        long intervalErrors = currentErrors - lastErrors;
+        double intervalLatencySum = currentLatencySum - lastLatencySumMs;
+
+        lastCheckTime = now;
+        lastTransactions = currentTransactions;
+        lastErrors = currentErrors;
+        lastLatencySumMs = currentLatencySum;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("intervalTps", round(intervalSec > 0 ? intervalTransactions / intervalSec : 0));
+        stats.put("intervalLatencyAvg", round(intervalTransactions > 0 ? intervalLatencySum / intervalTransactions : 0));
+        stats.put("intervalLatencyP99", percentileMs(sinceLastSnapshot, 99.0));
+        stats.put("intervalErrors", intervalErrors);
+        sinceLastSnapshot.reset();
+        return stats;
+    }
+
+    public synchronized Map<String, Object> getSummary() {
+        drain();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", name);
+        stats.put("totalTransactions", getTransactions());
+        stats.put("totalErrors", getErrors());
+        stats.put("latencyAvg", round(getAvgLatencyMs()));
+        stats.put("latencyP50", percentileMs(cumulative, 50.0));
+        stats.put("latencyP95", percentileMs(cumulative, 95.0));
+        stats.put("latencyP99", percentileMs(cumulative, 99.0));
+        stats.put("latencyMax", round(cumulative.getMaxValue() / 1000.0));
+        return stats;
+    }
+
+    /**
+     * 누적 레이턴시 표본 수, 평균, 표준편차 (ms, 유의성 검정용)
+     */
+    public synchronized double[] getLatencyMoments() {
+        drain();
+        return new double[]{cumulative.getTotalCount(),
+                cumulative.getMean() / 1000.0, cumulative.getStdDeviation() / 1000.0};
+    }
+
+    private static double percentileMs(Histogram histogram, double percentile) {
+        if (histogram.getTotalCount() == 0) return 0.0;
+        return round(histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
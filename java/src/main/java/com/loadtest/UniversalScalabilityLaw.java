@@ -0,0 +1,165 @@
+package com.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Universal Scalability Law (Gunther) 적합 결과
+ *
+ * X(N) = λN / (1 + σ(N-1) + κN(N-1))
+ *   λ: 동시성 1일 때 처리량, σ: 경합(직렬화) 계수, κ: 일관성(coherency, 교차 동기화) 계수
+ *
+ * N/X = 1/λ + (σ/λ)(N-1) + (κ/λ)N(N-1) 로 선형화하여 최소제곱으로 적합한다.
+ * 음수 계수는 물리적 의미가 없으므로 해당 항을 0으로 고정하고 다시 적합한다.
+ */
+public class UniversalScalabilityLaw {
+    private final double lambda;
+    private final double sigma;
+    private final double kappa;
+    private final double rSquared;
+
+    public UniversalScalabilityLaw(double lambda, double sigma, double kappa, double rSquared) {
+        this.lambda = lambda;
+        this.sigma = sigma;
+        this.kappa = kappa;
+        this.rSquared = rSquared;
+    }
+
+    /**
+     * 동시성별 처리량으로 적합 (서로 다른 동시성 3개 이상 필요)
+     *
+     * @return 적합 결과, 표본이 부족하거나 적합이 불가능하면 null
+     */
+    public static UniversalScalabilityLaw fit(int[] concurrency, double[] throughput) {
+        List<Integer> usable = new ArrayList<>();
+        for (int i = 0; i < concurrency.length; i++) {
+            if (concurrency[i] > 0 && throughput[i] > 0) usable.add(i);
+        }
+        if (usable.stream().map(i -> concurrency[i]).distinct().count() < 3) {
+            return null;
+        }
+
+        boolean withSigma = true;
+        boolean withKappa = true;
+        while (true) {
+            List<Integer> terms = new ArrayList<>();
+            terms.add(0);
+            if (withSigma) terms.add(1);
+            if (withKappa) terms.add(2);
+
+            double[][] design = new double[usable.size()][terms.size()];
+            double[] y = new double[usable.size()];
+            for (int row = 0; row < usable.size(); row++) {
+                int idx = usable.get(row);
+                double n = concurrency[idx];
+                double[] all = {1.0, n - 1, n * (n - 1)};
+                for (int t = 0; t < terms.size(); t++) {
+                    design[row][t] = all[terms.get(t)];
+                }
+                y[row] = n / throughput[idx];
+            }
+
+            double[] beta = Statistics.leastSquares(design, y);
+            if (beta == null || beta[0] <= 0) {
+                return null;
+            }
+            double[] coef = new double[3];
+            for (int t = 0; t < terms.size(); t++) {
+                coef[terms.get(t)] = beta[t];
+            }
+            if (withKappa && coef[2] < 0) {
+                withKappa = false;
+                continue;
+            }
+            if (withSigma && coef[1] < 0) {
+                withSigma = false;
+                continue;
+            }
+
+            double lambda = 1.0 / coef[0];
+            UniversalScalabilityLaw model = new UniversalScalabilityLaw(
+                    lambda, coef[1] * lambda, coef[2] * lambda, 0);
+            return new UniversalScalabilityLaw(model.lambda, model.sigma, model.kappa,
+                    model.rSquared(concurrency, throughput, usable));
+        }
+    }
+
+    private double rSquared(int[] concurrency, double[] throughput, List<Integer> usable) {
+        double mean = usable.stream().mapToDouble(i -> throughput[i]).average().orElse(0);
+        double ssRes = 0;
+        double ssTot = 0;
+        for (int i : usable) {
+            double residual = throughput[i] - predict(concurrency[i]);
+            ssRes += residual * residual;
+            ssTot += (throughput[i] - mean) * (throughput[i] - mean);
+        }
+        return ssTot > 0 ? 1.0 - ssRes / ssTot : 1.0;
+    }
+
+    /**
+     * 동시성 N에서의 예측 처리량
+     */
+    public double predict(double n) {
+        return lambda * n / (1 + sigma * (n - 1) + kappa * n * (n - 1));
+    }
+
+    /**
+     * 처리량이 최대가 되는 동시성 N* = sqrt((1-σ)/κ) (κ = 0이면 포화만 있고 역행 없음 → 무한대)
+     */
+    public double peakConcurrency() {
+        if (kappa <= 0 || sigma >= 1) return Double.POSITIVE_INFINITY;
+        return Math.sqrt((1 - sigma) / kappa);
+    }
+
+    /**
+     * 최대 처리량 (κ = 0이면 점근선 λ/σ, σ도 0이면 무한대)
+     */
+    public double peakThroughput() {
+        double peak = peakConcurrency();
+        if (Double.isInfinite(peak)) {
+            return sigma > 0 ? lambda / sigma : Double.POSITIVE_INFINITY;
+        }
+        return predict(peak);
+    }
+
+    public double getLambda() {
+        return lambda;
+    }
+
+    public double getSigma() {
+        return sigma;
+    }
+
+    public double getKappa() {
+        return kappa;
+    }
+
+    public double getRSquared() {
+        return rSquared;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("lambda", Math.round(lambda * 100.0) / 100.0);
+        map.put("sigma", round6(sigma));
+        map.put("kappa", round6(kappa));
+        map.put("rSquared", Math.round(rSquared * 10000.0) / 10000.0);
+        double peak = peakConcurrency();
+        // JSON은 무한대를 표현할 수 없으므로 문자열로 기록
+        map.put("peakConcurrency", Double.isInfinite(peak) ? "inf" : Math.round(peak * 10.0) / 10.0);
+        double peakTps = peakThroughput();
+        map.put("peakTps", Double.isInfinite(peakTps) ? "inf" : Math.round(peakTps * 100.0) / 100.0);
+        return map;
+    }
+
+    private static double round6(double value) {
+        return Math.round(value * 1_000_000.0) / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("lambda=%.2f sigma=%.6f kappa=%.6f R^2=%.4f", lambda, sigma, kappa, rSquared);
+    }
+}
@@ -9,7 +9,8 @@ public enum WorkMode {
     SELECT_ONLY("select-only"), // SELECT만 (기존 데이터 필요)
     UPDATE_ONLY("update-only"), // UPDATE만 (기존 데이터 필요)
     DELETE_ONLY("delete-only"), // DELETE만 (기존 데이터 필요)
-    MIXED("mixed");             // INSERT/UPDATE/DELETE/SELECT 혼합
+    MIXED("mixed"),             // INSERT/UPDATE/DELETE/SELECT 혼합
+    CONNECT_STORM("connect-storm"); // 물리 접속 -> 인증 -> 단일 구문 -> 종료 반복 (풀 미사용)
 
     private final String value;
 